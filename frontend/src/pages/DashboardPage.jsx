@@ -3,6 +3,26 @@ import ApiService from '../service/ApiService';
 import Layout from '../components/Layout';
 import { formatCurrency } from '../utils/currency';
 
+// Runs fn at most once per waitMs: the first call runs at once, later ones are folded into one
+// trailing run, so calls arriving faster than waitMs cannot postpone it indefinitely
+const throttle = (fn, waitMs) => {
+  let lastRun = 0;
+  let timer = null;
+  const run = () => {
+    timer = null;
+    lastRun = Date.now();
+    fn();
+  };
+  const throttled = () => {
+    if (timer) return;
+    const remaining = waitMs - (Date.now() - lastRun);
+    if (remaining <= 0) run();
+    else timer = setTimeout(run, remaining);
+  };
+  throttled.cancel = () => clearTimeout(timer);
+  return throttled;
+};
+
 const DashboardPage = () => {
   const [dashboardData, setDashboardData] = useState(null);
   const [alerts, setAlerts] = useState([]);
@@ -14,6 +34,71 @@ const DashboardPage = () => {
     fetchDashboardData();
   }, []);
 
+  // Apply the server push deltas in place. Only what a delta cannot carry (the stock value needs
+  // prices, a new alert needs the product name) is reloaded, throttled so that a steady stream of
+  // sales still reloads at most once per interval instead of postponing it forever.
+  useEffect(() => {
+    const reloadOverview = throttle(() => refreshOverview(), 5000);
+    const reloadAlerts = throttle(() => refreshAlerts(), 5000);
+
+    const unsubscribe = ApiService.subscribeToDashboardStream((eventName, data) => {
+      switch (eventName) {
+        case 'stock':
+          if (data.previousQuantity == null || data.newQuantity == null) {
+            const change = data.previousQuantity == null ? 1 : -1;
+            setDashboardData(current => current && { ...current, totalProducts: (current.totalProducts || 0) + change });
+          }
+          setAlerts(current => Array.isArray(current)
+            ? current
+                .filter(alert => alert.id !== data.productId || data.newQuantity != null)
+                .map(alert => alert.id === data.productId ? { ...alert, stock: data.newQuantity } : alert)
+            : current);
+          reloadOverview();
+          break;
+        case 'stock-threshold':
+          if (data.level === 'OK') {
+            setAlerts(current => Array.isArray(current) ? current.filter(alert => alert.id !== data.productId) : current);
+          } else {
+            reloadAlerts();
+          }
+          break;
+        case 'resync':
+          refreshOverview();
+          refreshAlerts();
+          break;
+        default:
+          break;
+      }
+    });
+    return () => {
+      reloadOverview.cancel();
+      reloadAlerts.cancel();
+      unsubscribe();
+    };
+  }, []);
+
+  const refreshOverview = async () => {
+    try {
+      const overviewResponse = await ApiService.getDashboardOverview();
+      if (overviewResponse.status === 200) {
+        setDashboardData(overviewResponse.data);
+      }
+    } catch (error) {
+      console.error('Error refreshing dashboard overview:', error);
+    }
+  };
+
+  const refreshAlerts = async () => {
+    try {
+      const alertsResponse = await ApiService.getInventoryAlerts();
+      if (alertsResponse.status === 200) {
+        setAlerts(alertsResponse.data || []);
+      }
+    } catch (error) {
+      console.error('Error refreshing inventory alerts:', error);
+    }
+  };
+
   const fetchDashboardData = async () => {
     try {
       setIsLoading(true);
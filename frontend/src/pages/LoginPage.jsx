@@ -59,6 +59,7 @@ const LoginPage = () => {
 
       if (response.status === 200) {
         ApiService.saveToken(response.token);
+        ApiService.saveRefreshToken(response.refreshToken);
         ApiService.saveRole(response.role);
         showMessage("Login successful! Redirecting...");
         setTimeout(() => {
@@ -47,6 +47,7 @@ const ProductFormPage = () => {
           sku: product.sku || '',
           price: product.price || '',
           stockQuantity: product.stockQuantity || '',
+          loadedStockQuantity: product.stockQuantity ?? null,
           description: product.description || '',
           categoryId: product.categoryId || '',
           suppliersId: product.suppliersId || '',
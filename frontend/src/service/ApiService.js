@@ -4,6 +4,8 @@ import cryptoJs from 'crypto-js'
 export default class ApiService {
     static BASE_URL = 'http://localhost:5050'
     static ENCRYPTION_KEY = "inventorymgmtsys"
+    // The refresh in flight, shared by every request that got a 401 meanwhile
+    static refreshing = null
 
     // Encryption of data
     static encryptData(data) {
@@ -29,6 +31,18 @@ export default class ApiService {
         return this.decryptData(encryptedToken)
     }
 
+    // Save refresh token with encryption
+    static saveRefreshToken(refreshToken) {
+        localStorage.setItem('refreshToken', this.encryptData(refreshToken))
+    }
+
+    // Retrieve refresh token
+    static getRefreshToken() {
+        const encryptedToken = localStorage.getItem('refreshToken')
+        if (!encryptedToken) return null;
+        return this.decryptData(encryptedToken)
+    }
+
     // Save Role
     static saveRole(role) {
         const encryptedRole = this.encryptData(role)
@@ -60,12 +74,51 @@ export default class ApiService {
         return role === 'ADMIN' || role === 'MANAGER'
     }
 
-    // Logout user
+    // Logout user: revoke the tokens on the server, then forget them locally
     static logout() {
+        const refreshToken = this.getRefreshToken()
+        if (refreshToken) {
+            axios.post(`${this.BASE_URL}/api/auth/logout`, { refreshToken }, {
+                headers: this.getHeaders(),
+                skipAuthRefresh: true
+            }).catch(() => {})
+        }
+        this.clearSession()
+    }
+
+    static clearSession() {
         localStorage.removeItem('token')
+        localStorage.removeItem('refreshToken')
         localStorage.removeItem('role')
     }
 
+    // Exchanges the refresh token for a new token pair. Concurrent callers share one request,
+    // because the server rotates the refresh token on every use.
+    static refreshTokens() {
+        if (!this.refreshing) {
+            const refreshToken = this.getRefreshToken()
+            this.refreshing = (refreshToken
+                ? axios.post(`${this.BASE_URL}/api/auth/refresh`, { refreshToken }, {
+                    headers: this.getPublicHeaders(),
+                    skipAuthRefresh: true
+                }).then(response => {
+                    this.saveToken(response.data.token)
+                    this.saveRefreshToken(response.data.refreshToken)
+                    return response.data.token
+                })
+                : Promise.reject(new Error('No refresh token')))
+                .catch(error => {
+                    this.clearSession()
+                    window.location.href = '/login'
+                    throw error
+                })
+                .finally(() => {
+                    this.refreshing = null
+                })
+        }
+        return this.refreshing
+    }
+
     // Get headers for authenticated requests
     static getHeaders() {
         const token = this.getToken();
@@ -485,6 +538,62 @@ export default class ApiService {
         }
     }
 
+    // Live dashboard deltas over Server-Sent Events.
+    // EventSource cannot send the Authorization header, so the stream is read with fetch.
+    // Returns a function that closes the stream.
+    static subscribeToDashboardStream(onEvent) {
+        const controller = new AbortController()
+
+        const connect = async () => {
+            const response = await fetch(`${this.BASE_URL}/api/dashboard/stream`, {
+                headers: { Authorization: `Bearer ${this.getToken()}`, Accept: 'text/event-stream' },
+                signal: controller.signal
+            })
+            if (response.status === 401) {
+                await this.refreshTokens()
+                return
+            }
+            const reader = response.body.getReader()
+            const decoder = new TextDecoder()
+            let buffer = ''
+
+            while (true) {
+                const { value, done } = await reader.read()
+                if (done) break
+                buffer += decoder.decode(value, { stream: true })
+
+                let boundary
+                while ((boundary = buffer.indexOf('\n\n')) !== -1) {
+                    const chunk = buffer.slice(0, boundary)
+                    buffer = buffer.slice(boundary + 2)
+
+                    let name = 'message'
+                    let data = ''
+                    chunk.split('\n').forEach(line => {
+                        if (line.startsWith('event:')) name = line.slice(6).trim()
+                        else if (line.startsWith('data:')) data += line.slice(5)
+                    })
+                    if (data) onEvent(name, JSON.parse(data))
+                }
+            }
+        }
+
+        const run = async () => {
+            while (!controller.signal.aborted) {
+                try {
+                    await connect()
+                } catch (error) {
+                    if (controller.signal.aborted) return
+                }
+                // Reconnect after the server closes the stream or the network drops
+                await new Promise(resolve => setTimeout(resolve, 3000))
+            }
+        }
+        run()
+
+        return () => controller.abort()
+    }
+
     static async getTopProducts(limit = 10) {
         try {
             const response = await axios.get(`${this.BASE_URL}/api/dashboard/top-products?limit=${limit}`, {
@@ -497,4 +606,15 @@ export default class ApiService {
     }
 }
 
-
+// An expired access token answers 401: renew the pair once and replay the request
+axios.interceptors.response.use(undefined, async (error) => {
+    const config = error.config
+    if (error.response?.status !== 401 || !config || config.skipAuthRefresh || config.retried
+            || !ApiService.getRefreshToken()) {
+        throw error
+    }
+    const token = await ApiService.refreshTokens()
+    config.retried = true
+    config.headers = { ...config.headers, Authorization: `Bearer ${token}` }
+    return axios(config)
+})
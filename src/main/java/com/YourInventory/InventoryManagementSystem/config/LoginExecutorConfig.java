@@ -0,0 +1,31 @@
+package com.YourInventory.InventoryManagementSystem.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class LoginExecutorConfig {
+
+    // Password checks (BCrypt) run on this pool instead of servlet threads, so a login storm can
+    // occupy at most pool-size cores (0 means half of them). When the queue is full new logins are
+    // rejected with 429 rather than queueing without limit.
+    @Bean
+    public ThreadPoolTaskExecutor loginExecutor(
+            @Value("${auth.login.pool-size:0}") int poolSize,
+            @Value("${auth.login.queue-capacity:50}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("login-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -5,14 +5,18 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.YourInventory.InventoryManagementSystem.dtos.LoginRequest;
+import com.YourInventory.InventoryManagementSystem.dtos.RefreshRequest;
 import com.YourInventory.InventoryManagementSystem.dtos.RegisterRequest;
 import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.security.ClientIpResolver;
 import com.YourInventory.InventoryManagementSystem.services.AuthService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -23,6 +27,9 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private ClientIpResolver clientIpResolver;
+
     @PostMapping("/register")
     public ResponseEntity<Response> register(@Valid @RequestBody RegisterRequest registerRequest) {
         Response response = authService.register(registerRequest);
@@ -30,8 +37,22 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Response> login(@Valid @RequestBody LoginRequest loginRequest) {
-        Response response = authService.login(loginRequest);
+    public ResponseEntity<Response> login(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+        Response response = authService.login(loginRequest, clientIpResolver.resolve(request));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<Response> refresh(@Valid @RequestBody RefreshRequest refreshRequest) {
+        Response response = authService.refresh(refreshRequest);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Response> logout(@Valid @RequestBody RefreshRequest refreshRequest,
+                                           @RequestHeader(value = "Authorization", required = false) String authHeader) {
+        String accessToken = authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+        Response response = authService.logout(refreshRequest, accessToken);
         return ResponseEntity.ok(response);
     }
 }
@@ -1,15 +1,23 @@
 package com.YourInventory.InventoryManagementSystem.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.services.DashboardCacheService;
 import com.YourInventory.InventoryManagementSystem.services.DashboardService;
+import com.YourInventory.InventoryManagementSystem.services.DashboardStreamService;
+import com.YourInventory.InventoryManagementSystem.services.SalesRollupService;
+import com.YourInventory.InventoryManagementSystem.services.TopSellersTracker;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -19,15 +27,34 @@ public class DashboardController {
     @Autowired
     private DashboardService dashboardService;
 
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
+    @Autowired
+    private DashboardStreamService dashboardStreamService;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private TopSellersTracker topSellersTracker;
+
     @GetMapping("/overview")
     public ResponseEntity<Response> getDashboardOverview() {
         Response response = dashboardService.getDashboardOverview();
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        return dashboardStreamService.subscribe();
+    }
+
     @GetMapping("/alerts")
-    public ResponseEntity<Response> getInventoryAlerts() {
-        Response response = dashboardService.getInventoryAlerts();
+    public ResponseEntity<Response> getInventoryAlerts(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Response response = dashboardService.getInventoryAlerts(page, size);
         return ResponseEntity.ok(response);
     }
 
@@ -36,4 +63,38 @@ public class DashboardController {
         Response response = dashboardService.getTopProducts(limit);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Response> getCacheStats() {
+        Response response = dashboardCacheService.getStats();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/aggregates/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Response> rebuildAggregates() {
+        Response response = dashboardService.rebuildAggregates();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/top-sellers")
+    public ResponseEntity<Response> getTopSellers(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "5") int limit) {
+        Response response = topSellersTracker.getTopSellers(days, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/sales-comparison")
+    public ResponseEntity<Response> getSalesComparison(@RequestParam(defaultValue = "30") int days) {
+        Response response = salesRollupService.getSalesComparison(days);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/rollups/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Response> backfillRollups() {
+        Response response = salesRollupService.backfill();
+        return ResponseEntity.ok(response);
+    }
 }
@@ -1,6 +1,9 @@
 package com.YourInventory.InventoryManagementSystem.controllers;
 
+import java.time.LocalDateTime;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -30,8 +33,12 @@ public class ProductController {
     @GetMapping
     public ResponseEntity<Response> getAllProducts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Response response = productService.getAllProducts(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        // ?cursor= (empty for the first page) switches to keyset pagination
+        Response response = cursor != null
+                ? productService.getProductsAfter(cursor, size)
+                : productService.getAllProducts(page, size);
         return ResponseEntity.ok(response);
     }
 
@@ -41,6 +48,15 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    // Ranked full-text search on name, SKU and description, e.g. ?query=green tea&size=20
+    @GetMapping("/search")
+    public ResponseEntity<Response> searchProducts(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "20") int size) {
+        Response response = productService.searchProducts(query, size);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/category/{categoryId}")
     public ResponseEntity<Response> getProductsByCategory(
             @PathVariable Long categoryId,
@@ -59,6 +75,23 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/reorder")
+    public ResponseEntity<Response> getProductsToReorder(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Response response = productService.getProductsToReorder(page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    // Stock as it was at the given time, e.g. ?at=2024-03-01T00:00:00
+    @GetMapping("/{productId}/stock-at")
+    public ResponseEntity<Response> getStockAt(
+            @PathVariable Long productId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        Response response = productService.getStockAt(productId, at);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
     public ResponseEntity<Response> createProduct(@Valid @RequestBody ProductDTO productDTO) {
         Response response = productService.createProduct(productDTO);
@@ -1,6 +1,7 @@
 package com.YourInventory.InventoryManagementSystem.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,14 +9,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.YourInventory.InventoryManagementSystem.dtos.BulkTransactionRequest;
 import com.YourInventory.InventoryManagementSystem.dtos.Response;
 import com.YourInventory.InventoryManagementSystem.dtos.TransactionRequest;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionSearchRequest;
 import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
 import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.services.IdempotencyService;
+import com.YourInventory.InventoryManagementSystem.services.TransactionIngestionQueue;
 import com.YourInventory.InventoryManagementSystem.services.TransactionService;
 
 import jakarta.validation.Valid;
@@ -28,11 +34,28 @@ public class TransactionController {
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private TransactionIngestionQueue transactionIngestionQueue;
+
     @GetMapping
     public ResponseEntity<Response> getAllTransactions(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Response response = transactionService.getAllTransactions(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        // ?cursor= (empty for the first page) switches to keyset pagination
+        Response response = cursor != null
+                ? transactionService.getTransactionsAfter(cursor, size)
+                : transactionService.getAllTransactions(page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    // e.g. ?type=SALE&productId=3&from=2024-03-01T00:00:00&minPrice=100&sortBy=totalPrice&direction=DESC
+    @GetMapping("/search")
+    public ResponseEntity<Response> searchTransactions(TransactionSearchRequest request) {
+        Response response = transactionService.searchTransactions(request);
         return ResponseEntity.ok(response);
     }
 
@@ -46,26 +69,59 @@ public class TransactionController {
     public ResponseEntity<Response> getTransactionsByType(
             @PathVariable TransactionType type,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Response response = transactionService.getTransactionsByType(type, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        Response response = cursor != null
+                ? transactionService.getTransactionsByTypeAfter(type, cursor, size)
+                : transactionService.getTransactionsByType(type, page, size);
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/purchase")
-    public ResponseEntity<Response> purchaseProduct(@Valid @RequestBody TransactionRequest request) {
-        Response response = transactionService.purchaseProduct(request);
+    public ResponseEntity<Response> purchaseProduct(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody TransactionRequest request) {
+        Response response = idempotencyService.execute(idempotencyKey, "purchase", request,
+                () -> transactionService.purchaseProduct(request));
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/sell")
-    public ResponseEntity<Response> sellProduct(@Valid @RequestBody TransactionRequest request) {
-        Response response = transactionService.sellProduct(request);
+    public ResponseEntity<Response> sellProduct(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody TransactionRequest request) {
+        Response response = idempotencyService.execute(idempotencyKey, "sell", request,
+                () -> transactionService.sellProduct(request));
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/return")
-    public ResponseEntity<Response> returnToSupplier(@Valid @RequestBody TransactionRequest request) {
-        Response response = transactionService.returnToSupplier(request);
+    public ResponseEntity<Response> returnToSupplier(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody TransactionRequest request) {
+        Response response = idempotencyService.execute(idempotencyKey, "return", request,
+                () -> transactionService.returnToSupplier(request));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<Response> processBulk(@Valid @RequestBody BulkTransactionRequest request) {
+        Response response = transactionService.processBulk(request);
+        return ResponseEntity.ok(response);
+    }
+
+    // Queues the request and answers 202 with a ticket id to poll; 429 when the queue is full
+    @PostMapping("/async")
+    public ResponseEntity<Response> submitAsync(
+            @RequestParam TransactionType type,
+            @Valid @RequestBody TransactionRequest request) {
+        Response response = transactionIngestionQueue.submit(type, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/async/{ticketId}")
+    public ResponseEntity<Response> getAsyncStatus(@PathVariable String ticketId) {
+        Response response = transactionIngestionQueue.getStatus(ticketId);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,29 @@
+package com.YourInventory.InventoryManagementSystem.dtos;
+
+import java.util.List;
+
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+
+public class BulkTransactionRequest {
+
+    @NotNull(message = "Transaction type is required")
+    private TransactionType transactionType;
+
+    @NotEmpty(message = "At least one line is required")
+    @Valid
+    private List<TransactionRequest> lines;
+
+}
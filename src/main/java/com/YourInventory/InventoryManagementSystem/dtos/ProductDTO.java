@@ -30,6 +30,15 @@ public class ProductDTO {
 
     private Integer stockQuantity;
 
+    // On an edit: the stock the client was showing when the form was loaded. Only the difference
+    // to stockQuantity is applied, so sales made while the form was open are kept
+    private Integer loadedStockQuantity;
+
+    private Integer reorderPoint;
+    private Integer safetyStock;
+    private Boolean needsReorder;
+    private Boolean reorderUrgent;
+
     private String description;
     private LocalDateTime expiryDate;
     private String imageUrl;
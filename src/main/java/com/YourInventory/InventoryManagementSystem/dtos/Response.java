@@ -5,11 +5,15 @@ import java.util.List;
 import com.YourInventory.InventoryManagementSystem.enums.UserRole;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@AllArgsConstructor
+@NoArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 
 public class Response {
@@ -22,6 +26,9 @@ public class Response {
     //for login
     private String token;
 
+    // Exchanged at /api/auth/refresh for a new access token once the short-lived one expires
+    private String refreshToken;
+
     private UserRole role;
 
     private String expirationTime;
@@ -31,6 +38,11 @@ public class Response {
 
     private Long totalElements;
 
+    //for cursor pagination: pass nextCursor back as ?cursor= for the following page
+    private String nextCursor;
+
+    private Boolean hasNext;
+
     //data output optionals
     private UserDTO user;
     private List<UserDTO> users;
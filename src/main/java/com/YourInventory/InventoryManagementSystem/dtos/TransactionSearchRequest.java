@@ -0,0 +1,53 @@
+package com.YourInventory.InventoryManagementSystem.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Query parameters of GET /api/transactions/search; every filter is optional
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+
+public class TransactionSearchRequest {
+
+    // createdAt in [from, to)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private TransactionType type;
+
+    private TransactionStatus status;
+
+    private Long productId;
+
+    private Long supplierId;
+
+    private Long userId;
+
+    // totalPrice in [minPrice, maxPrice]
+    private BigDecimal minPrice;
+
+    private BigDecimal maxPrice;
+
+    // createdAt or totalPrice; ties are broken by id
+    private String sortBy = "createdAt";
+
+    private String direction = "DESC";
+
+    // nextCursor of the previous page; absent for the first page
+    private String cursor;
+
+    private int size = 10;
+}
@@ -35,6 +35,6 @@ public class UserDTO {
 
     private List<TransactionDTO> transaction;
 
-    private final LocalDateTime createdAt = LocalDateTime.now() ;
+    private LocalDateTime createdAt;
 
 }
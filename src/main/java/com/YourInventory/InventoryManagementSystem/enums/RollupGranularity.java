@@ -0,0 +1,10 @@
+package com.YourInventory.InventoryManagementSystem.enums;
+
+public enum RollupGranularity {
+
+    DAY,
+    MONTH,
+    // One bucket per product for all time, starting at SalesRollupService.ALL_TIME
+    TOTAL
+
+}
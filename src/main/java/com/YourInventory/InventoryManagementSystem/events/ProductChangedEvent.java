@@ -0,0 +1,26 @@
+package com.YourInventory.InventoryManagementSystem.events;
+
+import java.time.LocalDateTime;
+
+import com.YourInventory.InventoryManagementSystem.model.Product;
+
+// Published when a product is created, edited or deleted, carrying the fields that
+// in-memory views of the catalog need. Only productId is set for a deleted product.
+public record ProductChangedEvent(
+        Long productId,
+        String name,
+        String sku,
+        String description,
+        Integer stockQuantity,
+        LocalDateTime expiryDate,
+        boolean deleted) {
+
+    public static ProductChangedEvent saved(Product product) {
+        return new ProductChangedEvent(product.getId(), product.getName(), product.getSku(),
+                product.getDescription(), product.getStockQuantity(), product.getExpiryDate(), false);
+    }
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, null, null, null, null, null, true);
+    }
+}
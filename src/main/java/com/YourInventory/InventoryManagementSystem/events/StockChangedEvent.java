@@ -0,0 +1,10 @@
+package com.YourInventory.InventoryManagementSystem.events;
+
+// Published whenever a product's stock quantity changes.
+// previousQuantity is null for a new product, newQuantity is null for a deleted one.
+public record StockChangedEvent(Long productId, Integer previousQuantity, Integer newQuantity) {
+
+    public int delta() {
+        return (newQuantity != null ? newQuantity : 0) - (previousQuantity != null ? previousQuantity : 0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.YourInventory.InventoryManagementSystem.events;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+
+// Published after a purchase, sale or return has been written.
+public record TransactionRecordedEvent(
+        Long transactionId,
+        TransactionType transactionType,
+        Long productId,
+        int quantity,
+        BigDecimal totalPrice,
+        LocalDateTime createdAt) {
+}
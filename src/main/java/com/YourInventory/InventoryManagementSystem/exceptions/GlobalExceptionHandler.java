@@ -36,6 +36,14 @@ public class GlobalExceptionHandler {
             .build();
         return new ResponseEntity<>(response , HttpStatus.BAD_REQUEST);
     }
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Response> handleTooManyRequestsException(TooManyRequestsException e){
+        Response response = Response.builder()
+            .status(HttpStatus.TOO_MANY_REQUESTS.value())
+            .message(e.getMessage())
+            .build();
+        return new ResponseEntity<>(response , HttpStatus.TOO_MANY_REQUESTS);
+    }
     @ExceptionHandler(InavlidCredentialsException.class)
     public ResponseEntity<Response> handleInvalidCredentialException(InavlidCredentialsException e){
         Response response = Response.builder()
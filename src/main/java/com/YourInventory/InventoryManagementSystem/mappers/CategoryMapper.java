@@ -0,0 +1,26 @@
+package com.YourInventory.InventoryManagementSystem.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.YourInventory.InventoryManagementSystem.dtos.CategoryDTO;
+import com.YourInventory.InventoryManagementSystem.model.Category;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.CategoryListItem;
+
+// The category's products are never read, so mapping never initializes that collection
+@Component
+public class CategoryMapper {
+
+    public CategoryDTO toDTO(Category category) {
+        CategoryDTO dto = new CategoryDTO();
+        dto.setId(category.getId());
+        dto.setName(category.getName());
+        return dto;
+    }
+
+    public CategoryDTO toDTO(CategoryListItem item) {
+        CategoryDTO dto = new CategoryDTO();
+        dto.setId(item.id());
+        dto.setName(item.name());
+        return dto;
+    }
+}
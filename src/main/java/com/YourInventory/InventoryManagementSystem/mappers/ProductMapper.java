@@ -0,0 +1,56 @@
+package com.YourInventory.InventoryManagementSystem.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.YourInventory.InventoryManagementSystem.dtos.ProductDTO;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductListItem;
+
+// Only the category's id is read, which a lazy proxy answers without loading the category
+@Component
+public class ProductMapper {
+
+    public ProductDTO toDTO(Product product) {
+        ProductDTO dto = new ProductDTO();
+        dto.setId(product.getId());
+        // productId has always carried the product's own id in responses
+        dto.setProductId(product.getId());
+        if (product.getCategory() != null) {
+            dto.setCategoryId(product.getCategory().getId());
+        }
+        dto.setName(product.getName());
+        dto.setSku(product.getSku());
+        dto.setPrice(product.getPrice());
+        dto.setStockQuantity(product.getStockQuantity());
+        dto.setReorderPoint(product.getReorderPoint());
+        dto.setSafetyStock(product.getSafetyStock());
+        dto.setNeedsReorder(product.getNeedsReorder());
+        dto.setReorderUrgent(product.getReorderUrgent());
+        dto.setDescription(product.getDescription());
+        dto.setExpiryDate(product.getExpiryDate());
+        dto.setImageUrl(product.getImageUrl());
+        dto.setCreatedAt(product.getCreatedAt());
+        return dto;
+    }
+
+    // Same fields as the entity mapping, so listings serialize exactly like single reads
+    public ProductDTO toDTO(ProductListItem item) {
+        ProductDTO dto = new ProductDTO();
+        dto.setId(item.id());
+        dto.setProductId(item.id());
+        dto.setCategoryId(item.categoryId());
+        dto.setName(item.name());
+        dto.setSku(item.sku());
+        dto.setPrice(item.price());
+        dto.setStockQuantity(item.stockQuantity());
+        dto.setReorderPoint(item.reorderPoint());
+        dto.setSafetyStock(item.safetyStock());
+        dto.setNeedsReorder(item.needsReorder());
+        dto.setReorderUrgent(item.reorderUrgent());
+        dto.setDescription(item.description());
+        dto.setExpiryDate(item.expiryDate());
+        dto.setImageUrl(item.imageUrl());
+        dto.setCreatedAt(item.createdAt());
+        return dto;
+    }
+}
@@ -0,0 +1,24 @@
+package com.YourInventory.InventoryManagementSystem.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.YourInventory.InventoryManagementSystem.dtos.SupplierDTO;
+import com.YourInventory.InventoryManagementSystem.model.Supplier;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.SupplierListItem;
+
+@Component
+public class SupplierMapper {
+
+    public SupplierDTO toDTO(Supplier supplier) {
+        SupplierDTO dto = new SupplierDTO();
+        dto.setId(supplier.getId());
+        dto.setName(supplier.getName());
+        dto.setContactInfo(supplier.getContactInfo());
+        dto.setAddress(supplier.getAddress());
+        return dto;
+    }
+
+    public SupplierDTO toDTO(SupplierListItem item) {
+        return new SupplierDTO(item.id(), item.name(), item.contactInfo(), item.address());
+    }
+}
@@ -0,0 +1,45 @@
+package com.YourInventory.InventoryManagementSystem.mappers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionDTO;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+
+// Reads product, user and supplier, so listings should load them with the transaction
+// (see Transaction.WITH_ASSOCIATIONS)
+@Component
+public class TransactionMapper {
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private SupplierMapper supplierMapper;
+
+    public TransactionDTO toDTO(Transaction transaction) {
+        TransactionDTO dto = new TransactionDTO();
+        dto.setId(transaction.getId());
+        dto.setTotalProduct(transaction.getTotalProduct());
+        dto.setTotalPrice(transaction.getTotalPrice());
+        dto.setTransactionType(transaction.getTransactionType());
+        dto.setTransactionStatus(transaction.getTransactionStatus());
+        dto.setDescription(transaction.getDescription());
+        dto.setNote(transaction.getNote());
+        dto.setCreatedAt(transaction.getCreatedAt());
+        dto.setUpdateAt(transaction.getUpdateAt());
+        if (transaction.getProduct() != null) {
+            dto.setProductDTO(productMapper.toDTO(transaction.getProduct()));
+        }
+        if (transaction.getUser() != null) {
+            dto.setUserDTO(userMapper.toDTO(transaction.getUser()));
+        }
+        if (transaction.getSupplier() != null) {
+            dto.setSupplierDTO(supplierMapper.toDTO(transaction.getSupplier()));
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,23 @@
+package com.YourInventory.InventoryManagementSystem.mappers;
+
+import org.springframework.stereotype.Component;
+
+import com.YourInventory.InventoryManagementSystem.dtos.UserDTO;
+import com.YourInventory.InventoryManagementSystem.model.User;
+
+// Leaves out the password hash (never serialized anyway) and the user's transactions, so
+// mapping a user never loads their history
+@Component
+public class UserMapper {
+
+    public UserDTO toDTO(User user) {
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        dto.setPhoneNumber(user.getPhoneNumber());
+        dto.setRole(user.getRole());
+        dto.setCreatedAt(user.getCreatedAt());
+        return dto;
+    }
+}
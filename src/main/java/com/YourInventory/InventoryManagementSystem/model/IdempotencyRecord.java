@@ -0,0 +1,44 @@
+package com.YourInventory.InventoryManagementSystem.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Response recorded for an Idempotency-Key, replayed when the same request is retried.
+// The record is written in the same database transaction as the request's own changes.
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "idempotency_records",
+        indexes = @Index(name = "idx_idempotency_records_expires_at", columnList = "expires_at"))
+@Data
+@Builder
+
+public class IdempotencyRecord {
+
+    // SHA-256 of user, operation and client key, so keys from different users or endpoints never collide
+    @Id
+    @Column(name = "scoped_key", length = 64)
+    private String scopedKey;
+
+    // Hash of the request body; the same key with a different body is rejected
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "response_body", nullable = false, columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
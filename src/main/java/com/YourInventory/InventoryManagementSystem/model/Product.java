@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,10 @@ import lombok.Builder;
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_reorder_urgency", columnList = "needsReorder, reorderUrgent, stockQuantity"),
+        @Index(name = "idx_products_created_id", columnList = "createdAt, id")
+})
 @Data
 @Builder
 
@@ -44,11 +48,28 @@ public class Product {
     @Positive(message = "Product price must be Positive value")
     private BigDecimal price;
 
+    // Written on insert only; afterwards stock changes go through StockService, so saving a
+    // product never overwrites a concurrent sale or an unflushed hot-stock delta
     @Min(value = 0, message = "Stock quantity cannot be negative")
+    @Column(updatable = false)
     private Integer stockQuantity;
 
     private String description;
 
+    // Stock level at or below which the product should be reordered; null uses the configured default
+    @Min(value = 0, message = "Reorder point cannot be negative")
+    private Integer reorderPoint;
+
+    // Stock kept as a buffer; at or below it the reorder is urgent
+    @Min(value = 0, message = "Safety stock cannot be negative")
+    private Integer safetyStock;
+
+    // Maintained by ReorderEvaluator whenever stock or the reorder settings change
+    private Boolean needsReorder;
+
+    // Stock at or below safetyStock; maintained together with needsReorder
+    private Boolean reorderUrgent;
+
     private LocalDateTime expiryDate;
 
     private String imageUrl;
@@ -66,6 +87,10 @@ public class Product {
                 ", sku='" + sku + '\'' +
                 ", price=" + price +
                 ", stockQuantity=" + stockQuantity +
+                ", reorderPoint=" + reorderPoint +
+                ", safetyStock=" + safetyStock +
+                ", needsReorder=" + needsReorder +
+                ", reorderUrgent=" + reorderUrgent +
                 ", description='" + description + '\'' +
                 ", expiryDate=" + expiryDate +
                 ", imageUrl='" + imageUrl + '\'' +
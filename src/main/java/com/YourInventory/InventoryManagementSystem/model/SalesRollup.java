@@ -0,0 +1,68 @@
+package com.YourInventory.InventoryManagementSystem.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.YourInventory.InventoryManagementSystem.enums.RollupGranularity;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Pre-aggregated quantity and revenue per product, transaction type and time bucket (day, month,
+// or all time).
+// Rows are upserted by the transaction write path and rebuilt by the backfill job.
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "sales_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_rollups_bucket",
+                columnNames = {"granularity", "transaction_type", "bucket_start", "product_id"}),
+        indexes = {
+                @Index(name = "idx_sales_rollups_product", columnList = "product_id"),
+                // Top products: the TOTAL rows of one type read in quantity order, stopping at the limit
+                @Index(name = "idx_sales_rollups_ranking", columnList = "granularity, transaction_type, quantity")
+        })
+@Data
+@Builder
+
+public class SalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RollupGranularity granularity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false, length = 32)
+    private TransactionType transactionType;
+
+    // First day of the bucket (the day itself, or the first of the month)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    private Long quantity;
+
+    private BigDecimal revenue;
+
+    private Long transactionCount;
+
+}
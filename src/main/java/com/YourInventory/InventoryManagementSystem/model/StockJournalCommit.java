@@ -0,0 +1,27 @@
+package com.YourInventory.InventoryManagementSystem.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A hot-stock journal entry whose stock change committed. Inserted in the same database
+// transaction as the change and deleted in the one that applies the entry to
+// products.stock_quantity, so replay after a crash applies exactly the committed, unapplied entries.
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "stock_journal_commits")
+@Data
+@Builder
+
+public class StockJournalCommit {
+
+    @Id
+    @Column(name = "journal_sequence")
+    private Long journalSequence;
+}
@@ -0,0 +1,42 @@
+package com.YourInventory.InventoryManagementSystem.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One change to a product's stock, appended by StockService in the same database transaction
+// as the change itself. Rows are never updated or deleted.
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "stock_movements",
+        indexes = @Index(name = "idx_stock_movements_product_created", columnList = "product_id, created_at"))
+@Data
+@Builder
+
+public class StockMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    // Signed change: positive for stock in, negative for stock out
+    @Column(nullable = false, updatable = false)
+    private Integer delta;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
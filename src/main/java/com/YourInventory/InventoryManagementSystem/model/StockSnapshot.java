@@ -0,0 +1,41 @@
+package com.YourInventory.InventoryManagementSystem.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A product's stock as of takenAt. Stock at a later time is this quantity plus the deltas of
+// the movements created after takenAt. A product's first snapshot is its opening balance.
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "stock_snapshots",
+        indexes = @Index(name = "idx_stock_snapshots_product_taken", columnList = "product_id, taken_at"))
+@Data
+@Builder
+
+public class StockSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    @Column(nullable = false, updatable = false)
+    private Integer quantity;
+
+    @Column(name = "taken_at", nullable = false, updatable = false)
+    private LocalDateTime takenAt;
+}
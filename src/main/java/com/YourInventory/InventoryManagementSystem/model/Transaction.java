@@ -13,8 +13,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,14 +26,36 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+// Everything a TransactionDTO reads, fetched with the row so listings cost one query per page
+@NamedEntityGraph(name = Transaction.WITH_ASSOCIATIONS, attributeNodes = {
+        @NamedAttributeNode(value = "product", subgraph = "product"),
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("supplier")
+}, subgraphs = @NamedSubgraph(name = "product", attributeNodes = @NamedAttributeNode("category")))
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "transaction")
+@Table(name = "transaction", indexes = {
+        // Listings and date-range searches, newest first
+        @Index(name = "idx_transaction_created_id", columnList = "createdAt, id"),
+        // Listings by type
+        @Index(name = "idx_transaction_type_created_id", columnList = "transactionType, createdAt, id"),
+        // MySQL needs an index on every foreign key and would otherwise add a bare one per column;
+        // these take its place at no extra write cost and serve the product, supplier and user
+        // filters in (createdAt, id) order
+        @Index(name = "idx_transaction_product_created_id", columnList = "product_id, createdAt, id"),
+        @Index(name = "idx_transaction_supplier_created_id", columnList = "supplier_id, createdAt, id"),
+        @Index(name = "idx_transaction_user_created_id", columnList = "user_id, createdAt, id"),
+        // The only index in totalPrice order: without it every page of a price-sorted search sorts the
+        // whole table. Status has too few values to be worth an index of its own.
+        @Index(name = "idx_transaction_price_id", columnList = "totalPrice, id")
+})
 @Data
 @Builder
 
 public class Transaction {
 
+    public static final String WITH_ASSOCIATIONS = "Transaction.withAssociations";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
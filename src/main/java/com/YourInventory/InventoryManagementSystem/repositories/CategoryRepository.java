@@ -1,13 +1,29 @@
 package com.YourInventory.InventoryManagementSystem.repositories;
 
+import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.YourInventory.InventoryManagementSystem.model.Category;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.CategoryListItem;
 
 public interface CategoryRepository extends JpaRepository<Category , Long>{
 
     boolean existsByNameIgnoreCase(String name);
 
     boolean existsByNameIgnoreCaseAndIdNot(String name, Long id);
+
+    // Listing rows as records, read without managing any entities
+    @Query(value = "SELECT new com.YourInventory.InventoryManagementSystem.repositories.projections.CategoryListItem(" +
+            "c.id, c.name) FROM Category c",
+            countQuery = "SELECT COUNT(c) FROM Category c")
+    Page<CategoryListItem> findListItems(Pageable pageable);
+
+    @Query("SELECT new com.YourInventory.InventoryManagementSystem.repositories.projections.CategoryListItem(" +
+            "c.id, c.name) FROM Category c")
+    List<CategoryListItem> findListItems(Sort sort);
 }
@@ -0,0 +1,35 @@
+package com.YourInventory.InventoryManagementSystem.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.model.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // A plain INSERT, unlike save(), so a key that is already recorded fails on the primary key
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_records (scoped_key, request_hash, response_body, created_at, expires_at) "
+            + "VALUES (:scopedKey, :requestHash, :responseBody, :createdAt, :expiresAt)", nativeQuery = true)
+    void insert(@Param("scopedKey") String scopedKey,
+                @Param("requestHash") String requestHash,
+                @Param("responseBody") String responseBody,
+                @Param("createdAt") LocalDateTime createdAt,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    // Frees a single key whose record has expired but has not been purged yet
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.scopedKey = :scopedKey AND r.expiresAt < :now")
+    int deleteExpired(@Param("scopedKey") String scopedKey, @Param("now") LocalDateTime now);
+}
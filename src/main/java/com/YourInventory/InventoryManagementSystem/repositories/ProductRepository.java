@@ -1,23 +1,118 @@
 package com.YourInventory.InventoryManagementSystem.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.YourInventory.InventoryManagementSystem.model.Category;
 import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductListItem;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface ProductRepository extends JpaRepository<Product , Long>{
 
     List<Product> findByNameContainingOrDescriptionContaining(String name , String description);
 
+    // Listing rows as records: no entities enter the persistence context, so nothing is dirty-checked
+    @Query(value = "SELECT new com.YourInventory.InventoryManagementSystem.repositories.projections.ProductListItem(" +
+            "p.id, p.category.id, p.name, p.sku, p.price, p.stockQuantity, p.reorderPoint, p.safetyStock, " +
+            "p.needsReorder, p.reorderUrgent, p.description, p.expiryDate, p.imageUrl, p.createdAt) FROM Product p",
+            countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductListItem> findListItems(Pageable pageable);
+
+    // The rows behind a set of search hits; the caller restores the ranking order
+    @Query("SELECT new com.YourInventory.InventoryManagementSystem.repositories.projections.ProductListItem(" +
+            "p.id, p.category.id, p.name, p.sku, p.price, p.stockQuantity, p.reorderPoint, p.safetyStock, " +
+            "p.needsReorder, p.reorderUrgent, p.description, p.expiryDate, p.imageUrl, p.createdAt) FROM Product p WHERE p.id IN :ids")
+    List<ProductListItem> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset pages, newest first, for cursor pagination: a seek on (created_at, id) and no count query.
+    // Listings that still return entities load them read-only: no snapshots, no dirty checking.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<Product> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM Product p WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Product> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     boolean existsBySkuIgnoreCase(String sku);
 
     boolean existsBySkuIgnoreCaseAndIdNot(String sku, Long id);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<Product> findByCategory(Category category, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<Product> findByStockQuantityLessThanEqual(Integer threshold, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Product> findTop5ByStockQuantityLessThanEqualOrderByIdAsc(Integer threshold);
+
+    long countByStockQuantityLessThanEqual(Integer threshold);
+
+    @Query("SELECT COALESCE(SUM(p.stockQuantity), 0) FROM Product p")
+    long sumStockQuantity();
+
+    // Guarded decrement: matches no row unless enough stock remains, so it can never oversell
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity " +
+            "WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int decrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity WHERE p.id = :id")
+    int incrementStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = :quantity WHERE p.id = :id")
+    int setStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Query("SELECT p.stockQuantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockQuantityById(@Param("id") Long id);
+
+    // SELECT ... FOR UPDATE: concurrent stock changes wait until this transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.stockQuantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> lockStockQuantityById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Page<Product> findByNeedsReorderTrue(Pageable pageable);
+
+    long countByNeedsReorderTrue();
+
+    long countByReorderUrgentTrue();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Product p SET p.needsReorder = :needsReorder, p.reorderUrgent = :reorderUrgent WHERE p.id = :id")
+    int updateReorderFlags(@Param("id") Long id, @Param("needsReorder") boolean needsReorder,
+                           @Param("reorderUrgent") boolean reorderUrgent);
+
+    // Corrects every row whose flags disagree with its stock: products that predate the columns,
+    // and changes whose evaluation was still queued when the application stopped
+    @Modifying
+    @Transactional
+    @Query("UPDATE Product p SET " +
+            "p.needsReorder = CASE WHEN p.stockQuantity <= COALESCE(p.reorderPoint, :defaultReorderPoint) THEN true ELSE false END, " +
+            "p.reorderUrgent = CASE WHEN p.stockQuantity <= p.safetyStock THEN true ELSE false END " +
+            "WHERE p.needsReorder IS NULL OR p.reorderUrgent IS NULL " +
+            "OR p.needsReorder <> (CASE WHEN p.stockQuantity <= COALESCE(p.reorderPoint, :defaultReorderPoint) THEN true ELSE false END) " +
+            "OR p.reorderUrgent <> (CASE WHEN p.stockQuantity <= p.safetyStock THEN true ELSE false END)")
+    int reconcileReorderFlags(@Param("defaultReorderPoint") int defaultReorderPoint);
 }
@@ -0,0 +1,97 @@
+package com.YourInventory.InventoryManagementSystem.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.enums.RollupGranularity;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.model.SalesRollup;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductSalesSummary;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.RollupTotal;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    // Atomic upsert so concurrent writers to the same bucket never lose an increment. MySQL syntax,
+    // which H2 accepts in MODE=MySQL (see SalesRollupServiceTests)
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (granularity, transaction_type, bucket_start, product_id, quantity, revenue, transaction_count) " +
+            "VALUES (:granularity, :type, :bucketStart, :productId, :quantity, :revenue, 1) " +
+            "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), revenue = revenue + VALUES(revenue), " +
+            "transaction_count = transaction_count + 1", nativeQuery = true)
+    int increment(@Param("granularity") String granularity,
+                  @Param("type") String type,
+                  @Param("bucketStart") LocalDate bucketStart,
+                  @Param("productId") Long productId,
+                  @Param("quantity") long quantity,
+                  @Param("revenue") BigDecimal revenue);
+
+    // The backfills are HQL, so the date functions are rendered for whichever database runs them
+    @Modifying
+    @Query("INSERT INTO SalesRollup (granularity, transactionType, bucketStart, productId, quantity, revenue, transactionCount) " +
+            "SELECT com.YourInventory.InventoryManagementSystem.enums.RollupGranularity.DAY, t.transactionType, " +
+            "cast(t.createdAt as LocalDate), t.product.id, SUM(t.totalProduct), SUM(t.totalPrice), COUNT(t) " +
+            "FROM Transaction t WHERE t.product IS NOT NULL " +
+            "GROUP BY t.transactionType, cast(t.createdAt as LocalDate), t.product.id")
+    int backfillDaily();
+
+    @Modifying
+    @Query("INSERT INTO SalesRollup (granularity, transactionType, bucketStart, productId, quantity, revenue, transactionCount) " +
+            "SELECT com.YourInventory.InventoryManagementSystem.enums.RollupGranularity.MONTH, r.transactionType, " +
+            "r.bucketStart - (day(r.bucketStart) - 1) day, r.productId, SUM(r.quantity), SUM(r.revenue), SUM(r.transactionCount) " +
+            "FROM SalesRollup r WHERE r.granularity = com.YourInventory.InventoryManagementSystem.enums.RollupGranularity.DAY " +
+            "GROUP BY r.transactionType, r.bucketStart - (day(r.bucketStart) - 1) day, r.productId")
+    int backfillMonthlyFromDaily();
+
+    @Modifying
+    @Transactional
+    @Query("INSERT INTO SalesRollup (granularity, transactionType, bucketStart, productId, quantity, revenue, transactionCount) " +
+            "SELECT com.YourInventory.InventoryManagementSystem.enums.RollupGranularity.TOTAL, r.transactionType, " +
+            ":allTime, r.productId, SUM(r.quantity), SUM(r.revenue), SUM(r.transactionCount) " +
+            "FROM SalesRollup r WHERE r.granularity = com.YourInventory.InventoryManagementSystem.enums.RollupGranularity.MONTH " +
+            "GROUP BY r.transactionType, r.productId")
+    int backfillTotalFromMonthly(@Param("allTime") LocalDate allTime);
+
+    boolean existsByGranularity(RollupGranularity granularity);
+
+    @Modifying
+    @Query("DELETE FROM SalesRollup")
+    int deleteAllRollups();
+
+    @Modifying
+    @Query("DELETE FROM SalesRollup r WHERE r.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+
+    @Query("SELECT r.bucketStart AS bucketStart, SUM(r.quantity) AS quantity, SUM(r.revenue) AS revenue, " +
+            "SUM(r.transactionCount) AS transactionCount FROM SalesRollup r " +
+            "WHERE r.granularity = :granularity AND r.transactionType = :type " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to GROUP BY r.bucketStart ORDER BY r.bucketStart")
+    List<RollupTotal> sumByBucket(@Param("granularity") RollupGranularity granularity,
+                                  @Param("type") TransactionType type,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+
+    @Query("SELECT COALESCE(SUM(r.quantity), 0) AS quantity, COALESCE(SUM(r.revenue), 0) AS revenue, " +
+            "COALESCE(SUM(r.transactionCount), 0) AS transactionCount FROM SalesRollup r " +
+            "WHERE r.granularity = :granularity AND r.transactionType = :type " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to")
+    RollupTotal sumBetween(@Param("granularity") RollupGranularity granularity,
+                           @Param("type") TransactionType type,
+                           @Param("from") LocalDate from,
+                           @Param("to") LocalDate to);
+
+    // One TOTAL row per product, so this reads 'limit' rows off the ranking index instead of summing
+    // every month of every product
+    @Query("SELECT p.id AS productId, p.name AS productName, r.quantity AS quantitySold " +
+            "FROM SalesRollup r, Product p WHERE p.id = r.productId " +
+            "AND r.granularity = com.YourInventory.InventoryManagementSystem.enums.RollupGranularity.TOTAL " +
+            "AND r.transactionType = :type ORDER BY r.quantity DESC, r.productId")
+    List<ProductSalesSummary> findTopProductsByQuantity(@Param("type") TransactionType type, Pageable pageable);
+}
@@ -0,0 +1,21 @@
+package com.YourInventory.InventoryManagementSystem.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.YourInventory.InventoryManagementSystem.model.StockJournalCommit;
+
+public interface StockJournalCommitRepository extends JpaRepository<StockJournalCommit, Long> {
+
+    // A plain INSERT: save() would first SELECT the assigned id
+    @Modifying
+    @Query(value = "INSERT INTO stock_journal_commits (journal_sequence) VALUES (:sequence)", nativeQuery = true)
+    void insert(@Param("sequence") long sequence);
+
+    @Query("SELECT c.journalSequence FROM StockJournalCommit c")
+    List<Long> findAllSequences();
+}
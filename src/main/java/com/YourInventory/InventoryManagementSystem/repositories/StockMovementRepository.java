@@ -0,0 +1,24 @@
+package com.YourInventory.InventoryManagementSystem.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.YourInventory.InventoryManagementSystem.model.StockMovement;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.MovementReplay;
+
+public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
+
+    // Net delta and number of movements in (from, to]; a range scan on (product_id, created_at)
+    @Query("SELECT COALESCE(SUM(m.delta), 0) AS delta, COUNT(m) AS movements FROM StockMovement m " +
+            "WHERE m.productId = :productId AND m.createdAt > :from AND m.createdAt <= :to")
+    MovementReplay replay(@Param("productId") Long productId,
+                          @Param("from") LocalDateTime from,
+                          @Param("to") LocalDateTime to);
+
+    @Query("SELECT DISTINCT m.productId FROM StockMovement m WHERE m.createdAt > :from AND m.createdAt <= :to")
+    List<Long> findProductIdsMovedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,28 @@
+package com.YourInventory.InventoryManagementSystem.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.model.StockSnapshot;
+
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, Long> {
+
+    Optional<StockSnapshot> findFirstByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(Long productId, LocalDateTime takenAt);
+
+    @Query("SELECT MAX(s.takenAt) FROM StockSnapshot s")
+    Optional<LocalDateTime> findLatestTakenAt();
+
+    // Opening balance for products that have no history yet (those created before the ledger existed)
+    @Modifying
+    @Transactional
+    @Query("INSERT INTO StockSnapshot (productId, quantity, takenAt) " +
+            "SELECT p.id, p.stockQuantity, :takenAt FROM Product p " +
+            "WHERE p.stockQuantity IS NOT NULL AND NOT EXISTS (SELECT 1 FROM StockSnapshot s WHERE s.productId = p.id)")
+    int insertOpeningSnapshots(@Param("takenAt") LocalDateTime takenAt);
+}
@@ -1,12 +1,29 @@
 package com.YourInventory.InventoryManagementSystem.repositories;
 
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.YourInventory.InventoryManagementSystem.model.Supplier;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.SupplierListItem;
 
 public interface SupplierRepository extends JpaRepository<Supplier , Long>{
 
     boolean existsByNameIgnoreCase(String name);
 
     boolean existsByNameIgnoreCaseAndIdNot(String name, Long id);
+
+    // Listing rows as records, read without managing any entities
+    @Query(value = "SELECT new com.YourInventory.InventoryManagementSystem.repositories.projections.SupplierListItem(" +
+            "s.id, s.name, s.contactInfo, s.address) FROM Supplier s",
+            countQuery = "SELECT COUNT(s) FROM Supplier s")
+    Page<SupplierListItem> findListItems(Pageable pageable);
+
+    @Query("SELECT new com.YourInventory.InventoryManagementSystem.repositories.projections.SupplierListItem(" +
+            "s.id, s.name, s.contactInfo, s.address) FROM Supplier s")
+    List<SupplierListItem> findListItems(Sort sort);
 }
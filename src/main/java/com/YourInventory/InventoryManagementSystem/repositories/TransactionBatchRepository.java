@@ -0,0 +1,61 @@
+package com.YourInventory.InventoryManagementSystem.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+
+// Inserts many transactions as one JDBC batch. Hibernate cannot batch inserts of entities with
+// IDENTITY ids, so this writes the rows directly (one multi-row INSERT with MySQL's
+// rewriteBatchedStatements) and copies the generated ids back onto the given objects.
+@Repository
+public class TransactionBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO transaction (total_product, total_price, transaction_type, " +
+            "transaction_status, description, note, created_at, update_at, product_id, user_id, supplier_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Transaction> transactions) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Transaction transaction : transactions) {
+                    statement.setInt(1, transaction.getTotalProduct());
+                    statement.setBigDecimal(2, transaction.getTotalPrice());
+                    statement.setString(3, transaction.getTransactionType().name());
+                    statement.setString(4, transaction.getTransactionStatus().name());
+                    statement.setString(5, transaction.getDescription());
+                    statement.setString(6, transaction.getNote());
+                    statement.setTimestamp(7, Timestamp.valueOf(transaction.getCreatedAt()));
+                    statement.setObject(8, transaction.getUpdateAt() != null ? Timestamp.valueOf(transaction.getUpdateAt()) : null, Types.TIMESTAMP);
+                    statement.setObject(9, transaction.getProduct() != null ? transaction.getProduct().getId() : null, Types.BIGINT);
+                    statement.setObject(10, transaction.getUser() != null ? transaction.getUser().getId() : null, Types.BIGINT);
+                    statement.setObject(11, transaction.getSupplier() != null ? transaction.getSupplier().getId() : null, Types.BIGINT);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (Transaction transaction : transactions) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Missing generated id for batched transaction insert");
+                        }
+                        transaction.setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
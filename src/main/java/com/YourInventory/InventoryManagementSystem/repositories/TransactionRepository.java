@@ -1,18 +1,85 @@
 package com.YourInventory.InventoryManagementSystem.repositories;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
 import com.YourInventory.InventoryManagementSystem.model.Transaction;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.MonthlyTotal;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductDailySales;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductSalesSummary;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.TransactionTypeSummary;
 
 public interface TransactionRepository extends JpaRepository<Transaction , Long>, JpaSpecificationExecutor<Transaction>{
 
+    // Listings and detail reads fetch product (with its category), user and supplier in the same
+    // query, so mapping them to DTOs issues no further SELECTs
+    @Override
+    @EntityGraph(Transaction.WITH_ASSOCIATIONS)
+    Page<Transaction> findAll(Pageable pageable);
+
+    @EntityGraph(Transaction.WITH_ASSOCIATIONS)
+    Optional<Transaction> findWithAssociationsById(Long id);
+
+    @EntityGraph(Transaction.WITH_ASSOCIATIONS)
     Page<Transaction> findByTransactionType(TransactionType transactionType, Pageable pageable);
 
+    // Keyset pages, newest first, for cursor pagination: a seek on (created_at, id) and no count query
+    @EntityGraph(Transaction.WITH_ASSOCIATIONS)
+    Slice<Transaction> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    @EntityGraph(Transaction.WITH_ASSOCIATIONS)
+    @Query("SELECT t FROM Transaction t WHERE t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    Slice<Transaction> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(Transaction.WITH_ASSOCIATIONS)
+    Slice<Transaction> findByTransactionTypeOrderByCreatedAtDescIdDesc(TransactionType transactionType, Pageable pageable);
+
+    @EntityGraph(Transaction.WITH_ASSOCIATIONS)
+    @Query("SELECT t FROM Transaction t WHERE t.transactionType = :type " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    Slice<Transaction> findPageByTypeAfter(@Param("type") TransactionType type, @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id, Pageable pageable);
+
     List<Transaction> findByProductId(Long productId);
+
+    // Product is fetched with the row because the dashboard reads it off the request thread
+    @EntityGraph(attributePaths = "product")
+    List<Transaction> findTop10ByCreatedAtAfterOrderByCreatedAtDesc(LocalDateTime createdAt);
+
+    @Query("SELECT t.transactionType AS transactionType, COUNT(t) AS transactionCount, " +
+            "COALESCE(SUM(t.totalPrice), 0) AS totalPrice FROM Transaction t GROUP BY t.transactionType")
+    List<TransactionTypeSummary> summarizeByType();
+
+    @Query("SELECT COALESCE(SUM(t.totalPrice), 0) FROM Transaction t WHERE t.transactionType = :type")
+    BigDecimal sumTotalPriceByType(@Param("type") TransactionType type);
+
+    @Query("SELECT p.id AS productId, p.name AS productName, SUM(t.totalProduct) AS quantitySold " +
+            "FROM Transaction t JOIN t.product p WHERE t.transactionType = :type " +
+            "GROUP BY p.id, p.name ORDER BY SUM(t.totalProduct) DESC")
+    List<ProductSalesSummary> findTopProductsByQuantity(@Param("type") TransactionType type, Pageable pageable);
+
+    @Query("SELECT YEAR(t.createdAt) AS bucketYear, MONTH(t.createdAt) AS bucketMonth, " +
+            "COALESCE(SUM(t.totalPrice), 0) AS totalPrice FROM Transaction t " +
+            "WHERE t.transactionType = :type AND t.createdAt > :since " +
+            "GROUP BY YEAR(t.createdAt), MONTH(t.createdAt)")
+    List<MonthlyTotal> sumTotalPriceByMonth(@Param("type") TransactionType type, @Param("since") LocalDateTime since);
+
+    @Query("SELECT t.product.id AS productId, CAST(t.createdAt AS LocalDate) AS saleDate, SUM(t.totalProduct) AS quantity " +
+            "FROM Transaction t WHERE t.transactionType = :type AND t.createdAt >= :since " +
+            "GROUP BY t.product.id, CAST(t.createdAt AS LocalDate)")
+    List<ProductDailySales> sumQuantityByProductAndDay(@Param("type") TransactionType type, @Param("since") LocalDateTime since);
 }
@@ -0,0 +1,4 @@
+package com.YourInventory.InventoryManagementSystem.repositories.projections;
+
+public record CategoryListItem(Long id, String name) {
+}
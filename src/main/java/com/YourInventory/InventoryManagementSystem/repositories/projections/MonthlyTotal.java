@@ -0,0 +1,16 @@
+package com.YourInventory.InventoryManagementSystem.repositories.projections;
+
+import java.math.BigDecimal;
+
+public interface MonthlyTotal {
+
+    Integer getBucketYear();
+
+    Integer getBucketMonth();
+
+    BigDecimal getTotalPrice();
+
+    default String getBucketKey() {
+        return getBucketYear() + "-" + String.format("%02d", getBucketMonth());
+    }
+}
@@ -0,0 +1,8 @@
+package com.YourInventory.InventoryManagementSystem.repositories.projections;
+
+public interface MovementReplay {
+
+    Long getDelta();
+
+    Long getMovements();
+}
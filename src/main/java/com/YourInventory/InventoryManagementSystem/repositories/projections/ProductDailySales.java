@@ -0,0 +1,12 @@
+package com.YourInventory.InventoryManagementSystem.repositories.projections;
+
+import java.time.LocalDate;
+
+public interface ProductDailySales {
+
+    Long getProductId();
+
+    LocalDate getSaleDate();
+
+    Long getQuantity();
+}
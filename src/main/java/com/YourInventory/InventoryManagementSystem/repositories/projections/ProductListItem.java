@@ -0,0 +1,23 @@
+package com.YourInventory.InventoryManagementSystem.repositories.projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// The product columns a listing returns, selected straight from the table; categoryId is read
+// from the foreign key, so the category row is never joined
+public record ProductListItem(
+        Long id,
+        Long categoryId,
+        String name,
+        String sku,
+        BigDecimal price,
+        Integer stockQuantity,
+        Integer reorderPoint,
+        Integer safetyStock,
+        Boolean needsReorder,
+        Boolean reorderUrgent,
+        String description,
+        LocalDateTime expiryDate,
+        String imageUrl,
+        LocalDateTime createdAt) {
+}
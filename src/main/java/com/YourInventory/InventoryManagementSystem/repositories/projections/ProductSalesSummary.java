@@ -0,0 +1,10 @@
+package com.YourInventory.InventoryManagementSystem.repositories.projections;
+
+public interface ProductSalesSummary {
+
+    Long getProductId();
+
+    String getProductName();
+
+    Long getQuantitySold();
+}
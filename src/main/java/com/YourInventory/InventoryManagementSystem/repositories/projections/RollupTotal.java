@@ -0,0 +1,15 @@
+package com.YourInventory.InventoryManagementSystem.repositories.projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface RollupTotal {
+
+    LocalDate getBucketStart();
+
+    Long getQuantity();
+
+    BigDecimal getRevenue();
+
+    Long getTransactionCount();
+}
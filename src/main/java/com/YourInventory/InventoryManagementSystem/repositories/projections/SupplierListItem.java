@@ -0,0 +1,4 @@
+package com.YourInventory.InventoryManagementSystem.repositories.projections;
+
+public record SupplierListItem(Long id, String name, String contactInfo, String address) {
+}
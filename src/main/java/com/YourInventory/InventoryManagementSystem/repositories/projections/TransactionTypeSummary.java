@@ -0,0 +1,14 @@
+package com.YourInventory.InventoryManagementSystem.repositories.projections;
+
+import java.math.BigDecimal;
+
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+
+public interface TransactionTypeSummary {
+
+    TransactionType getTransactionType();
+
+    Long getTransactionCount();
+
+    BigDecimal getTotalPrice();
+}
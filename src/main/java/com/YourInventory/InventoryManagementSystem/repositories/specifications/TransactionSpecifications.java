@@ -0,0 +1,82 @@
+package com.YourInventory.InventoryManagementSystem.repositories.specifications;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionSearchRequest;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+
+import jakarta.persistence.criteria.Path;
+
+// Building blocks for transaction search. A null argument yields a null specification, which
+// Specification.and skips, so only the filters actually given end up in the WHERE clause.
+// Product, supplier and user are compared on the foreign key column, without a join.
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> matching(TransactionSearchRequest request) {
+        return Specification.where(hasType(request.getType()))
+                .and(hasStatus(request.getStatus()))
+                .and(forProduct(request.getProductId()))
+                .and(fromSupplier(request.getSupplierId()))
+                .and(byUser(request.getUserId()))
+                .and(createdFrom(request.getFrom()))
+                .and(createdBefore(request.getTo()))
+                .and(pricedAtLeast(request.getMinPrice()))
+                .and(pricedAtMost(request.getMaxPrice()));
+    }
+
+    public static Specification<Transaction> hasType(TransactionType type) {
+        return type == null ? null : (root, query, cb) -> cb.equal(root.get("transactionType"), type);
+    }
+
+    public static Specification<Transaction> hasStatus(TransactionStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("transactionStatus"), status);
+    }
+
+    public static Specification<Transaction> forProduct(Long productId) {
+        return productId == null ? null : (root, query, cb) -> cb.equal(root.get("product").get("id"), productId);
+    }
+
+    public static Specification<Transaction> fromSupplier(Long supplierId) {
+        return supplierId == null ? null : (root, query, cb) -> cb.equal(root.get("supplier").get("id"), supplierId);
+    }
+
+    public static Specification<Transaction> byUser(Long userId) {
+        return userId == null ? null : (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Transaction> createdFrom(LocalDateTime from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Transaction> createdBefore(LocalDateTime to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+
+    public static Specification<Transaction> pricedAtLeast(BigDecimal minPrice) {
+        return minPrice == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("totalPrice"), minPrice);
+    }
+
+    public static Specification<Transaction> pricedAtMost(BigDecimal maxPrice) {
+        return maxPrice == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("totalPrice"), maxPrice);
+    }
+
+    // Rows strictly after (value, id) in the (attribute, id) order, for keyset paging
+    public static <T extends Comparable<? super T>> Specification<Transaction> after(String attribute, boolean ascending,
+                                                                                    T value, Long id) {
+        return (root, query, cb) -> {
+            Path<T> key = root.get(attribute);
+            Path<Long> rowId = root.get("id");
+            return ascending
+                    ? cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(rowId, id)))
+                    : cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(rowId, id)));
+        };
+    }
+}
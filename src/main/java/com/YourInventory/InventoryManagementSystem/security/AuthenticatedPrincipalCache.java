@@ -0,0 +1,69 @@
+package com.YourInventory.InventoryManagementSystem.security;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+// Principals the JWT filter has already loaded, keyed by token subject and issue time, so a client
+// reusing its token is authenticated without reading the user again. Entries live for a short TTL
+// and are evicted as soon as UserService changes or deletes the user; the TTL alone bounds how
+// long another instance can serve a stale role.
+@Component
+public class AuthenticatedPrincipalCache {
+
+    @Value("${security.principal-cache.ttl-ms:60000}")
+    private long ttlMillis;
+
+    private final Map<Key, Entry> principals;
+
+    private record Key(String subject, long issuedAt) {
+    }
+
+    private record Entry(UserDetails principal, long expiresAt) {
+    }
+
+    public AuthenticatedPrincipalCache(@Value("${security.principal-cache.size:10000}") int size) {
+        this.principals = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    public UserDetails get(String subject, Date issuedAt, Supplier<UserDetails> loader) {
+        Key key = new Key(subject, issuedAt == null ? 0L : issuedAt.getTime());
+        long now = System.currentTimeMillis();
+        synchronized (principals) {
+            Entry cached = principals.get(key);
+            if (cached != null && cached.expiresAt() > now) {
+                return cached.principal();
+            }
+        }
+
+        // Loaded outside the lock; two concurrent misses for one token both read, which is harmless
+        UserDetails principal = loader.get();
+        synchronized (principals) {
+            principals.put(key, new Entry(principal, now + ttlMillis));
+        }
+        return principal;
+    }
+
+    // Drops every cached token of the user, whatever its issue time
+    public void evict(String subject) {
+        synchronized (principals) {
+            principals.keySet().removeIf(key -> key.subject().equals(subject));
+        }
+    }
+
+    public void clear() {
+        synchronized (principals) {
+            principals.clear();
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.YourInventory.InventoryManagementSystem.security;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -13,6 +17,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.YourInventory.InventoryManagementSystem.utils.JwtUtil;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,12 +35,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private AuthenticatedPrincipalCache principalCache;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    // Build the principal from the token's role claim alone, never reading the user
+    @Value("${security.principal-cache.claims-only:false}")
+    private boolean claimsOnly;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
+        final Claims claims;
         final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -42,12 +60,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        userEmail = jwtUtil.extractUsername(jwt);
+        // Verified once; the subject, issue time, role and expiry all come from these claims.
+        // An expired or malformed token leaves the request anonymous, so the entry point answers
+        // 401 and the client knows to refresh.
+        try {
+            claims = jwtUtil.extractAllClaims(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        userEmail = claims.getSubject();
 
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+        // A revoked token authenticates nothing; the request continues anonymous and is refused
+        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && !revocationList.isRevoked(claims)) {
+            UserDetails userDetails = loadPrincipal(claims, userEmail);
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            if (jwtUtil.validateToken(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -59,4 +88,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails loadPrincipal(Claims claims, String userEmail) {
+        if (claimsOnly) {
+            String role = claims.get("role", String.class);
+            // Tokens issued without a role claim still need the user row
+            if (role != null) {
+                return new User(userEmail, "", List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+            }
+        }
+        return principalCache.get(userEmail, claims.getIssuedAt(),
+                () -> userDetailsService.loadUserByUsername(userEmail));
+    }
 }
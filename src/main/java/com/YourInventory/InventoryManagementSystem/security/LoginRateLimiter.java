@@ -0,0 +1,82 @@
+package com.YourInventory.InventoryManagementSystem.security;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.YourInventory.InventoryManagementSystem.exceptions.TooManyRequestsException;
+
+// Token buckets for login attempts, one per account and one per client IP, checked before any
+// password is hashed. The IP bucket is deliberately large: an office or mobile carrier puts many
+// users behind one address, so it only stops floods, and the account bucket stops guessing.
+// A bucket is an immutable (tokens, refilledAt) pair swapped with compare-and-set, so concurrent
+// logins never take a lock. Buckets that have refilled completely carry no state and are dropped
+// by the periodic purge.
+@Component
+public class LoginRateLimiter {
+
+    @Value("${auth.rate-limit.account.capacity:5}")
+    private int accountCapacity;
+
+    @Value("${auth.rate-limit.account.refill-per-minute:5}")
+    private double accountRefillPerMinute;
+
+    @Value("${auth.rate-limit.ip.capacity:300}")
+    private int ipCapacity;
+
+    @Value("${auth.rate-limit.ip.refill-per-minute:600}")
+    private double ipRefillPerMinute;
+
+    private final ConcurrentMap<String, AtomicReference<Bucket>> buckets = new ConcurrentHashMap<>();
+
+    private record Bucket(double tokens, long refilledAt) {
+
+        Bucket refill(long now, int capacity, double refillPerMinute) {
+            double refilled = tokens + (now - refilledAt) * refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+            return new Bucket(Math.min(capacity, refilled), now);
+        }
+    }
+
+    // Takes one token from the client's IP bucket and one from the account's, or throws
+    public void acquire(String email, String clientIp) {
+        if (clientIp != null && !tryAcquire("ip:" + clientIp, ipCapacity, ipRefillPerMinute)) {
+            throw new TooManyRequestsException("Too many login attempts from this address, please retry later");
+        }
+        if (email != null && !tryAcquire("account:" + email.trim().toLowerCase(Locale.ROOT),
+                accountCapacity, accountRefillPerMinute)) {
+            throw new TooManyRequestsException("Too many login attempts for this account, please retry later");
+        }
+    }
+
+    private boolean tryAcquire(String key, int capacity, double refillPerMinute) {
+        AtomicReference<Bucket> bucket = buckets.computeIfAbsent(key,
+                ignored -> new AtomicReference<>(new Bucket(capacity, System.nanoTime())));
+        while (true) {
+            Bucket current = bucket.get();
+            Bucket refilled = current.refill(System.nanoTime(), capacity, refillPerMinute);
+            if (refilled.tokens() < 1) {
+                return false;
+            }
+            if (bucket.compareAndSet(current, new Bucket(refilled.tokens() - 1, refilled.refilledAt()))) {
+                return true;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.rate-limit.purge-interval-ms:60000}")
+    public void purgeFullBuckets() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> {
+            boolean account = entry.getKey().startsWith("account:");
+            Bucket refilled = entry.getValue().get().refill(now,
+                    account ? accountCapacity : ipCapacity, account ? accountRefillPerMinute : ipRefillPerMinute);
+            return refilled.tokens() >= (account ? accountCapacity : ipCapacity);
+        });
+    }
+}
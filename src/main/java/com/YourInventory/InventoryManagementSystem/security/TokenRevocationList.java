@@ -0,0 +1,119 @@
+package com.YourInventory.InventoryManagementSystem.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+
+// Access tokens revoked before their expiry: one token by its id (logout), or every token of a
+// subject issued up to a cutoff (user deleted). Each request first asks a Bloom filter, which
+// answers "not revoked" for almost every token without touching the exact map; only a possible
+// match is confirmed there. An entry is needed only while tokens it covers can still be valid,
+// so the purge drops entries older than one access-token lifetime and rebuilds the filter.
+// The list is per instance and in memory: after a restart, or on another instance, a revoked
+// access token lives at most until it expires, and its refresh token is already gone.
+@Component
+public class TokenRevocationList {
+
+    private static final String TOKEN = "jti:";
+
+    private static final String SUBJECT = "sub:";
+
+    // Revoked key -> epoch millis: the revocation time for a token, the issue cutoff for a subject
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private final int bits;
+
+    private final int hashes;
+
+    private volatile AtomicLongArray filter;
+
+    @Value("${jwt.expiration:900000}")
+    private long accessTokenLifetimeMs;
+
+    public TokenRevocationList(@Value("${security.revocation.expected-entries:10000}") int expectedEntries) {
+        // About 1% false positives at the expected size: 9.6 bits and 7 hashes per entry
+        this.bits = Math.max(64, (int) Math.ceil(expectedEntries * 9.6));
+        this.hashes = 7;
+        this.filter = new AtomicLongArray((bits + 63) / 64);
+    }
+
+    public void revokeToken(String tokenId) {
+        if (tokenId != null) {
+            add(TOKEN + tokenId, System.currentTimeMillis());
+        }
+    }
+
+    // Revokes every token of the subject issued up to now. Issue times have one-second resolution,
+    // so a token issued later in the same second is revoked too.
+    public void revokeSubject(String subject) {
+        add(SUBJECT + subject, System.currentTimeMillis());
+    }
+
+    public boolean isRevoked(Claims claims) {
+        if (claims.getId() != null && mightContain(TOKEN + claims.getId())
+                && revoked.containsKey(TOKEN + claims.getId())) {
+            return true;
+        }
+        if (claims.getSubject() != null && mightContain(SUBJECT + claims.getSubject())) {
+            Long cutoff = revoked.get(SUBJECT + claims.getSubject());
+            return cutoff != null && (claims.getIssuedAt() == null || claims.getIssuedAt().getTime() <= cutoff);
+        }
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long horizon = System.currentTimeMillis() - accessTokenLifetimeMs;
+        revoked.values().removeIf(revokedAt -> revokedAt < horizon);
+        AtomicLongArray rebuilt = new AtomicLongArray(filter.length());
+        revoked.keySet().forEach(key -> set(rebuilt, key));
+        // A revocation racing the rebuild may miss the new filter, so it is set once more
+        filter = rebuilt;
+        revoked.keySet().forEach(key -> set(rebuilt, key));
+    }
+
+    private void add(String key, long at) {
+        revoked.merge(key, at, Math::max);
+        set(filter, key);
+    }
+
+    private void set(AtomicLongArray target, String key) {
+        long hash1 = mix(key.hashCode());
+        long hash2 = mix(hash1 ^ key.length());
+        for (int i = 0; i < hashes; i++) {
+            int bit = (int) Long.remainderUnsigned(hash1 + i * hash2, bits);
+            long mask = 1L << (bit & 63);
+            long word;
+            do {
+                word = target.get(bit >>> 6);
+            } while ((word & mask) == 0 && !target.compareAndSet(bit >>> 6, word, word | mask));
+        }
+    }
+
+    private boolean mightContain(String key) {
+        AtomicLongArray current = filter;
+        long hash1 = mix(key.hashCode());
+        long hash2 = mix(hash1 ^ key.length());
+        for (int i = 0; i < hashes; i++) {
+            int bit = (int) Long.remainderUnsigned(hash1 + i * hash2, bits);
+            if ((current.get(bit >>> 6) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // SplitMix64 finalizer, spreading String.hashCode over 64 bits
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
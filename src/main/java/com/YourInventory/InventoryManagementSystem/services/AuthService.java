@@ -1,23 +1,39 @@
 package com.YourInventory.InventoryManagementSystem.services;
 
-import org.modelmapper.ModelMapper;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import com.YourInventory.InventoryManagementSystem.dtos.LoginRequest;
+import com.YourInventory.InventoryManagementSystem.dtos.RefreshRequest;
 import com.YourInventory.InventoryManagementSystem.dtos.RegisterRequest;
 import com.YourInventory.InventoryManagementSystem.dtos.Response;
 import com.YourInventory.InventoryManagementSystem.dtos.UserDTO;
 import com.YourInventory.InventoryManagementSystem.enums.UserRole;
 import com.YourInventory.InventoryManagementSystem.exceptions.InavlidCredentialsException;
 import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.exceptions.TooManyRequestsException;
+import com.YourInventory.InventoryManagementSystem.mappers.UserMapper;
 import com.YourInventory.InventoryManagementSystem.model.User;
 import com.YourInventory.InventoryManagementSystem.repositories.UserRepository;
+import com.YourInventory.InventoryManagementSystem.security.LoginRateLimiter;
+import com.YourInventory.InventoryManagementSystem.security.TokenRevocationList;
 import com.YourInventory.InventoryManagementSystem.utils.JwtUtil;
 
+import io.jsonwebtoken.JwtException;
+
 @Service
 public class AuthService {
 
@@ -34,7 +50,24 @@ public class AuthService {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    @Qualifier("loginExecutor")
+    private ThreadPoolTaskExecutor loginExecutor;
+
+    // Longest a login may sit in the queue before it is turned away; a check that has started runs to the end
+    @Value("${auth.login.queue-timeout-ms:2000}")
+    private long queueTimeoutMs;
 
     public Response register(RegisterRequest registerRequest) {
         try {
@@ -58,7 +91,7 @@ public class AuthService {
                     .build();
 
             User savedUser = userRepository.save(user);
-            UserDTO userDTO = modelMapper.map(savedUser, UserDTO.class);
+            UserDTO userDTO = userMapper.toDTO(savedUser);
 
             return Response.builder()
                     .status(200)
@@ -71,33 +104,96 @@ public class AuthService {
         }
     }
 
-    public Response login(LoginRequest loginRequest) {
+    public Response login(LoginRequest loginRequest, String clientIp) {
+        // Throttled attempts are refused before any password is hashed
+        loginRateLimiter.acquire(loginRequest.getEmail(), clientIp);
         try {
-            // Authenticate user
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            loginRequest.getEmail(),
-                            loginRequest.getPassword()
-                    )
-            );
+            // Authenticate user on the bounded login pool
+            authenticate(loginRequest);
 
             // Get user details
             User user = userRepository.findByEmail(loginRequest.getEmail())
                     .orElseThrow(() -> new InavlidCredentialsException("Invalid email or password"));
 
-            // Generate JWT token
-            String token = jwtUtil.generateToken(user.getEmail(), user.getRole().name());
-
-            return Response.builder()
-                    .status(200)
-                    .message("Login successful")
-                    .token(token)
-                    .role(user.getRole())
-                    .expirationTime(jwtUtil.getExpirationTime())
-                    .build();
+            return tokens(user, "Login successful");
 
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             throw new InavlidCredentialsException("Invalid email or password");
         }
     }
+
+    // Rotates the refresh token and issues an access token carrying the user's current role
+    public Response refresh(RefreshRequest refreshRequest) {
+        Long userId = refreshTokenService.redeem(refreshRequest.getRefreshToken());
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new InavlidCredentialsException("Invalid refresh token"));
+        return tokens(user, "Token refreshed successfully");
+    }
+
+    public Response logout(RefreshRequest refreshRequest, String accessToken) {
+        refreshTokenService.revoke(refreshRequest.getRefreshToken());
+        if (accessToken != null) {
+            try {
+                revocationList.revokeToken(jwtUtil.extractAllClaims(accessToken).getId());
+            } catch (JwtException e) {
+                // Expired or invalid: it authenticates nothing already
+            }
+        }
+
+        return Response.builder()
+                .status(200)
+                .message("Logout successful")
+                .build();
+    }
+
+    private Response tokens(User user, String message) {
+        String token = jwtUtil.generateToken(user.getEmail(), user.getRole().name());
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        return Response.builder()
+                .status(200)
+                .message(message)
+                .token(token)
+                .refreshToken(refreshToken)
+                .role(user.getRole())
+                .expirationTime(jwtUtil.getExpirationTime())
+                .build();
+    }
+
+    private void authenticate(LoginRequest loginRequest) throws Exception {
+        // Whoever sets this first decides: the pool thread starting the check, or the caller giving up on it
+        AtomicBoolean claimed = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+        Future<?> check;
+        try {
+            check = loginExecutor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                started.countDown();
+                return authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(
+                                loginRequest.getEmail(),
+                                loginRequest.getPassword()
+                        )
+                );
+            });
+        } catch (TaskRejectedException e) {
+            throw new TooManyRequestsException("Login service is busy, please retry shortly");
+        }
+
+        // Only the wait in the queue is bounded; a check already hashing finishes, as BCrypt is bounded itself
+        if (!started.await(queueTimeoutMs, TimeUnit.MILLISECONDS) && claimed.compareAndSet(false, true)) {
+            // Still queued: it will skip the hash when a thread reaches it
+            check.cancel(false);
+            throw new TooManyRequestsException("Login service is busy, please retry shortly");
+        }
+        try {
+            check.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
 }
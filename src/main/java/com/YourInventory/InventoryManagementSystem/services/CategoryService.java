@@ -3,7 +3,6 @@ package com.YourInventory.InventoryManagementSystem.services;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -15,8 +14,10 @@ import com.YourInventory.InventoryManagementSystem.dtos.CategoryDTO;
 import com.YourInventory.InventoryManagementSystem.dtos.Response;
 import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
 import com.YourInventory.InventoryManagementSystem.exceptions.NotFoundException;
+import com.YourInventory.InventoryManagementSystem.mappers.CategoryMapper;
 import com.YourInventory.InventoryManagementSystem.model.Category;
 import com.YourInventory.InventoryManagementSystem.repositories.CategoryRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.CategoryListItem;
 
 @Service
 public class CategoryService {
@@ -25,14 +26,14 @@ public class CategoryService {
     private CategoryRepository categoryRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private CategoryMapper categoryMapper;
 
     public Response getAllCategories(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("name").ascending());
-        Page<Category> categoryPage = categoryRepository.findAll(pageable);
+        Page<CategoryListItem> categoryPage = categoryRepository.findListItems(pageable);
 
         List<CategoryDTO> categoryDTOs = categoryPage.getContent().stream()
-                .map(category -> modelMapper.map(category, CategoryDTO.class))
+                .map(category -> categoryMapper.toDTO(category))
                 .collect(Collectors.toList());
 
         return Response.builder()
@@ -45,10 +46,10 @@ public class CategoryService {
     }
 
     public Response getAllCategoriesWithoutPagination() {
-        List<Category> categories = categoryRepository.findAll(Sort.by("name").ascending());
+        List<CategoryListItem> categories = categoryRepository.findListItems(Sort.by("name").ascending());
 
         List<CategoryDTO> categoryDTOs = categories.stream()
-                .map(category -> modelMapper.map(category, CategoryDTO.class))
+                .map(category -> categoryMapper.toDTO(category))
                 .collect(Collectors.toList());
 
         return Response.builder()
@@ -62,7 +63,7 @@ public class CategoryService {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new NotFoundException("Category not found with id: " + categoryId));
 
-        CategoryDTO categoryDTO = modelMapper.map(category, CategoryDTO.class);
+        CategoryDTO categoryDTO = categoryMapper.toDTO(category);
 
         return Response.builder()
                 .status(200)
@@ -86,7 +87,7 @@ public class CategoryService {
                 .build();
 
         Category savedCategory = categoryRepository.save(category);
-        CategoryDTO savedCategoryDTO = modelMapper.map(savedCategory, CategoryDTO.class);
+        CategoryDTO savedCategoryDTO = categoryMapper.toDTO(savedCategory);
 
         return Response.builder()
                 .status(200)
@@ -111,7 +112,7 @@ public class CategoryService {
         existingCategory.setName(categoryDTO.getName().trim());
 
         Category updatedCategory = categoryRepository.save(existingCategory);
-        CategoryDTO updatedCategoryDTO = modelMapper.map(updatedCategory, CategoryDTO.class);
+        CategoryDTO updatedCategoryDTO = categoryMapper.toDTO(updatedCategory);
 
         return Response.builder()
                 .status(200)
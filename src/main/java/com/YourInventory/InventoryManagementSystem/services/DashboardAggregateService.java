@@ -0,0 +1,126 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.events.StockChangedEvent;
+import com.YourInventory.InventoryManagementSystem.events.TransactionRecordedEvent;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.TransactionTypeSummary;
+import com.YourInventory.InventoryManagementSystem.utils.RebuildBarrier;
+
+// Keeps the dashboard totals in memory so the overview does not scan the transaction
+// and product tables. Seeded from the database on startup, then moved by the write paths.
+// The RebuildBarrier keeps a rebuild from counting a change that its snapshot already holds.
+@Service
+public class DashboardAggregateService {
+
+    public static final int LOW_STOCK_THRESHOLD = 10;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final Map<TransactionType, LongAdder> transactionCounts = new EnumMap<>(TransactionType.class);
+    private final Map<TransactionType, AtomicReference<BigDecimal>> transactionTotals = new EnumMap<>(TransactionType.class);
+    private final AtomicLong totalStock = new AtomicLong();
+    private final AtomicLong lowStockCount = new AtomicLong();
+
+    private final RebuildBarrier barrier = new RebuildBarrier();
+
+    public DashboardAggregateService() {
+        for (TransactionType type : TransactionType.values()) {
+            transactionCounts.put(type, new LongAdder());
+            transactionTotals.put(type, new AtomicReference<>(BigDecimal.ZERO));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        barrier.rebuild(() -> {
+            // Read everything first, so the totals are replaced together
+            List<TransactionTypeSummary> summaries = transactionRepository.summarizeByType();
+            long stock = productRepository.sumStockQuantity();
+            long lowStock = productRepository.countByStockQuantityLessThanEqual(LOW_STOCK_THRESHOLD);
+
+            for (TransactionType type : TransactionType.values()) {
+                transactionCounts.get(type).reset();
+                transactionTotals.get(type).set(BigDecimal.ZERO);
+            }
+            for (TransactionTypeSummary summary : summaries) {
+                transactionCounts.get(summary.getTransactionType()).add(summary.getTransactionCount());
+                transactionTotals.get(summary.getTransactionType()).set(summary.getTotalPrice());
+            }
+            totalStock.set(stock);
+            lowStockCount.set(lowStock);
+        });
+    }
+
+    @EventListener
+    public void onTransactionRecorded(TransactionRecordedEvent event) {
+        barrier.afterCommit(() -> {
+            transactionCounts.get(event.transactionType()).increment();
+            transactionTotals.get(event.transactionType()).accumulateAndGet(event.totalPrice(), BigDecimal::add);
+        });
+    }
+
+    @EventListener
+    public void onStockChanged(StockChangedEvent event) {
+        barrier.afterCommit(() -> {
+            totalStock.addAndGet(event.delta());
+
+            boolean wasLow = isLowStock(event.previousQuantity());
+            boolean isLow = isLowStock(event.newQuantity());
+            if (!wasLow && isLow) {
+                lowStockCount.incrementAndGet();
+            } else if (wasLow && !isLow) {
+                lowStockCount.decrementAndGet();
+            }
+        });
+    }
+
+    public BigDecimal getTotal(TransactionType type) {
+        return transactionTotals.get(type).get();
+    }
+
+    public Map<TransactionType, Long> getTransactionTypeDistribution() {
+        Map<TransactionType, Long> distribution = new EnumMap<>(TransactionType.class);
+        transactionCounts.forEach((type, count) -> {
+            long value = count.sum();
+            if (value > 0) {
+                distribution.put(type, value);
+            }
+        });
+        return distribution;
+    }
+
+    public long getTotalStock() {
+        return totalStock.get();
+    }
+
+    public long getLowStockCount() {
+        return lowStockCount.get();
+    }
+
+    private boolean isLowStock(Integer quantity) {
+        return quantity != null && quantity <= LOW_STOCK_THRESHOLD;
+    }
+}
@@ -0,0 +1,112 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+// Runs independent dashboard sections concurrently, each with its own time budget.
+// A section that misses its budget or fails is served from its last good value (STALE)
+// or left out (MISSING); the remaining sections are still returned. A section that misses
+// its budget is cancelled, which interrupts its loader or drops it from the queue.
+@Service
+public class DashboardAssembler {
+
+    public static final String SECTION_STATUS_KEY = "sectionStatus";
+
+    @Autowired
+    @Qualifier("dashboardExecutor")
+    private ThreadPoolTaskExecutor dashboardExecutor;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${dashboard.sections.default-timeout-ms:2000}")
+    private long defaultTimeoutMs;
+
+    private final Map<String, Map<String, Object>> lastGoodValues = new ConcurrentHashMap<>();
+
+    public enum SectionStatus {
+        OK,
+        STALE,
+        MISSING
+    }
+
+    public record Section(String name, Supplier<Map<String, Object>> loader) {
+    }
+
+    public Map<String, Object> assemble(String dashboard, List<Section> sections) {
+        long startedAt = System.nanoTime();
+
+        List<Future<Map<String, Object>>> futures = new ArrayList<>(sections.size());
+        for (Section section : sections) {
+            Future<Map<String, Object>> future;
+            try {
+                future = dashboardExecutor.submit(() -> section.loader().get());
+            } catch (RejectedExecutionException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(future);
+        }
+
+        Map<String, Object> data = new HashMap<>();
+        Map<String, SectionStatus> statuses = new LinkedHashMap<>();
+
+        for (int i = 0; i < sections.size(); i++) {
+            Section section = sections.get(i);
+            String cacheKey = dashboard + "." + section.name();
+            long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(timeoutFor(section.name()));
+
+            try {
+                Map<String, Object> values = futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                lastGoodValues.put(cacheKey, values);
+                data.putAll(values);
+                statuses.put(section.name(), SectionStatus.OK);
+            } catch (TimeoutException | ExecutionException e) {
+                futures.get(i).cancel(true);
+                Map<String, Object> lastGood = lastGoodValues.get(cacheKey);
+                if (lastGood != null) {
+                    data.putAll(lastGood);
+                    statuses.put(section.name(), SectionStatus.STALE);
+                } else {
+                    statuses.put(section.name(), SectionStatus.MISSING);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.get(i).cancel(true);
+                statuses.put(section.name(), SectionStatus.MISSING);
+            }
+        }
+
+        data.put(SECTION_STATUS_KEY, statuses);
+        return data;
+    }
+
+    public static boolean isComplete(Object data) {
+        if (!(data instanceof Map<?, ?> map) || !(map.get(SECTION_STATUS_KEY) instanceof Map<?, ?> statuses)) {
+            return true;
+        }
+        return statuses.values().stream().allMatch(status -> status == SectionStatus.OK);
+    }
+
+    // dashboard.sections.<section>.timeout-ms overrides the default budget for one section
+    private long timeoutFor(String section) {
+        return environment.getProperty("dashboard.sections." + section + ".timeout-ms", Long.class, defaultTimeoutMs);
+    }
+}
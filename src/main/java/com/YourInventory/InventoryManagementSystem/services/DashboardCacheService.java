@@ -0,0 +1,139 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.events.StockChangedEvent;
+import com.YourInventory.InventoryManagementSystem.events.TransactionRecordedEvent;
+
+// Caches computed dashboard payloads. An entry is served until it is older than the
+// staleness bound or a product/transaction write bumps the generation. Concurrent misses
+// on the same key wait for a single computation instead of each running their own.
+@Service
+public class DashboardCacheService {
+
+    @Value("${dashboard.cache.max-staleness-ms:5000}")
+    private long maxStalenessMs;
+
+    private final Map<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private record CachedResponse(Response response, long computedAt, long generation) {
+    }
+
+    public Response get(String key, Supplier<Response> loader) {
+        return get(key, loader, response -> true);
+    }
+
+    // Responses rejected by the predicate are returned to the caller but not stored
+    public Response get(String key, Supplier<Response> loader, Predicate<Response> cacheable) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && isFresh(cached)) {
+            hits.increment();
+            return cached.response();
+        }
+
+        CompletableFuture<Response> computation = new CompletableFuture<>();
+        CompletableFuture<Response> existing = inFlight.putIfAbsent(key, computation);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            // A computation that finished between the read above and the claim has already stored its
+            // entry; serve that rather than computing the same value again
+            CachedResponse latest = entries.get(key);
+            if (latest != null && isFresh(latest)) {
+                hits.increment();
+                computation.complete(latest.response());
+                return latest.response();
+            }
+
+            misses.increment();
+            // Read the generation before computing so a write that lands mid-computation leaves the entry stale
+            long startGeneration = generation.get();
+            Response response = loader.get();
+            // Stored before the in-flight claim is released, so no later miss can find neither
+            if (cacheable.test(response)) {
+                entries.put(key, new CachedResponse(response, System.currentTimeMillis(), startGeneration));
+            }
+            computation.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            // Waiters get the same failure instead of blocking forever
+            computation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, computation);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        invalidations.increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionRecorded(TransactionRecordedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        invalidateAll();
+    }
+
+    public Response getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("entries", entries.size());
+        stats.put("maxStalenessMs", maxStalenessMs);
+
+        return Response.builder()
+                .status(200)
+                .message("Dashboard cache statistics retrieved successfully")
+                .data(stats)
+                .build();
+    }
+
+    private boolean isFresh(CachedResponse cached) {
+        return cached.generation() == generation.get()
+                && System.currentTimeMillis() - cached.computedAt() <= maxStalenessMs;
+    }
+
+    private Response await(CompletableFuture<Response> computation) {
+        try {
+            return computation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Service;
 
 import com.YourInventory.InventoryManagementSystem.dtos.Response;
 import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
 import com.YourInventory.InventoryManagementSystem.model.Product;
 import com.YourInventory.InventoryManagementSystem.model.Transaction;
 import com.YourInventory.InventoryManagementSystem.repositories.CategoryRepository;
@@ -23,10 +24,13 @@ import com.YourInventory.InventoryManagementSystem.repositories.ProductRepositor
 import com.YourInventory.InventoryManagementSystem.repositories.SupplierRepository;
 import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
 import com.YourInventory.InventoryManagementSystem.repositories.UserRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductSalesSummary;
 
 @Service
 public class DashboardService {
 
+    private static final int MAX_ALERT_PAGE_SIZE = 100;
+
     @Autowired
     private ProductRepository productRepository;
 
@@ -42,29 +46,71 @@ public class DashboardService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private DashboardAggregateService dashboardAggregateService;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
+    @Autowired
+    private DashboardAssembler dashboardAssembler;
+
+    @Autowired
+    private InventoryAlertEngine inventoryAlertEngine;
+
     public Response getDashboardOverview() {
-        Map<String, Object> dashboardData = new HashMap<>();
+        // Partial results are served but not cached, so the next request retries the missing sections
+        return dashboardCacheService.get("overview", this::computeDashboardOverview,
+                response -> DashboardAssembler.isComplete(response.getData()));
+    }
 
-        // Basic counts
-        dashboardData.put("totalProducts", productRepository.count());
-        dashboardData.put("totalCategories", categoryRepository.count());
-        dashboardData.put("totalSuppliers", supplierRepository.count());
-        dashboardData.put("totalUsers", userRepository.count());
-        dashboardData.put("totalTransactions", transactionRepository.count());
+    private Response computeDashboardOverview() {
+        List<DashboardAssembler.Section> sections = List.of(
+                // Basic counts
+                new DashboardAssembler.Section("totalProducts", () -> Map.of("totalProducts", productRepository.count())),
+                new DashboardAssembler.Section("totalCategories", () -> Map.of("totalCategories", categoryRepository.count())),
+                new DashboardAssembler.Section("totalSuppliers", () -> Map.of("totalSuppliers", supplierRepository.count())),
+                new DashboardAssembler.Section("totalUsers", () -> Map.of("totalUsers", userRepository.count())),
+                new DashboardAssembler.Section("totalTransactions", () -> Map.of("totalTransactions", transactionRepository.count())),
+                new DashboardAssembler.Section("stock", this::loadStockStatistics),
+                new DashboardAssembler.Section("lowStockProducts", this::loadLowStockProducts),
+                new DashboardAssembler.Section("recentTransactions", this::loadRecentTransactions),
+                new DashboardAssembler.Section("salesStatistics", this::loadSalesStatistics),
+                new DashboardAssembler.Section("transactionTypeDistribution", () -> Map.of(
+                        "transactionTypeDistribution", dashboardAggregateService.getTransactionTypeDistribution())),
+                new DashboardAssembler.Section("topSellingProducts", this::loadTopSellingProducts),
+                new DashboardAssembler.Section("monthlySalesTrend", this::loadMonthlySalesTrend)
+        );
+
+        Map<String, Object> dashboardData = dashboardAssembler.assemble("overview", sections);
 
-        // Stock statistics
-        List<Product> allProducts = productRepository.findAll();
-        int totalStock = allProducts.stream().mapToInt(Product::getStockQuantity).sum();
-        dashboardData.put("totalStock", totalStock);
+        return Response.builder()
+                .status(200)
+                .message(DashboardAssembler.isComplete(dashboardData)
+                        ? "Dashboard data retrieved successfully"
+                        : "Dashboard data partially retrieved")
+                .data(dashboardData)
+                .build();
+    }
+
+    private Map<String, Object> loadStockStatistics() {
+        Map<String, Object> stockData = new HashMap<>();
+        stockData.put("totalStock", dashboardAggregateService.getTotalStock());
+        stockData.put("lowStockCount", dashboardAggregateService.getLowStockCount());
+        stockData.put("needsReorderCount", productRepository.countByNeedsReorderTrue());
+        stockData.put("urgentReorderCount", productRepository.countByReorderUrgentTrue());
+        return stockData;
+    }
 
+    private Map<String, Object> loadLowStockProducts() {
         // Low stock products (threshold: 10)
-        int lowStockThreshold = 10;
-        List<Product> lowStockProducts = allProducts.stream()
-                .filter(product -> product.getStockQuantity() <= lowStockThreshold)
-                .collect(Collectors.toList());
-        dashboardData.put("lowStockCount", lowStockProducts.size());
-        dashboardData.put("lowStockProducts", lowStockProducts.stream()
-                .limit(5)
+        int lowStockThreshold = DashboardAggregateService.LOW_STOCK_THRESHOLD;
+        List<Product> lowStockProducts = productRepository.findTop5ByStockQuantityLessThanEqualOrderByIdAsc(lowStockThreshold);
+
+        return Map.of("lowStockProducts", lowStockProducts.stream()
                 .map(product -> {
                     Map<String, Object> productData = new HashMap<>();
                     productData.put("id", product.getId());
@@ -74,17 +120,16 @@ public class DashboardService {
                     return productData;
                 })
                 .collect(Collectors.toList()));
+    }
 
+    private Map<String, Object> loadRecentTransactions() {
         // Recent transactions (last 7 days)
         LocalDateTime weekAgo = LocalDateTime.now().minus(7, ChronoUnit.DAYS);
-        List<Transaction> recentTransactions = transactionRepository.findAll().stream()
-                .filter(transaction -> transaction.getCreatedAt().isAfter(weekAgo))
-                .sorted((t1, t2) -> t2.getCreatedAt().compareTo(t1.getCreatedAt()))
-                .limit(10)
-                .collect(Collectors.toList());
+        List<Transaction> recentTransactions = transactionRepository.findTop10ByCreatedAtAfterOrderByCreatedAtDesc(weekAgo);
 
-        dashboardData.put("recentTransactionsCount", recentTransactions.size());
-        dashboardData.put("recentTransactions", recentTransactions.stream()
+        Map<String, Object> recentData = new HashMap<>();
+        recentData.put("recentTransactionsCount", recentTransactions.size());
+        recentData.put("recentTransactions", recentTransactions.stream()
                 .map(transaction -> {
                     Map<String, Object> transactionData = new HashMap<>();
                     transactionData.put("id", transaction.getId());
@@ -96,122 +141,115 @@ public class DashboardService {
                     return transactionData;
                 })
                 .collect(Collectors.toList()));
+        return recentData;
+    }
 
+    private Map<String, Object> loadSalesStatistics() {
         // Sales and purchase statistics
-        BigDecimal totalSales = transactionRepository.findAll().stream()
-                .filter(t -> t.getTransactionType() == TransactionType.SALE)
-                .map(Transaction::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalPurchases = transactionRepository.findAll().stream()
-                .filter(t -> t.getTransactionType() == TransactionType.PURCHASE)
-                .map(Transaction::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        dashboardData.put("totalSales", totalSales);
-        dashboardData.put("totalPurchases", totalPurchases);
-        dashboardData.put("netProfit", totalSales.subtract(totalPurchases));
-
-        // Transaction type distribution
-        Map<TransactionType, Long> transactionTypeCount = transactionRepository.findAll().stream()
-                .collect(Collectors.groupingBy(Transaction::getTransactionType, Collectors.counting()));
-        dashboardData.put("transactionTypeDistribution", transactionTypeCount);
+        BigDecimal totalSales = dashboardAggregateService.getTotal(TransactionType.SALE);
+        BigDecimal totalPurchases = dashboardAggregateService.getTotal(TransactionType.PURCHASE);
+
+        Map<String, Object> salesData = new HashMap<>();
+        salesData.put("totalSales", totalSales);
+        salesData.put("totalPurchases", totalPurchases);
+        salesData.put("netProfit", totalSales.subtract(totalPurchases));
+        return salesData;
+    }
 
+    private Map<String, Object> loadTopSellingProducts() {
         // Top selling products (by quantity sold)
-        Map<String, Integer> productSales = transactionRepository.findAll().stream()
-                .filter(t -> t.getTransactionType() == TransactionType.SALE)
-                .collect(Collectors.groupingBy(
-                        t -> t.getProduct().getName(),
-                        Collectors.summingInt(Transaction::getTotalProduct)
-                ));
-
-        List<Map<String, Object>> topSellingProducts = productSales.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(5)
-                .map(entry -> {
+        List<ProductSalesSummary> productSales = salesRollupService.getTopProducts(TransactionType.SALE, 5);
+
+        List<Map<String, Object>> topSellingProducts = productSales.stream()
+                .map(summary -> {
                     Map<String, Object> productData = new HashMap<>();
-                    productData.put("productName", entry.getKey());
-                    productData.put("quantitySold", entry.getValue());
+                    productData.put("productName", summary.getProductName());
+                    productData.put("quantitySold", summary.getQuantitySold());
                     return productData;
                 })
                 .collect(Collectors.toList());
 
-        dashboardData.put("topSellingProducts", topSellingProducts);
+        return Map.of("topSellingProducts", topSellingProducts);
+    }
 
+    private Map<String, Object> loadMonthlySalesTrend() {
         // Monthly sales trend (last 6 months)
         LocalDateTime sixMonthsAgo = LocalDateTime.now().minus(6, ChronoUnit.MONTHS);
-        Map<String, BigDecimal> monthlySales = transactionRepository.findAll().stream()
-                .filter(t -> t.getTransactionType() == TransactionType.SALE && t.getCreatedAt().isAfter(sixMonthsAgo))
-                .collect(Collectors.groupingBy(
-                        t -> t.getCreatedAt().getYear() + "-" + String.format("%02d", t.getCreatedAt().getMonthValue()),
-                        Collectors.reducing(BigDecimal.ZERO, Transaction::getTotalPrice, BigDecimal::add)
-                ));
+        Map<String, BigDecimal> monthlySales = salesRollupService.getMonthlyTrend(TransactionType.SALE, sixMonthsAgo);
+
+        return Map.of("monthlySalesTrend", monthlySales);
+    }
 
-        dashboardData.put("monthlySalesTrend", monthlySales);
+    public Response rebuildAggregates() {
+        dashboardAggregateService.rebuild();
+        dashboardCacheService.invalidateAll();
 
         return Response.builder()
                 .status(200)
-                .message("Dashboard data retrieved successfully")
-                .data(dashboardData)
+                .message("Dashboard aggregates rebuilt successfully")
                 .build();
     }
 
-    public Response getInventoryAlerts() {
+    public Response getInventoryAlerts(int page, int size) {
+        if (page < 0 || size <= 0 || size > MAX_ALERT_PAGE_SIZE) {
+            throw new NameValueRequiredException("Page must be 0 or more and size between 1 and " + MAX_ALERT_PAGE_SIZE);
+        }
+
         Map<String, Object> alerts = new HashMap<>();
 
         // Low stock alerts
-        int lowStockThreshold = 10;
-        List<Product> lowStockProducts = productRepository.findAll().stream()
-                .filter(product -> product.getStockQuantity() <= lowStockThreshold)
-                .collect(Collectors.toList());
+        int lowStockThreshold = DashboardAggregateService.LOW_STOCK_THRESHOLD;
+        InventoryAlertEngine.AlertPage lowStockProducts = inventoryAlertEngine.getLowStock(lowStockThreshold, page, size);
 
-        alerts.put("lowStockAlerts", lowStockProducts.stream()
+        alerts.put("lowStockTotal", lowStockProducts.totalElements());
+        alerts.put("lowStockAlerts", lowStockProducts.content().stream()
                 .map(product -> {
                     Map<String, Object> alertData = new HashMap<>();
-                    alertData.put("id", product.getId());
-                    alertData.put("name", product.getName());
-                    alertData.put("sku", product.getSku());
-                    alertData.put("currentStock", product.getStockQuantity());
+                    alertData.put("id", product.id());
+                    alertData.put("name", product.name());
+                    alertData.put("sku", product.sku());
+                    alertData.put("currentStock", product.stockQuantity());
                     alertData.put("threshold", lowStockThreshold);
-                    alertData.put("severity", product.getStockQuantity() == 0 ? "CRITICAL" : "WARNING");
+                    alertData.put("severity", product.stockQuantity() == 0 ? "CRITICAL" : "WARNING");
                     return alertData;
                 })
                 .collect(Collectors.toList()));
 
         // Out of stock alerts
-        List<Product> outOfStockProducts = productRepository.findAll().stream()
-                .filter(product -> product.getStockQuantity() == 0)
-                .collect(Collectors.toList());
+        InventoryAlertEngine.AlertPage outOfStockProducts = inventoryAlertEngine.getOutOfStock(page, size);
 
-        alerts.put("outOfStockAlerts", outOfStockProducts.stream()
+        alerts.put("outOfStockTotal", outOfStockProducts.totalElements());
+        alerts.put("outOfStockAlerts", outOfStockProducts.content().stream()
                 .map(product -> {
                     Map<String, Object> alertData = new HashMap<>();
-                    alertData.put("id", product.getId());
-                    alertData.put("name", product.getName());
-                    alertData.put("sku", product.getSku());
+                    alertData.put("id", product.id());
+                    alertData.put("name", product.name());
+                    alertData.put("sku", product.sku());
                     return alertData;
                 })
                 .collect(Collectors.toList()));
 
         // Expiry alerts (products expiring in next 30 days)
-        LocalDateTime thirtyDaysFromNow = LocalDateTime.now().plus(30, ChronoUnit.DAYS);
-        List<Product> expiringProducts = productRepository.findAll().stream()
-                .filter(product -> product.getExpiryDate() != null && 
-                        product.getExpiryDate().isBefore(thirtyDaysFromNow))
-                .collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+        InventoryAlertEngine.AlertPage expiringProducts = inventoryAlertEngine.getExpiringBefore(
+                now.plus(30, ChronoUnit.DAYS), page, size);
 
-        alerts.put("expiryAlerts", expiringProducts.stream()
+        alerts.put("expiryTotal", expiringProducts.totalElements());
+        alerts.put("expiryAlerts", expiringProducts.content().stream()
                 .map(product -> {
                     Map<String, Object> alertData = new HashMap<>();
-                    alertData.put("id", product.getId());
-                    alertData.put("name", product.getName());
-                    alertData.put("sku", product.getSku());
-                    alertData.put("expiryDate", product.getExpiryDate());
-                    alertData.put("daysUntilExpiry", ChronoUnit.DAYS.between(LocalDateTime.now(), product.getExpiryDate()));
+                    alertData.put("id", product.id());
+                    alertData.put("name", product.name());
+                    alertData.put("sku", product.sku());
+                    alertData.put("expiryDate", product.expiryDate());
+                    alertData.put("daysUntilExpiry", ChronoUnit.DAYS.between(now, product.expiryDate()));
                     return alertData;
                 })
                 .collect(Collectors.toList()));
 
+        alerts.put("page", page);
+        alerts.put("size", size);
+
         return Response.builder()
                 .status(200)
                 .message("Inventory alerts retrieved successfully")
@@ -0,0 +1,238 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.YourInventory.InventoryManagementSystem.events.StockChangedEvent;
+import com.YourInventory.InventoryManagementSystem.events.TransactionRecordedEvent;
+import com.YourInventory.InventoryManagementSystem.exceptions.TooManyRequestsException;
+
+import jakarta.annotation.PreDestroy;
+
+// Pushes small dashboard deltas to connected browsers over Server-Sent Events.
+// Writers only enqueue into each client's bounded buffer, so a slow client fills its own buffer
+// (and gets a "resync") instead of stalling the transaction that produced the event. A socket
+// write blocks, so each client being written to has its own dispatcher thread and idle clients
+// have none: a stalled client holds up only itself, and is dropped once one write has taken
+// longer than send-timeout-ms. The subscriber cap bounds the number of dispatcher threads.
+@Service
+public class DashboardStreamService {
+
+    @Value("${dashboard.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${dashboard.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${dashboard.stream.max-subscribers:200}")
+    private int maxSubscribers;
+
+    @Value("${dashboard.stream.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong eventIds = new AtomicLong();
+
+    // At most one drain per subscriber is in flight, so this never grows past max-subscribers threads
+    private final ExecutorService dispatcher = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), new CustomizableThreadFactory("dashboard-sse-"));
+
+    private record Delta(long id, String name, Object data) {
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter = createEmitter(timeoutMs);
+        private final BlockingQueue<Delta> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean overflowed;
+        // System.nanoTime() when the write in progress started, 0 when none is
+        private volatile long sendingSince;
+        private volatile boolean dropped;
+
+        private void offer(Delta delta) {
+            while (!buffer.offer(delta)) {
+                // Drop the oldest delta; the client will be told to refetch the full state
+                buffer.poll();
+                overflowed = true;
+            }
+        }
+    }
+
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new TooManyRequestsException("Too many dashboard connections, please retry later");
+        }
+        Subscriber subscriber = new Subscriber();
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(error -> subscribers.remove(subscriber));
+
+        subscribers.add(subscriber);
+        subscriber.offer(new Delta(eventIds.incrementAndGet(), "connected", Map.of("subscribers", subscribers.size())));
+        scheduleDrain(subscriber);
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        Map<String, Object> stockData = new HashMap<>();
+        stockData.put("productId", event.productId());
+        stockData.put("previousQuantity", event.previousQuantity());
+        stockData.put("newQuantity", event.newQuantity());
+        broadcast("stock", stockData);
+
+        String previousLevel = stockLevel(event.previousQuantity());
+        String newLevel = stockLevel(event.newQuantity());
+        if (event.newQuantity() != null && !newLevel.equals(previousLevel)) {
+            Map<String, Object> thresholdData = new HashMap<>();
+            thresholdData.put("productId", event.productId());
+            thresholdData.put("stockQuantity", event.newQuantity());
+            thresholdData.put("threshold", DashboardAggregateService.LOW_STOCK_THRESHOLD);
+            thresholdData.put("level", newLevel);
+            broadcast("stock-threshold", thresholdData);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionRecorded(TransactionRecordedEvent event) {
+        Map<String, Object> transactionData = new HashMap<>();
+        transactionData.put("id", event.transactionId());
+        transactionData.put("type", event.transactionType());
+        transactionData.put("productId", event.productId());
+        transactionData.put("quantity", event.quantity());
+        transactionData.put("totalPrice", event.totalPrice());
+        transactionData.put("createdAt", event.createdAt());
+        broadcast("transaction", transactionData);
+    }
+
+    // Keeps idle connections open through proxies and detects clients that went away
+    @Scheduled(fixedRateString = "${dashboard.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        dropStalledSubscribers();
+        broadcast(null, null);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // Emitter methods wait for a write in progress, so a stalled client is only marked here; its
+    // dispatcher thread closes it when the write returns or the connection times out
+    void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long since = subscriber.sendingSince;
+            if (since != 0 && now - since > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)) {
+                subscriber.dropped = true;
+                subscribers.remove(subscriber);
+                subscriber.buffer.clear();
+            }
+        }
+    }
+
+    SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private void broadcast(String name, Object data) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Delta delta = new Delta(eventIds.incrementAndGet(), name, data);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(delta);
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Delta delta;
+            while (!subscriber.dropped && (delta = subscriber.buffer.poll()) != null) {
+                if (subscriber.overflowed) {
+                    subscriber.overflowed = false;
+                    send(subscriber, SseEmitter.event().name("resync").data(Map.of("reason", "buffer-overflow")));
+                }
+                if (delta.name() == null) {
+                    send(subscriber, SseEmitter.event().comment("heartbeat"));
+                } else {
+                    send(subscriber, SseEmitter.event()
+                            .id(String.valueOf(delta.id()))
+                            .name(delta.name())
+                            .data(delta.data()));
+                }
+            }
+            if (subscriber.dropped) {
+                throw new IOException("Dashboard stream client stopped reading");
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // An event may have arrived between the last poll and releasing the drain flag
+        if (!subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendingSince = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendingSince = 0;
+        }
+    }
+
+    private String stockLevel(Integer quantity) {
+        if (quantity == null) {
+            return "NONE";
+        }
+        if (quantity == 0) {
+            return "OUT_OF_STOCK";
+        }
+        return quantity <= DashboardAggregateService.LOW_STOCK_THRESHOLD ? "LOW" : "OK";
+    }
+}
@@ -0,0 +1,460 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.StockJournalCommitRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Optional in-memory stock for a configured set of hot products (inventory.hot-stock.*).
+// The counter for each hot product is authoritative and changed with CAS, so sales never
+// queue on the products row. Decreases are reserved against it at once and handed back on
+// rollback; increases reach it only once their transaction commits, so no sale can take
+// stock that might still roll back, and the counter never goes negative. Every change runs inside the caller's database transaction:
+// its delta is appended to a local journal and forced to disk, then a commit marker for the
+// entry is inserted in that transaction. Concurrent changes share one fsync (group commit).
+// Committed deltas are applied to products.stock_quantity by a scheduled flush, which deletes
+// their markers in the same transaction. On startup, journal entries that still have a marker
+// are replayed; entries without one belonged to a transaction that rolled back, never
+// committed, or was already applied.
+@Service
+public class HotStockLedger {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockJournalCommitRepository commitRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${inventory.hot-stock.enabled:false}")
+    private boolean enabled;
+
+    @Value("${inventory.hot-stock.product-ids:}")
+    private String hotProductIds;
+
+    @Value("${inventory.hot-stock.journal-dir:data/stock-journal}")
+    private String journalDir;
+
+    private final Map<Long, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    // Lock order: flushLock, then forceLock, then journalLock
+    private final Object flushLock = new Object();
+    private final Object forceLock = new Object();
+    private final Object journalLock = new Object();
+
+    // Guarded by journalLock
+    private Segment segment;
+    private final List<Segment> sealedSegments = new ArrayList<>();
+    private long sequence;
+    private Map<Long, Long> committedDeltas = new HashMap<>();
+    private List<CommittedEntry> committedEntries = new ArrayList<>();
+
+    // Highest sequence known to be on disk; guarded by forceLock
+    private long durableSequence;
+
+    // A journal file; it is deleted once sealed and every entry in it is applied or rolled back
+    private static final class Segment {
+
+        private final Path path;
+
+        private final FileChannel channel;
+
+        // Guarded by journalLock
+        private int entries;
+        private int unresolved;
+
+        private Segment(Path path) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+    }
+
+    private record CommittedEntry(long sequence, Segment segment) {
+    }
+
+    private record JournalEntry(long sequence, long productId, long delta) {
+
+        private String format() {
+            String body = sequence + ":" + productId + ":" + delta;
+            return body + ":" + checksum(body) + "\n";
+        }
+
+        // Returns null for a torn or corrupt line; such an entry was never acknowledged
+        private static JournalEntry parse(String line) {
+            int lastColon = line.lastIndexOf(':');
+            if (lastColon < 0) {
+                return null;
+            }
+            String body = line.substring(0, lastColon);
+            String[] parts = body.split(":");
+            if (parts.length != 3 || !line.substring(lastColon + 1).equals(checksum(body))) {
+                return null;
+            }
+            return new JournalEntry(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        }
+
+        private static String checksum(String body) {
+            CRC32 crc = new CRC32();
+            crc.update(body.getBytes(StandardCharsets.UTF_8));
+            return Long.toHexString(crc.getValue());
+        }
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path directory = Path.of(journalDir);
+        Files.createDirectories(directory);
+
+        synchronized (journalLock) {
+            sequence = recover(directory);
+            segment = openSegment(directory);
+        }
+        synchronized (forceLock) {
+            durableSequence = sequence;
+        }
+
+        for (String id : hotProductIds.split(",")) {
+            if (!id.isBlank()) {
+                Long productId = Long.valueOf(id.trim());
+                productRepository.findStockQuantityById(productId)
+                        .ifPresent(stock -> counters.put(productId, new AtomicInteger(stock)));
+            }
+        }
+    }
+
+    public boolean isHot(Long productId) {
+        return enabled && counters.containsKey(productId);
+    }
+
+    // Committed stock less the sales still in flight
+    public int current(Long productId) {
+        return counters.get(productId).get();
+    }
+
+    // Same no-negative-stock rule as the guarded database decrement
+    public int decrement(Long productId, int quantity) {
+        return decrement(productId, quantity, StockService.SHORTAGE);
+    }
+
+    public int decrement(Long productId, int quantity, String shortage) {
+        requireTransaction();
+        AtomicInteger counter = counters.get(productId);
+        int current;
+        do {
+            current = counter.get();
+            if (current < quantity) {
+                throw new NameValueRequiredException(shortage + ". Available: " + current + ", Requested: " + quantity);
+            }
+        } while (!counter.compareAndSet(current, current - quantity));
+
+        record(productId, -quantity, counter, true);
+        return current - quantity;
+    }
+
+    // Returns the stock the product will have once this transaction commits
+    public int increment(Long productId, int quantity) {
+        requireTransaction();
+        AtomicInteger counter = counters.get(productId);
+        record(productId, quantity, counter, false);
+        return counter.get() + quantity;
+    }
+
+    // Returns the stock before the change. Lowering the stock is reserved at once, like a sale;
+    // raising it is published on commit, like a purchase.
+    public int set(Long productId, int quantity) {
+        requireTransaction();
+        AtomicInteger counter = counters.get(productId);
+        int previous;
+        do {
+            previous = counter.get();
+        } while (quantity < previous && !counter.compareAndSet(previous, quantity));
+
+        record(productId, quantity - previous, counter, quantity < previous);
+        return previous;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.hot-stock.flush-ms:500}")
+    public void flush() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        synchronized (flushLock) {
+            Map<Long, Long> deltas;
+            List<CommittedEntry> entries;
+            synchronized (journalLock) {
+                if (committedEntries.isEmpty()) {
+                    return;
+                }
+                deltas = committedDeltas;
+                entries = committedEntries;
+                committedDeltas = new HashMap<>();
+                committedEntries = new ArrayList<>();
+            }
+            // Later appends go to a fresh segment, so this one can be deleted once resolved
+            rotate();
+
+            try {
+                applyDeltas(deltas, entries.stream().map(CommittedEntry::sequence).collect(Collectors.toList()));
+            } catch (RuntimeException e) {
+                synchronized (journalLock) {
+                    deltas.forEach((productId, delta) -> committedDeltas.merge(productId, delta, Long::sum));
+                    committedEntries.addAll(entries);
+                }
+                throw e;
+            }
+
+            synchronized (journalLock) {
+                for (CommittedEntry entry : entries) {
+                    entry.segment().unresolved--;
+                }
+                deleteResolvedSegments();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        synchronized (journalLock) {
+            segment.channel.close();
+        }
+    }
+
+    private void requireTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Hot stock changes must run inside a transaction");
+        }
+    }
+
+    // Journals the change and ties it to the caller's transaction. Not durable means not
+    // acknowledged: on any failure the counter is restored and the caller sees an exception.
+    // A reserved change is already in the counter and is handed back on rollback; any other
+    // change is added to the counter only once the transaction has committed.
+    private void record(Long productId, long delta, AtomicInteger counter, boolean reserved) {
+        if (delta == 0) {
+            return;
+        }
+        JournalEntry entry;
+        Segment written;
+        synchronized (journalLock) {
+            written = segment;
+            long position = -1;
+            try {
+                position = written.channel.size();
+                entry = new JournalEntry(sequence + 1, productId, delta);
+                ByteBuffer buffer = ByteBuffer.wrap(entry.format().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    written.channel.write(buffer);
+                }
+            } catch (IOException e) {
+                truncateQuietly(written, position);
+                if (reserved) {
+                    counter.addAndGet((int) -delta);
+                }
+                throw new IllegalStateException("Could not write the stock journal", e);
+            }
+            sequence = entry.sequence();
+            written.entries++;
+            written.unresolved++;
+        }
+
+        // Registered before anything else can fail, so a rollback always restores the counter
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (!reserved) {
+                    counter.addAndGet((int) delta);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (journalLock) {
+                    if (status == STATUS_COMMITTED) {
+                        committedDeltas.merge(productId, delta, Long::sum);
+                        committedEntries.add(new CommittedEntry(entry.sequence(), written));
+                        return;
+                    }
+                    written.unresolved--;
+                }
+                if (reserved) {
+                    // Only reservations are undone, and handing one back can only raise the stock
+                    counter.addAndGet((int) -delta);
+                }
+            }
+        });
+
+        try {
+            awaitDurable(entry.sequence());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not force the stock journal", e);
+        }
+        commitRepository.insert(entry.sequence());
+    }
+
+    // Group commit: one thread forces the journal for every entry appended so far, while the
+    // others keep appending; a caller whose entry was covered by an earlier force returns at once
+    private void awaitDurable(long entrySequence) throws IOException {
+        synchronized (forceLock) {
+            if (durableSequence >= entrySequence) {
+                return;
+            }
+            FileChannel channel;
+            long upTo;
+            synchronized (journalLock) {
+                channel = segment.channel;
+                upTo = sequence;
+            }
+            channel.force(false);
+            durableSequence = upTo;
+        }
+    }
+
+    // Seals the current segment (forced, so its entries stay durable) and opens the next one
+    private void rotate() throws IOException {
+        synchronized (forceLock) {
+            synchronized (journalLock) {
+                if (segment.entries == 0) {
+                    return;
+                }
+                segment.channel.force(false);
+                durableSequence = sequence;
+                segment.channel.close();
+                sealedSegments.add(segment);
+                segment = openSegment(segment.path.getParent());
+            }
+        }
+    }
+
+    // Caller must hold journalLock
+    private void deleteResolvedSegments() throws IOException {
+        for (var iterator = sealedSegments.iterator(); iterator.hasNext(); ) {
+            Segment sealed = iterator.next();
+            if (sealed.unresolved == 0) {
+                Files.deleteIfExists(sealed.path);
+                iterator.remove();
+            }
+        }
+    }
+
+    // Applies every journal entry that has a commit marker, then removes the markers and segments
+    private long recover(Path directory) throws IOException {
+        Set<Long> committed = new HashSet<>(commitRepository.findAllSequences());
+
+        List<Path> segments = listSegments(directory);
+        Map<Long, Long> deltas = new HashMap<>();
+        long last = 0;
+        for (Path path : segments) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    JournalEntry entry = JournalEntry.parse(line);
+                    if (entry == null) {
+                        break;
+                    }
+                    last = Math.max(last, entry.sequence());
+                    if (committed.contains(entry.sequence())) {
+                        deltas.merge(entry.productId(), entry.delta(), Long::sum);
+                    }
+                }
+            }
+        }
+
+        if (!committed.isEmpty()) {
+            // Every marker goes: a marker without a journal entry has nothing left to replay
+            applyDeltas(deltas, List.copyOf(committed));
+        }
+        for (Path path : segments) {
+            Files.delete(path);
+        }
+        return last;
+    }
+
+    // Products are updated in id order so concurrent flushes and sales cannot deadlock
+    private void applyDeltas(Map<Long, Long> deltas, List<Long> sequences) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            new TreeMap<>(deltas).forEach((productId, delta) -> {
+                if (delta != 0) {
+                    productRepository.incrementStock(productId, Math.toIntExact(delta));
+                }
+            });
+            commitRepository.deleteAllByIdInBatch(sequences);
+        });
+    }
+
+    // Caller must hold journalLock
+    private Segment openSegment(Path directory) throws IOException {
+        return new Segment(directory.resolve(SEGMENT_PREFIX + (sequence + 1) + SEGMENT_SUFFIX));
+    }
+
+    private List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted(Comparator.comparingLong(this::segmentStart))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private long segmentStart(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private void truncateQuietly(Segment target, long position) {
+        if (position < 0) {
+            return;
+        }
+        try {
+            target.channel.truncate(position);
+        } catch (IOException ignored) {
+            // The partial line fails its checksum and is skipped on recovery
+        }
+    }
+}
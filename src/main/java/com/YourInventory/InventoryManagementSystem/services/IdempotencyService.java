@@ -0,0 +1,214 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.model.IdempotencyRecord;
+import com.YourInventory.InventoryManagementSystem.repositories.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Makes a write replayable by its Idempotency-Key. The first request runs and its response is
+// stored in the same database transaction as its changes; a retry gets that response back.
+// Recent keys are answered from a bounded in-memory LRU, and a duplicate that arrives while the
+// first request is still running waits for its result. A new key costs no extra read: the
+// table's primary key catches a retry the LRU no longer holds (after a restart, or on another
+// instance), that attempt is rolled back and the stored response is replayed instead. Keys are
+// stored as a SHA-256 of user, operation and client key, so any email and key fit the column.
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    private final Map<String, CachedRecord> recent;
+
+    private final Map<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+
+    private record CachedRecord(String requestHash, Response response, LocalDateTime expiresAt) {
+    }
+
+    public IdempotencyService(@Value("${idempotency.cache-size:10000}") int cacheSize) {
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRecord> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    // Runs the operation once per key; without a key it simply runs it
+    public Response execute(String idempotencyKey, String operation, Object request, Supplier<Response> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new NameValueRequiredException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String scopedKey = hash(currentUser() + ":" + operation + ":" + idempotencyKey);
+        String requestHash = hash(String.valueOf(request));
+
+        Optional<Response> replay = lookupRecent(scopedKey, requestHash);
+        if (replay.isPresent()) {
+            return replay.get();
+        }
+
+        CompletableFuture<Response> execution = new CompletableFuture<>();
+        CompletableFuture<Response> existing = inFlight.putIfAbsent(scopedKey, execution);
+        if (existing != null) {
+            // Same key still running: wait for its outcome, then check the body matches
+            Response response = await(existing);
+            return lookupRecent(scopedKey, requestHash).orElse(response);
+        }
+
+        try {
+            Response response = runAndRecord(scopedKey, requestHash, action);
+            execution.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            // Nothing was recorded, so a retry runs the operation again
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(scopedKey, execution);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.deleteExpired(now);
+        synchronized (recent) {
+            recent.values().removeIf(cached -> cached.expiresAt().isBefore(now));
+        }
+    }
+
+    private Response runAndRecord(String scopedKey, String requestHash, Supplier<Response> action) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusHours(ttlHours);
+        Response response;
+        try {
+            response = new TransactionTemplate(transactionManager).execute(status -> {
+                Response result = action.get();
+                idempotencyRecordRepository.insert(scopedKey, requestHash, toJson(result), now, expiresAt);
+                return result;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // The key was recorded earlier; this attempt's changes were rolled back, so replay that response
+            IdempotencyRecord stored = idempotencyRecordRepository.findById(scopedKey).orElseThrow(() -> e);
+            if (stored.getExpiresAt().isBefore(LocalDateTime.now())) {
+                // Expired but not purged yet: the key is free again, so drop the old record and run anew
+                idempotencyRecordRepository.deleteExpired(scopedKey, LocalDateTime.now());
+                return runAndRecord(scopedKey, requestHash, action);
+            }
+            return replayStored(scopedKey, requestHash, stored);
+        }
+        remember(scopedKey, new CachedRecord(requestHash, response, expiresAt));
+        return response;
+    }
+
+    private Optional<Response> lookupRecent(String scopedKey, String requestHash) {
+        CachedRecord cached;
+        synchronized (recent) {
+            cached = recent.get(scopedKey);
+        }
+        if (cached == null || cached.expiresAt().isBefore(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(replay(cached.requestHash(), requestHash, cached.response()));
+    }
+
+    private Response replayStored(String scopedKey, String requestHash, IdempotencyRecord stored) {
+        Response response = fromJson(stored.getResponseBody());
+        remember(scopedKey, new CachedRecord(stored.getRequestHash(), response, stored.getExpiresAt()));
+        return replay(stored.getRequestHash(), requestHash, response);
+    }
+
+    private Response replay(String storedHash, String requestHash, Response response) {
+        if (!storedHash.equals(requestHash)) {
+            throw new NameValueRequiredException("Idempotency-Key was already used for a different request");
+        }
+        return response;
+    }
+
+    private void remember(String scopedKey, CachedRecord cached) {
+        synchronized (recent) {
+            recent.put(scopedKey, cached);
+        }
+    }
+
+    private Response await(CompletableFuture<Response> execution) {
+        try {
+            return execution.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+
+    private String toJson(Response response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not record the response for replay", e);
+        }
+    }
+
+    private Response fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, Response.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not replay the recorded response", e);
+        }
+    }
+
+    private String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.YourInventory.InventoryManagementSystem.events.ProductChangedEvent;
+import com.YourInventory.InventoryManagementSystem.events.StockChangedEvent;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.utils.RebuildBarrier;
+
+// Keeps the products that can raise an alert in two ordered indexes: one by stock quantity
+// and one by expiry date (earliest first, like a priority queue but with O(log n) removal).
+// Writes update both indexes; a read walks only the head of the relevant index, so its cost
+// follows the number of alerts returned rather than the size of the catalog.
+// Stock moves by the delta of each committed change, so changes may arrive in any order; a
+// rebuild is ordered against them by the RebuildBarrier.
+@Service
+public class InventoryAlertEngine {
+
+    private static final Comparator<AlertProduct> BY_STOCK = Comparator
+            .comparingInt(AlertProduct::stockQuantity)
+            .thenComparingLong(AlertProduct::id);
+
+    private static final Comparator<AlertProduct> BY_EXPIRY = Comparator
+            .comparing(AlertProduct::expiryDate)
+            .thenComparingLong(AlertProduct::id);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final Map<Long, AlertProduct> products = new HashMap<>();
+
+    private final NavigableSet<AlertProduct> byStock = new TreeSet<>(BY_STOCK);
+
+    // Only products with an expiry date are indexed here
+    private final NavigableSet<AlertProduct> byExpiry = new TreeSet<>(BY_EXPIRY);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RebuildBarrier barrier = new RebuildBarrier();
+
+    public record AlertProduct(long id, String name, String sku, int stockQuantity, LocalDateTime expiryDate) {
+    }
+
+    public record AlertPage(List<AlertProduct> content, long totalElements) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // The snapshot is read while no change can be applied, so none is both in it and replayed on it
+        barrier.rebuild(() -> {
+            List<Product> all = productRepository.findAll();
+
+            lock.writeLock().lock();
+            try {
+                products.clear();
+                byStock.clear();
+                byExpiry.clear();
+                for (Product product : all) {
+                    index(new AlertProduct(product.getId(), product.getName(), product.getSku(),
+                            stockOrZero(product.getStockQuantity()), product.getExpiryDate()));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        barrier.afterCommit(() -> applyProductChange(event));
+    }
+
+    @EventListener
+    public void onStockChanged(StockChangedEvent event) {
+        barrier.afterCommit(() -> applyStockChange(event));
+    }
+
+    // Products with stock at or below the threshold, lowest stock first
+    public AlertPage getLowStock(int threshold, int page, int size) {
+        lock.readLock().lock();
+        try {
+            return page(byStock.headSet(stockBound(threshold), true), page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public AlertPage getOutOfStock(int page, int size) {
+        return getLowStock(0, page, size);
+    }
+
+    // Products whose expiry date is before the cutoff, soonest first (already expired ones included)
+    public AlertPage getExpiringBefore(LocalDateTime cutoff, int page, int size) {
+        lock.readLock().lock();
+        try {
+            return page(byExpiry.headSet(new AlertProduct(Long.MIN_VALUE, null, null, 0, cutoff), false), page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyProductChange(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            AlertProduct current = unindex(event.productId());
+            if (!event.deleted()) {
+                // The stock in the event may already be outdated; once indexed, stock only moves by deltas
+                int stock = current != null ? current.stockQuantity() : stockOrZero(event.stockQuantity());
+                index(new AlertProduct(event.productId(), event.name(), event.sku(), stock, event.expiryDate()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyStockChange(StockChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            AlertProduct current = unindex(event.productId());
+            if (current == null) {
+                // New products are indexed from their ProductChangedEvent
+                return;
+            }
+            if (event.newQuantity() != null) {
+                index(new AlertProduct(current.id(), current.name(), current.sku(),
+                        current.stockQuantity() + event.delta(), current.expiryDate()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller must hold the write lock
+    private void index(AlertProduct product) {
+        products.put(product.id(), product);
+        byStock.add(product);
+        if (product.expiryDate() != null) {
+            byExpiry.add(product);
+        }
+    }
+
+    // Caller must hold the write lock. Returns the entry removed, if any.
+    private AlertProduct unindex(Long productId) {
+        AlertProduct previous = products.remove(productId);
+        if (previous != null) {
+            byStock.remove(previous);
+            if (previous.expiryDate() != null) {
+                byExpiry.remove(previous);
+            }
+        }
+        return previous;
+    }
+
+    // Sorts after every product with stock <= threshold
+    private AlertProduct stockBound(int threshold) {
+        return new AlertProduct(Long.MAX_VALUE, null, null, threshold, null);
+    }
+
+    // Caller must hold the read lock. The view holds only matching products, so paging and
+    // counting it never touch the rest of the catalog.
+    private AlertPage page(NavigableSet<AlertProduct> alerts, int page, int size) {
+        int skip = page * size;
+        List<AlertProduct> content = new ArrayList<>(Math.min(size, alerts.size()));
+        int position = 0;
+        for (AlertProduct product : alerts) {
+            if (position >= skip + size) {
+                break;
+            }
+            if (position++ >= skip) {
+                content.add(product);
+            }
+        }
+        return new AlertPage(content, alerts.size());
+    }
+
+    private int stockOrZero(Integer stockQuantity) {
+        return stockQuantity != null ? stockQuantity : 0;
+    }
+}
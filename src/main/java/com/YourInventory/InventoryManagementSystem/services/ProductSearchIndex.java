@@ -0,0 +1,537 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.YourInventory.InventoryManagementSystem.events.ProductChangedEvent;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductListItem;
+
+// In-memory full-text index over product name, SKU and description. Each product is split into
+// lower-case letter/digit tokens; a sorted term dictionary maps every token to the products that
+// contain it (and in which fields), so a query term matches whole tokens and, from
+// MIN_PREFIX_LENGTH characters on, any token it is a prefix of. Every query term must match.
+// Terms are applied rarest first and scored straight from the postings into per-slot arrays,
+// so a query costs in proportion to its matches rather than to the size of the catalog. The
+// arrays are kept per thread and reused; a query whose rarest term matches only a few products
+// scores them in a small map instead.
+@Service
+public class ProductSearchIndex {
+
+    // Shorter query terms match whole tokens only; expanding "a" would touch most of the catalog
+    static final int MIN_PREFIX_LENGTH = 2;
+
+    static final int MAX_RESULTS = 100;
+
+    // A token scores the summed weights of the fields it appears in, doubled for a whole-token match
+    private static final int NAME_WEIGHT = 3;
+    private static final int SKU_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final int NAME_FIELD = 1;
+    private static final int SKU_FIELD = 2;
+    private static final int DESCRIPTION_FIELD = 4;
+
+    // Each posting packs the slot above the field bits
+    private static final int FIELD_BITS = 3;
+
+    // Added when the whole query is a product's SKU, so that product always ranks first
+    private static final int EXACT_SKU_BOOST = 1000;
+
+    // Up to this many matches for the rarest term, candidates are scored in a map and narrowed
+    // by their own tokens, without touching the per-slot arrays
+    static final int SPARSE_CANDIDATES = 256;
+
+    private static final Comparator<Hit> RANKING = Comparator
+            .comparingInt(Hit::score).reversed()
+            .thenComparingLong(Hit::productId);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+
+    // Lower-cased SKU to document slot
+    private final Map<String, Integer> slotsBySku = new HashMap<>();
+
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+
+    private final List<Document> documents = new ArrayList<>();
+
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Changes seen while a rebuild reads the catalog, replayed over what it read; null otherwise
+    private List<ProductChangedEvent> changesDuringRebuild;
+
+    // Per-slot score arrays, all zeros between queries
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    public record Hit(long productId, int score) {
+    }
+
+    // Distinct tokens with the fields each one appears in, and where in each token's postings this
+    // document's entry sits. The tokens are the dictionary's own String instances, so each distinct
+    // token is stored once however many products share it.
+    private record Document(long productId, String sku, String[] tokens, byte[] fields, int[] positions) {
+    }
+
+    // A query term with the postings of every token it matches
+    private record TermMatch(String term, Collection<Postings> postings, long count) {
+    }
+
+    // The catalog is read without the lock so searches carry on meanwhile. Changes that arrive during
+    // the read may or may not be in it, so they are replayed in order over the new index.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<ProductListItem> all;
+        try {
+            all = productRepository.findListItems(Pageable.unpaged()).getContent();
+        } catch (RuntimeException e) {
+            // The current index stays as it is; it has had every change applied
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            List<ProductChangedEvent> changes = changesDuringRebuild;
+            changesDuringRebuild = null;
+            terms.clear();
+            slotsBySku.clear();
+            slotsById.clear();
+            documents.clear();
+            freeSlots.clear();
+            for (ProductListItem product : all) {
+                index(product.id(), product.name(), product.sku(), product.description());
+            }
+            changes.forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Best matches first: by score, then by product id. An empty query finds nothing.
+    public List<Hit> search(String query, int limit) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String sku = query.trim().toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            List<TermMatch> matches = new ArrayList<>();
+            for (String term : queryTerms) {
+                TermMatch match = match(term);
+                if (match.count() == 0) {
+                    return List.of();
+                }
+                matches.add(match);
+            }
+            matches.sort(Comparator.comparingLong(TermMatch::count));
+
+            return matches.get(0).count() <= SPARSE_CANDIDATES
+                    ? searchFew(matches, sku, limit)
+                    : searchMany(matches, sku, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Lower-cased runs of letters and digits: "SKU-00123/b" gives [sku, 00123, b]
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean tokenChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    // Caller must hold the read lock
+    private List<Hit> searchFew(List<TermMatch> matches, String sku, int limit) {
+        Map<Integer, Integer> scores = new HashMap<>();
+        TermMatch rarest = matches.get(0);
+        for (Postings postings : rarest.postings()) {
+            boolean exact = postings.term.equals(rarest.term());
+            for (int i = 0; i < postings.size; i++) {
+                scores.merge(postings.entries[i] >>> FIELD_BITS, tokenScore(postings.entries[i], exact), Math::max);
+            }
+        }
+
+        for (TermMatch match : matches.subList(1, matches.size())) {
+            scores.entrySet().removeIf(entry -> {
+                int score = tokenScore(documents.get(entry.getKey()), match.term());
+                entry.setValue(entry.getValue() + score);
+                return score == 0;
+            });
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        Integer skuSlot = slotsBySku.get(sku);
+        if (skuSlot != null) {
+            scores.computeIfPresent(skuSlot, (slot, score) -> score + EXACT_SKU_BOOST);
+        }
+
+        PriorityQueue<Hit> top = new PriorityQueue<>(RANKING.reversed());
+        scores.forEach((slot, score) -> offer(top, new Hit(documents.get(slot).productId(), score), limit));
+        return ranked(top);
+    }
+
+    // Caller must hold the read lock
+    private List<Hit> searchMany(List<TermMatch> matches, String sku, int limit) {
+        Scratch buffers = scratch.get();
+        int[] scores = buffers.scores(documents.size());
+        int[] candidates = seed(matches.get(0), scores);
+        int size = candidates.length;
+        try {
+            for (TermMatch match : matches.subList(1, matches.size())) {
+                // Few candidates against a common term: check their own tokens instead of its postings
+                if ((long) size * 16 < match.count()) {
+                    size = narrowByTokens(match.term(), candidates, size, scores);
+                } else {
+                    size = narrowByPostings(match, candidates, size, scores, buffers.termScores(documents.size()));
+                }
+                if (size == 0) {
+                    return List.of();
+                }
+            }
+
+            Integer skuSlot = slotsBySku.get(sku);
+            if (skuSlot != null && scores[skuSlot] > 0) {
+                scores[skuSlot] += EXACT_SKU_BOOST;
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(RANKING.reversed());
+            for (int i = 0; i < size; i++) {
+                int slot = candidates[i];
+                offer(top, new Hit(documents.get(slot).productId(), scores[slot]), limit);
+            }
+            return ranked(top);
+        } finally {
+            // Dropped candidates were zeroed as they were dropped
+            for (int i = 0; i < size; i++) {
+                scores[candidates[i]] = 0;
+            }
+        }
+    }
+
+    private static void offer(PriorityQueue<Hit> top, Hit hit, int limit) {
+        if (top.size() < limit) {
+            top.add(hit);
+        } else if (RANKING.compare(hit, top.peek()) < 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    private static List<Hit> ranked(PriorityQueue<Hit> top) {
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    private TermMatch match(String term) {
+        Collection<Postings> postings;
+        if (term.length() < MIN_PREFIX_LENGTH) {
+            Postings exact = terms.get(term);
+            postings = exact == null ? List.of() : List.of(exact);
+        } else {
+            postings = terms.subMap(term, true, term + Character.MAX_VALUE, false).values();
+        }
+        long count = 0;
+        for (Postings tokenPostings : postings) {
+            count += tokenPostings.size;
+        }
+        return new TermMatch(term, postings, count);
+    }
+
+    // Scores the rarest term into the per-slot array and returns the slots it matched, each once
+    private static int[] seed(TermMatch match, int[] scores) {
+        int[] candidates = new int[(int) match.count()];
+        int size = 0;
+        for (Postings postings : match.postings()) {
+            boolean exact = postings.term.equals(match.term());
+            for (int i = 0; i < postings.size; i++) {
+                int slot = postings.entries[i] >>> FIELD_BITS;
+                if (scores[slot] == 0) {
+                    candidates[size++] = slot;
+                }
+                scores[slot] = Math.max(scores[slot], tokenScore(postings.entries[i], exact));
+            }
+        }
+        return size == candidates.length ? candidates : Arrays.copyOf(candidates, size);
+    }
+
+    // Keeps the candidates with a token that matches the term, adding its score
+    private int narrowByTokens(String term, int[] candidates, int size, int[] scores) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int slot = candidates[i];
+            int best = tokenScore(documents.get(slot), term);
+            if (best > 0) {
+                scores[slot] += best;
+                candidates[kept++] = slot;
+            } else {
+                scores[slot] = 0;
+            }
+        }
+        return kept;
+    }
+
+    // Keeps the candidates found in the term's postings; termScores is all zeros on entry and exit
+    private static int narrowByPostings(TermMatch match, int[] candidates, int size, int[] scores, int[] termScores) {
+        for (Postings postings : match.postings()) {
+            boolean exact = postings.term.equals(match.term());
+            for (int i = 0; i < postings.size; i++) {
+                int slot = postings.entries[i] >>> FIELD_BITS;
+                if (scores[slot] > 0) {
+                    termScores[slot] = Math.max(termScores[slot], tokenScore(postings.entries[i], exact));
+                }
+            }
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int slot = candidates[i];
+            if (termScores[slot] > 0) {
+                scores[slot] += termScores[slot];
+                termScores[slot] = 0;
+                candidates[kept++] = slot;
+            } else {
+                scores[slot] = 0;
+            }
+        }
+        return kept;
+    }
+
+    // The best score among the document's tokens that match the term, zero if none does
+    private static int tokenScore(Document document, String term) {
+        int best = 0;
+        for (int t = 0; t < document.tokens().length; t++) {
+            String token = document.tokens()[t];
+            boolean exact = token.equals(term);
+            if (exact || (term.length() >= MIN_PREFIX_LENGTH && token.startsWith(term))) {
+                best = Math.max(best, fieldScore(document.fields()[t], exact));
+            }
+        }
+        return best;
+    }
+
+    private static int tokenScore(int entry, boolean exact) {
+        return fieldScore(entry & ((1 << FIELD_BITS) - 1), exact);
+    }
+
+    private static int fieldScore(int fields, boolean exact) {
+        int weight = ((fields & NAME_FIELD) != 0 ? NAME_WEIGHT : 0)
+                + ((fields & SKU_FIELD) != 0 ? SKU_WEIGHT : 0)
+                + ((fields & DESCRIPTION_FIELD) != 0 ? DESCRIPTION_WEIGHT : 0);
+        return exact ? 2 * weight : weight;
+    }
+
+    // Caller must hold the write lock
+    private void apply(ProductChangedEvent event) {
+        unindex(event.productId());
+        if (!event.deleted()) {
+            index(event.productId(), event.name(), event.sku(), event.description());
+        }
+    }
+
+    // Caller must hold the write lock
+    private void index(Long productId, String name, String sku, String description) {
+        Map<String, Integer> fieldsByToken = new LinkedHashMap<>();
+        addTokens(fieldsByToken, name, NAME_FIELD);
+        addTokens(fieldsByToken, sku, SKU_FIELD);
+        addTokens(fieldsByToken, description, DESCRIPTION_FIELD);
+
+        int slot = freeSlots.isEmpty() ? documents.size() : freeSlots.pop();
+        String[] tokens = new String[fieldsByToken.size()];
+        byte[] fields = new byte[tokens.length];
+        int[] positions = new int[tokens.length];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : fieldsByToken.entrySet()) {
+            Postings postings = terms.computeIfAbsent(entry.getKey(), Postings::new);
+            positions[i] = postings.add(slot << FIELD_BITS | entry.getValue());
+            tokens[i] = postings.term;
+            fields[i++] = entry.getValue().byteValue();
+        }
+
+        Document document = new Document(productId, sku, tokens, fields, positions);
+        if (slot == documents.size()) {
+            documents.add(document);
+        } else {
+            documents.set(slot, document);
+        }
+        slotsById.put(productId, slot);
+        if (sku != null) {
+            slotsBySku.put(sku.trim().toLowerCase(Locale.ROOT), slot);
+        }
+    }
+
+    // Caller must hold the write lock
+    private void unindex(Long productId) {
+        Integer slot = slotsById.remove(productId);
+        if (slot == null) {
+            return;
+        }
+        Document document = documents.get(slot);
+        for (int t = 0; t < document.tokens().length; t++) {
+            String token = document.tokens()[t];
+            Postings postings = terms.get(token);
+            int movedSlot = postings.remove(document.positions()[t]);
+            if (movedSlot >= 0) {
+                // The last entry took the removed one's place; point its document at the new position
+                Document moved = documents.get(movedSlot);
+                moved.positions()[indexOf(moved.tokens(), token)] = document.positions()[t];
+            }
+            if (postings.size == 0) {
+                terms.remove(token);
+            }
+        }
+        if (document.sku() != null) {
+            slotsBySku.remove(document.sku().trim().toLowerCase(Locale.ROOT), slot);
+        }
+        documents.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    // Tokens are the dictionary's instances, so identity finds them
+    private static int indexOf(String[] tokens, String token) {
+        for (int i = 0; i < tokens.length; i++) {
+            if (tokens[i] == token) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Token " + token + " missing from its document");
+    }
+
+    private static void addTokens(Map<String, Integer> fieldsByToken, String text, int field) {
+        for (String token : tokenize(text)) {
+            fieldsByToken.merge(token, field, (a, b) -> a | b);
+        }
+    }
+
+    // Unordered postings of one token, in a growable int array
+    private static final class Postings {
+
+        private final String term;
+
+        private int[] entries = new int[2];
+
+        private int size;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        // Returns the position the entry was stored at
+        private int add(int entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size] = entry;
+            return size++;
+        }
+
+        // Moves the last entry into the freed position and returns its slot, or -1 if the removed
+        // entry was the last
+        private int remove(int position) {
+            int last = entries[--size];
+            if (position == size) {
+                return -1;
+            }
+            entries[position] = last;
+            return last >>> FIELD_BITS;
+        }
+    }
+
+    // One thread's score arrays, grown with the catalog
+    private static final class Scratch {
+
+        private int[] scores = new int[0];
+
+        private int[] termScores = new int[0];
+
+        private int[] scores(int slots) {
+            if (scores.length < slots) {
+                scores = new int[slots + slots / 4];
+            }
+            return scores;
+        }
+
+        private int[] termScores(int slots) {
+            if (termScores.length < slots) {
+                termScores = new int[slots + slots / 4];
+            }
+            return termScores;
+        }
+    }
+}
@@ -1,27 +1,37 @@
 package com.YourInventory.InventoryManagementSystem.services;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.YourInventory.InventoryManagementSystem.dtos.ProductDTO;
 import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.events.ProductChangedEvent;
+import com.YourInventory.InventoryManagementSystem.events.StockChangedEvent;
 import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
 import com.YourInventory.InventoryManagementSystem.exceptions.NotFoundException;
+import com.YourInventory.InventoryManagementSystem.mappers.ProductMapper;
 import com.YourInventory.InventoryManagementSystem.model.Category;
 import com.YourInventory.InventoryManagementSystem.model.Product;
 import com.YourInventory.InventoryManagementSystem.model.Transaction;
 import com.YourInventory.InventoryManagementSystem.repositories.CategoryRepository;
 import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
 import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductListItem;
+import com.YourInventory.InventoryManagementSystem.utils.KeysetCursor;
 
 @Service
 public class ProductService {
@@ -36,14 +46,26 @@ public class ProductService {
     private CategoryRepository categoryRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private StockHistoryService stockHistoryService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
 
     public Response getAllProducts(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Product> productPage = productRepository.findAll(pageable);
+        Page<ProductListItem> productPage = productRepository.findListItems(pageable);
 
         List<ProductDTO> productDTOs = productPage.getContent().stream()
-                .map(this::convertToDTO)
+                .map(productMapper::toDTO)
                 .collect(Collectors.toList());
 
         return Response.builder()
@@ -55,11 +77,42 @@ public class ProductService {
                 .build();
     }
 
+    // Cursor pagination: an empty cursor reads the first page; no count query at any depth
+    public Response getProductsAfter(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        Slice<Product> productSlice;
+        if (cursor.isEmpty()) {
+            productSlice = productRepository.findAllByOrderByCreatedAtDescIdDesc(limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            productSlice = productRepository.findPageAfter(after.createdAt(), after.id(), limit);
+        }
+
+        List<Product> products = productSlice.getContent();
+        List<ProductDTO> productDTOs = products.stream()
+                .map(productMapper::toDTO)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (productSlice.hasNext()) {
+            Product last = products.get(products.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return Response.builder()
+                .status(200)
+                .message("Products retrieved successfully")
+                .products(productDTOs)
+                .hasNext(productSlice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     public Response getProductById(Long productId) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
 
-        ProductDTO productDTO = convertToDTO(product);
+        ProductDTO productDTO = productMapper.toDTO(product);
 
         return Response.builder()
                 .status(200)
@@ -68,6 +121,34 @@ public class ProductService {
                 .build();
     }
 
+    // Ranked full-text matches on name, SKU and description, answered by the in-memory index;
+    // only the rows of the returned hits are read from the database
+    public Response searchProducts(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new NameValueRequiredException("Search query is required");
+        }
+        int limit = Math.max(1, Math.min(size, ProductSearchIndex.MAX_RESULTS));
+        List<ProductSearchIndex.Hit> hits = productSearchIndex.search(query, limit);
+
+        List<Long> ids = hits.stream().map(ProductSearchIndex.Hit::productId).collect(Collectors.toList());
+        Map<Long, ProductListItem> rows = ids.isEmpty() ? Map.of()
+                : productRepository.findListItemsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(ProductListItem::id, Function.identity()));
+
+        List<ProductDTO> productDTOs = ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(productMapper::toDTO)
+                .collect(Collectors.toList());
+
+        return Response.builder()
+                .status(200)
+                .message("Products retrieved successfully")
+                .products(productDTOs)
+                .totalElements((long) productDTOs.size())
+                .build();
+    }
+
     public Response getProductsByCategory(Long categoryId, int page, int size) {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new NotFoundException("Category not found with id: " + categoryId));
@@ -76,7 +157,7 @@ public class ProductService {
         Page<Product> productPage = productRepository.findByCategory(category, pageable);
 
         List<ProductDTO> productDTOs = productPage.getContent().stream()
-                .map(this::convertToDTO)
+                .map(productMapper::toDTO)
                 .collect(Collectors.toList());
 
         return Response.builder()
@@ -93,7 +174,7 @@ public class ProductService {
         Page<Product> productPage = productRepository.findByStockQuantityLessThanEqual(threshold, pageable);
 
         List<ProductDTO> productDTOs = productPage.getContent().stream()
-                .map(this::convertToDTO)
+                .map(productMapper::toDTO)
                 .collect(Collectors.toList());
 
         return Response.builder()
@@ -105,6 +186,32 @@ public class ProductService {
                 .build();
     }
 
+    public Response getProductsToReorder(int page, int size) {
+        // Urgent reorders (at or below safety stock) first, then the lowest stock
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.desc("reorderUrgent"), Sort.Order.asc("stockQuantity")));
+        Page<Product> productPage = productRepository.findByNeedsReorderTrue(pageable);
+
+        List<ProductDTO> productDTOs = productPage.getContent().stream()
+                .map(productMapper::toDTO)
+                .collect(Collectors.toList());
+
+        return Response.builder()
+                .status(200)
+                .message("Products to reorder retrieved successfully")
+                .products(productDTOs)
+                .totalPages(productPage.getTotalPages())
+                .totalElements(productPage.getTotalElements())
+                .build();
+    }
+
+    public Response getStockAt(Long productId, LocalDateTime at) {
+        if (!productRepository.existsById(productId)) {
+            throw new NotFoundException("Product not found with id: " + productId);
+        }
+        return stockHistoryService.getStockHistoryAt(productId, at);
+    }
+
+    @Transactional
     public Response createProduct(ProductDTO productDTO) {
         validateProductDTO(productDTO);
 
@@ -121,6 +228,8 @@ public class ProductService {
                 .sku(productDTO.getSku().trim().toUpperCase())
                 .price(productDTO.getPrice())
                 .stockQuantity(productDTO.getStockQuantity())
+                .reorderPoint(productDTO.getReorderPoint())
+                .safetyStock(productDTO.getSafetyStock())
                 .description(productDTO.getDescription() != null ? productDTO.getDescription().trim() : null)
                 .expiryDate(productDTO.getExpiryDate())
                 .imageUrl(productDTO.getImageUrl())
@@ -128,7 +237,11 @@ public class ProductService {
                 .build();
 
         Product savedProduct = productRepository.save(product);
-        ProductDTO savedProductDTO = convertToDTO(savedProduct);
+        // The starting stock is the product's first snapshot; later changes are ledger movements
+        stockHistoryService.recordOpening(savedProduct.getId(), savedProduct.getStockQuantity());
+        eventPublisher.publishEvent(new StockChangedEvent(savedProduct.getId(), null, savedProduct.getStockQuantity()));
+        eventPublisher.publishEvent(ProductChangedEvent.saved(savedProduct));
+        ProductDTO savedProductDTO = productMapper.toDTO(savedProduct);
 
         return Response.builder()
                 .status(200)
@@ -137,6 +250,7 @@ public class ProductService {
                 .build();
     }
 
+    @Transactional
     public Response updateProduct(Long productId, ProductDTO productDTO) {
         Product existingProduct = productRepository.findById(productId)
                 .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
@@ -154,14 +268,18 @@ public class ProductService {
         existingProduct.setName(productDTO.getName().trim());
         existingProduct.setSku(productDTO.getSku().trim().toUpperCase());
         existingProduct.setPrice(productDTO.getPrice());
-        existingProduct.setStockQuantity(productDTO.getStockQuantity());
+        existingProduct.setReorderPoint(productDTO.getReorderPoint());
+        existingProduct.setSafetyStock(productDTO.getSafetyStock());
         existingProduct.setDescription(productDTO.getDescription() != null ? productDTO.getDescription().trim() : null);
         existingProduct.setExpiryDate(productDTO.getExpiryDate());
         existingProduct.setImageUrl(productDTO.getImageUrl());
         existingProduct.setCategory(category);
 
         Product updatedProduct = productRepository.save(existingProduct);
-        ProductDTO updatedProductDTO = convertToDTO(updatedProduct);
+        int newStock = applyEditedStock(productId, productDTO);
+        updatedProduct.setStockQuantity(newStock);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(updatedProduct));
+        ProductDTO updatedProductDTO = productMapper.toDTO(updatedProduct);
 
         return Response.builder()
                 .status(200)
@@ -170,6 +288,34 @@ public class ProductService {
                 .build();
     }
 
+    // An edit form echoes the stock it loaded, which concurrent sales may have changed since.
+    // With loadedStockQuantity the edit applies only the user's own difference; without it the
+    // stock is set only when it differs from the current value. Returns the stock afterwards.
+    private int applyEditedStock(Long productId, ProductDTO productDTO) {
+        int requested = productDTO.getStockQuantity();
+        Integer loaded = productDTO.getLoadedStockQuantity();
+        int previousStock;
+        int newStock;
+        if (loaded != null) {
+            int delta = requested - loaded;
+            if (delta == 0) {
+                return stockService.current(productId);
+            }
+            newStock = delta > 0 ? stockService.increment(productId, delta) : stockService.decrement(productId, -delta);
+            previousStock = newStock - delta;
+        } else {
+            if (stockService.current(productId) == requested) {
+                return requested;
+            }
+            previousStock = stockService.set(productId, requested);
+            newStock = requested;
+        }
+        eventPublisher.publishEvent(new StockChangedEvent(productId, previousStock, newStock));
+        return newStock;
+    }
+
+    // Transactional so that its events are applied after the delete commits, like every other change
+    @Transactional
     public Response deleteProduct(Long productId) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
@@ -180,6 +326,8 @@ public class ProductService {
                 }
 
         productRepository.delete(product);
+        eventPublisher.publishEvent(new StockChangedEvent(productId, product.getStockQuantity(), null));
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(productId));
 
         return Response.builder()
                 .status(200)
@@ -187,33 +335,35 @@ public class ProductService {
                 .build();
     }
 
+    @Transactional
     public Response updateStock(Long productId, Integer quantity, String operation) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
-
-        int currentStock = product.getStockQuantity();
+        int currentStock;
         int newStock;
 
+        // Single guarded UPDATEs (or hot-stock ledger changes), so they compose with concurrent sales
         switch (operation.toLowerCase()) {
             case "add":
-                newStock = currentStock + quantity;
+                newStock = stockService.increment(productId, quantity);
+                currentStock = newStock - quantity;
                 break;
             case "subtract":
-                newStock = currentStock - quantity;
-                if (newStock < 0) {
-                    throw new NameValueRequiredException("Insufficient stock. Available: " + currentStock + ", Requested: " + quantity);
-                }
+                newStock = stockService.decrement(productId, quantity);
+                currentStock = newStock + quantity;
                 break;
             case "set":
+                currentStock = stockService.set(productId, quantity);
                 newStock = quantity;
                 break;
             default:
                 throw new NameValueRequiredException("Invalid operation. Use 'add', 'subtract', or 'set'");
         }
 
-        product.setStockQuantity(newStock);
-        Product updatedProduct = productRepository.save(product);
-        ProductDTO updatedProductDTO = convertToDTO(updatedProduct);
+        Product updatedProduct = productRepository.findById(productId)
+                .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
+        // The row may lag a hot product's ledger; the stock column is never written from the entity
+        updatedProduct.setStockQuantity(newStock);
+        eventPublisher.publishEvent(new StockChangedEvent(productId, currentStock, newStock));
+        ProductDTO updatedProductDTO = productMapper.toDTO(updatedProduct);
 
         return Response.builder()
                 .status(200)
@@ -238,13 +388,15 @@ public class ProductService {
         if (productDTO.getCategoryId() == null) {
             throw new NameValueRequiredException("Category is required");
         }
-    }
-
-    private ProductDTO convertToDTO(Product product) {
-        ProductDTO productDTO = modelMapper.map(product, ProductDTO.class);
-        if (product.getCategory() != null) {
-            productDTO.setCategoryId(product.getCategory().getId());
+        if (productDTO.getReorderPoint() != null && productDTO.getReorderPoint() < 0) {
+            throw new NameValueRequiredException("Reorder point cannot be negative");
+        }
+        if (productDTO.getSafetyStock() != null && productDTO.getSafetyStock() < 0) {
+            throw new NameValueRequiredException("Safety stock cannot be negative");
+        }
+        if (productDTO.getSafetyStock() != null && productDTO.getReorderPoint() != null
+                && productDTO.getSafetyStock() > productDTO.getReorderPoint()) {
+            throw new NameValueRequiredException("Safety stock cannot be greater than the reorder point");
         }
-        return productDTO;
     }
 }
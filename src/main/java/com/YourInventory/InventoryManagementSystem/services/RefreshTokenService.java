@@ -0,0 +1,85 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.YourInventory.InventoryManagementSystem.exceptions.InavlidCredentialsException;
+import com.YourInventory.InventoryManagementSystem.model.RefreshToken;
+import com.YourInventory.InventoryManagementSystem.repositories.RefreshTokenRepository;
+
+// Opaque refresh tokens kept server-side. A token is good for one use: redeeming it deletes the
+// row and the caller issues a replacement, so a stolen token stops working once either party uses it.
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpirationMs;
+
+    public String issue(Long userId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .userId(userId)
+                .createdAt(now)
+                .expiresAt(now.plusNanos(refreshExpirationMs * 1_000_000))
+                .build());
+        return token;
+    }
+
+    // Consumes the token and returns the user it was issued to
+    public Long redeem(String token) {
+        String tokenHash = hash(token);
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new InavlidCredentialsException("Invalid refresh token"));
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0
+                || stored.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InavlidCredentialsException("Invalid refresh token");
+        }
+        return stored.getUserId();
+    }
+
+    public void revoke(String token) {
+        refreshTokenRepository.deleteByTokenHash(hash(token));
+    }
+
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    public String getExpirationTime() {
+        return String.valueOf(refreshExpirationMs);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
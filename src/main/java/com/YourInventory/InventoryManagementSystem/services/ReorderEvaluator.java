@@ -0,0 +1,140 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.YourInventory.InventoryManagementSystem.events.ProductChangedEvent;
+import com.YourInventory.InventoryManagementSystem.events.StockChangedEvent;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+
+// Keeps Product.needsReorder and Product.reorderUrgent current. Stock and product change events
+// only record the product id; a single background worker re-reads those products in batches and
+// writes the flags when they flip. Repeated changes to one product before the worker gets to it
+// collapse into one check. The queue is only an accelerator: the flags on the product rows are
+// the source of truth, and at startup every row whose flags disagree with its stock is corrected,
+// so evaluations lost with a restart are made up in one statement.
+@Service
+public class ReorderEvaluator {
+
+    private static final Logger log = LoggerFactory.getLogger(ReorderEvaluator.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Value("${inventory.reorder.default-point:10}")
+    private int defaultReorderPoint;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("reorder-evaluator-"));
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        int corrected = productRepository.reconcileReorderFlags(defaultReorderPoint);
+        if (corrected > 0) {
+            log.info("Corrected reorder flags of {} products", corrected);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        if (event.newQuantity() != null) {
+            submit(event.productId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!event.deleted()) {
+            submit(event.productId());
+        }
+    }
+
+    public boolean needsReorder(Product product) {
+        int reorderPoint = product.getReorderPoint() != null ? product.getReorderPoint() : defaultReorderPoint;
+        return product.getStockQuantity() != null && product.getStockQuantity() <= reorderPoint;
+    }
+
+    // Urgent: the buffer is being used up. Without a safety stock there is no urgent tier
+    public boolean reorderUrgent(Product product) {
+        return product.getStockQuantity() != null && product.getSafetyStock() != null
+                && product.getStockQuantity() <= product.getSafetyStock();
+    }
+
+    private void submit(Long productId) {
+        pending.add(productId);
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                worker.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            List<Long> batch;
+            while (!(batch = takeBatch()).isEmpty()) {
+                evaluate(batch);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Reorder evaluation failed", e);
+        } finally {
+            draining.set(false);
+        }
+
+        // A product may have been queued between the last batch and releasing the flag
+        if (!pending.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private List<Long> takeBatch() {
+        List<Long> batch = new ArrayList<>(BATCH_SIZE);
+        Iterator<Long> iterator = pending.iterator();
+        while (iterator.hasNext() && batch.size() < BATCH_SIZE) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    private void evaluate(List<Long> productIds) {
+        for (Product product : productRepository.findAllById(productIds)) {
+            boolean needsReorder = needsReorder(product);
+            boolean reorderUrgent = reorderUrgent(product);
+            if (!Objects.equals(product.getNeedsReorder(), needsReorder)
+                    || !Objects.equals(product.getReorderUrgent(), reorderUrgent)) {
+                productRepository.updateReorderFlags(product.getId(), needsReorder, reorderUrgent);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.enums.RollupGranularity;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.events.ProductChangedEvent;
+import com.YourInventory.InventoryManagementSystem.events.TransactionRecordedEvent;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.repositories.SalesRollupRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductSalesSummary;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.RollupTotal;
+
+@Service
+public class SalesRollupService {
+
+    // bucket_start of the TOTAL rows
+    public static final LocalDate ALL_TIME = LocalDate.of(1970, 1, 1);
+
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    // Runs inside the writing transaction so a rollup never disagrees with the transaction table
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onTransactionRecorded(TransactionRecordedEvent event) {
+        // Like the backfill, only transactions of a product are rolled up
+        if (event.productId() == null) {
+            return;
+        }
+        LocalDate day = event.createdAt().toLocalDate();
+        BigDecimal revenue = event.totalPrice() != null ? event.totalPrice() : BigDecimal.ZERO;
+
+        salesRollupRepository.increment(RollupGranularity.DAY.name(), event.transactionType().name(),
+                day, event.productId(), event.quantity(), revenue);
+        salesRollupRepository.increment(RollupGranularity.MONTH.name(), event.transactionType().name(),
+                day.withDayOfMonth(1), event.productId(), event.quantity(), revenue);
+        salesRollupRepository.increment(RollupGranularity.TOTAL.name(), event.transactionType().name(),
+                ALL_TIME, event.productId(), event.quantity(), revenue);
+    }
+
+    // A product is only deleted once its transactions are gone, and a backfill would no longer count
+    // them, so its rollups go with it
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.deleted()) {
+            salesRollupRepository.deleteByProductId(event.productId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (salesRollupRepository.count() == 0 && transactionRepository.count() > 0) {
+            backfill();
+        } else if (!salesRollupRepository.existsByGranularity(RollupGranularity.TOTAL)
+                && salesRollupRepository.existsByGranularity(RollupGranularity.MONTH)) {
+            // Rollups written before the all-time rows existed
+            salesRollupRepository.backfillTotalFromMonthly(ALL_TIME);
+        }
+    }
+
+    @Transactional
+    public Response backfill() {
+        salesRollupRepository.deleteAllRollups();
+        int dailyRows = salesRollupRepository.backfillDaily();
+        int monthlyRows = salesRollupRepository.backfillMonthlyFromDaily();
+        int totalRows = salesRollupRepository.backfillTotalFromMonthly(ALL_TIME);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("dailyRows", dailyRows);
+        data.put("monthlyRows", monthlyRows);
+        data.put("totalRows", totalRows);
+
+        return Response.builder()
+                .status(200)
+                .message("Sales rollups rebuilt successfully")
+                .data(data)
+                .build();
+    }
+
+    // Same shape as the old in-memory trend: "yyyy-MM" -> revenue from 'since' on. Rollups hold
+    // whole days, so the day of 'since' is counted in full: the old scan took only what came after
+    // the exact instant, but dropping that day would lose its sales after the cutoff instead.
+    // Whole months come from the monthly rollup, the partial first month from the daily rollup.
+    public Map<String, BigDecimal> getMonthlyTrend(TransactionType type, LocalDateTime since) {
+        LocalDate sinceDay = since.toLocalDate();
+        LocalDate firstFullMonth = sinceDay.withDayOfMonth(1).plusMonths(1);
+        LocalDate end = LocalDate.now().plusDays(1);
+
+        Map<String, BigDecimal> trend = new LinkedHashMap<>();
+
+        RollupTotal partialMonth = salesRollupRepository.sumBetween(RollupGranularity.DAY, type,
+                sinceDay, firstFullMonth);
+        if (partialMonth.getTransactionCount() > 0) {
+            trend.put(bucketKey(sinceDay), partialMonth.getRevenue());
+        }
+
+        for (RollupTotal month : salesRollupRepository.sumByBucket(RollupGranularity.MONTH, type, firstFullMonth, end)) {
+            trend.put(bucketKey(month.getBucketStart()), month.getRevenue());
+        }
+        return trend;
+    }
+
+    public List<ProductSalesSummary> getTopProducts(TransactionType type, int limit) {
+        return salesRollupRepository.findTopProductsByQuantity(type, PageRequest.of(0, limit));
+    }
+
+    public Response getSalesComparison(int days) {
+        if (days <= 0) {
+            throw new NameValueRequiredException("Days must be greater than 0");
+        }
+
+        LocalDate currentEnd = LocalDate.now().plusDays(1);
+        LocalDate currentStart = currentEnd.minusDays(days);
+        LocalDate previousStart = currentStart.minusDays(days);
+
+        RollupTotal current = salesRollupRepository.sumBetween(RollupGranularity.DAY, TransactionType.SALE, currentStart, currentEnd);
+        RollupTotal previous = salesRollupRepository.sumBetween(RollupGranularity.DAY, TransactionType.SALE, previousStart, currentStart);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("days", days);
+        data.put("currentPeriod", periodData(currentStart, currentEnd, current));
+        data.put("previousPeriod", periodData(previousStart, currentStart, previous));
+        data.put("revenueChangePercent", percentChange(previous.getRevenue(), current.getRevenue()));
+        data.put("dailySales", salesRollupRepository.sumByBucket(RollupGranularity.DAY, TransactionType.SALE, currentStart, currentEnd)
+                .stream()
+                .map(day -> {
+                    Map<String, Object> dayData = new HashMap<>();
+                    dayData.put("date", day.getBucketStart());
+                    dayData.put("quantity", day.getQuantity());
+                    dayData.put("revenue", day.getRevenue());
+                    return dayData;
+                })
+                .collect(Collectors.toList()));
+
+        return Response.builder()
+                .status(200)
+                .message("Sales comparison retrieved successfully")
+                .data(data)
+                .build();
+    }
+
+    private Map<String, Object> periodData(LocalDate from, LocalDate to, RollupTotal total) {
+        Map<String, Object> period = new HashMap<>();
+        period.put("from", from);
+        period.put("to", to.minusDays(1));
+        period.put("quantity", total.getQuantity());
+        period.put("revenue", total.getRevenue());
+        period.put("transactionCount", total.getTransactionCount());
+        return period;
+    }
+
+    private BigDecimal percentChange(BigDecimal previous, BigDecimal current) {
+        if (previous == null || previous.signum() == 0) {
+            return null;
+        }
+        return current.subtract(previous)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(previous.abs(), 2, RoundingMode.HALF_UP);
+    }
+
+    private String bucketKey(LocalDate date) {
+        return date.getYear() + "-" + String.format("%02d", date.getMonthValue());
+    }
+}
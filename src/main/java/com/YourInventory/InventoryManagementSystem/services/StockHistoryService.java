@@ -0,0 +1,131 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.exceptions.NotFoundException;
+import com.YourInventory.InventoryManagementSystem.model.StockMovement;
+import com.YourInventory.InventoryManagementSystem.model.StockSnapshot;
+import com.YourInventory.InventoryManagementSystem.repositories.StockMovementRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.StockSnapshotRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.MovementReplay;
+
+// Stock history as an append-only movement ledger plus periodic per-product snapshots.
+// Stock at any time is the latest snapshot at or before it plus the movements since, so a
+// point-in-time read is one index seek and a replay bounded by the snapshot interval.
+// Snapshots only cover movements older than the settle window, so a movement whose
+// transaction commits late is never left behind a snapshot that did not include it.
+@Service
+public class StockHistoryService {
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private StockSnapshotRepository stockSnapshotRepository;
+
+    @Value("${inventory.stock-history.settle-ms:60000}")
+    private long settleMs;
+
+    // Movements up to this time have been considered by the last snapshot run
+    private volatile LocalDateTime snapshotCutoff;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        stockSnapshotRepository.insertOpeningSnapshots(LocalDateTime.now());
+    }
+
+    // Joins the caller's transaction, so the movement commits or rolls back with the change
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordMovement(Long productId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        stockMovementRepository.save(StockMovement.builder()
+                .productId(productId)
+                .delta(delta)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOpening(Long productId, int quantity) {
+        stockSnapshotRepository.save(StockSnapshot.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .takenAt(LocalDateTime.now())
+                .build());
+    }
+
+    public int getStockAt(Long productId, LocalDateTime at) {
+        StockSnapshot snapshot = findSnapshot(productId, at);
+        return snapshot.getQuantity() + stockMovementRepository.replay(productId, snapshot.getTakenAt(), at).getDelta().intValue();
+    }
+
+    public Response getStockHistoryAt(Long productId, LocalDateTime at) {
+        StockSnapshot snapshot = findSnapshot(productId, at);
+        MovementReplay replay = stockMovementRepository.replay(productId, snapshot.getTakenAt(), at);
+
+        Map<String, Object> stockData = new HashMap<>();
+        stockData.put("productId", productId);
+        stockData.put("at", at);
+        stockData.put("stockQuantity", snapshot.getQuantity() + replay.getDelta().intValue());
+        stockData.put("snapshotTakenAt", snapshot.getTakenAt());
+        stockData.put("replayedMovements", replay.getMovements());
+
+        return Response.builder()
+                .status(200)
+                .message("Stock at " + at + " retrieved successfully")
+                .data(stockData)
+                .build();
+    }
+
+    // Snapshots every product that moved since the last run, from its own latest snapshot
+    @Scheduled(fixedDelayString = "${inventory.stock-history.snapshot-interval-ms:3600000}",
+            initialDelayString = "${inventory.stock-history.snapshot-interval-ms:3600000}")
+    public void takeSnapshots() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(settleMs));
+        LocalDateTime since = snapshotCutoff != null
+                ? snapshotCutoff
+                : stockSnapshotRepository.findLatestTakenAt().orElse(cutoff);
+        if (!cutoff.isAfter(since)) {
+            return;
+        }
+
+        List<StockSnapshot> snapshots = new ArrayList<>();
+        for (Long productId : stockMovementRepository.findProductIdsMovedBetween(since, cutoff)) {
+            stockSnapshotRepository.findFirstByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(productId, cutoff)
+                    .ifPresent(latest -> {
+                        MovementReplay replay = stockMovementRepository.replay(productId, latest.getTakenAt(), cutoff);
+                        if (replay.getMovements() > 0) {
+                            snapshots.add(StockSnapshot.builder()
+                                    .productId(productId)
+                                    .quantity(latest.getQuantity() + replay.getDelta().intValue())
+                                    .takenAt(cutoff)
+                                    .build());
+                        }
+                    });
+        }
+        stockSnapshotRepository.saveAll(snapshots);
+        snapshotCutoff = cutoff;
+    }
+
+    private StockSnapshot findSnapshot(Long productId, LocalDateTime at) {
+        return stockSnapshotRepository.findFirstByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(productId, at)
+                .orElseThrow(() -> new NotFoundException("No stock history for product " + productId + " at " + at));
+    }
+}
@@ -0,0 +1,96 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.exceptions.NotFoundException;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+
+// Applies stock changes as single guarded UPDATE statements, so concurrent sales of the same
+// product can neither lose an update nor take the stock below zero. Products configured as hot
+// are changed in HotStockLedger instead. Call these inside the transaction that records the
+// movement; a hot-stock change only counts if that transaction commits. Each change is also
+// appended to the stock movement ledger in that transaction.
+@Service
+public class StockService {
+
+    // Start of the message a decrement fails with when the stock is too low
+    static final String SHORTAGE = "Insufficient stock";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private HotStockLedger hotStockLedger;
+
+    @Autowired
+    private StockHistoryService stockHistoryService;
+
+    // Returns the stock after the change
+    @Transactional
+    public int decrement(Long productId, int quantity) {
+        return decrement(productId, quantity, SHORTAGE);
+    }
+
+    // As above, failing with a message that starts with shortage
+    @Transactional
+    public int decrement(Long productId, int quantity, String shortage) {
+        if (hotStockLedger.isHot(productId)) {
+            int newStock = hotStockLedger.decrement(productId, quantity, shortage);
+            stockHistoryService.recordMovement(productId, -quantity);
+            return newStock;
+        }
+        if (productRepository.decrementStock(productId, quantity) == 0) {
+            Integer available = productRepository.findStockQuantityById(productId)
+                    .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
+            throw new NameValueRequiredException(shortage + ". Available: " + available + ", Requested: " + quantity);
+        }
+        stockHistoryService.recordMovement(productId, -quantity);
+        return currentStock(productId);
+    }
+
+    // Returns the stock after the change
+    @Transactional
+    public int increment(Long productId, int quantity) {
+        if (hotStockLedger.isHot(productId)) {
+            int newStock = hotStockLedger.increment(productId, quantity);
+            stockHistoryService.recordMovement(productId, quantity);
+            return newStock;
+        }
+        if (productRepository.incrementStock(productId, quantity) == 0) {
+            throw new NotFoundException("Product not found with id: " + productId);
+        }
+        stockHistoryService.recordMovement(productId, quantity);
+        return currentStock(productId);
+    }
+
+    // Returns the stock before the change
+    @Transactional
+    public int set(Long productId, int quantity) {
+        if (hotStockLedger.isHot(productId)) {
+            int previousStock = hotStockLedger.set(productId, quantity);
+            stockHistoryService.recordMovement(productId, quantity - previousStock);
+            return previousStock;
+        }
+        // Lock the row before reading it, or a sale committed in between is missing from the movement
+        int previousStock = productRepository.lockStockQuantityById(productId)
+                .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
+        productRepository.setStock(productId, quantity);
+        stockHistoryService.recordMovement(productId, quantity - previousStock);
+        return previousStock;
+    }
+
+    // Hot products read the in-memory counter, which is ahead of the products row until the next flush
+    public int current(Long productId) {
+        return hotStockLedger.isHot(productId) ? hotStockLedger.current(productId) : currentStock(productId);
+    }
+
+    // Plain read. After this transaction's own UPDATE it returns the value just written, since the
+    // row stays locked until commit; otherwise it is only a snapshot that may already be stale
+    private int currentStock(Long productId) {
+        return productRepository.findStockQuantityById(productId)
+                .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
+    }
+}
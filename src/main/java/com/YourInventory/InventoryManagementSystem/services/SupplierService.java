@@ -3,7 +3,6 @@ package com.YourInventory.InventoryManagementSystem.services;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -15,8 +14,10 @@ import com.YourInventory.InventoryManagementSystem.dtos.Response;
 import com.YourInventory.InventoryManagementSystem.dtos.SupplierDTO;
 import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
 import com.YourInventory.InventoryManagementSystem.exceptions.NotFoundException;
+import com.YourInventory.InventoryManagementSystem.mappers.SupplierMapper;
 import com.YourInventory.InventoryManagementSystem.model.Supplier;
 import com.YourInventory.InventoryManagementSystem.repositories.SupplierRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.SupplierListItem;
 
 @Service
 public class SupplierService {
@@ -25,14 +26,14 @@ public class SupplierService {
     private SupplierRepository supplierRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private SupplierMapper supplierMapper;
 
     public Response getAllSuppliers(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("name").ascending());
-        Page<Supplier> supplierPage = supplierRepository.findAll(pageable);
+        Page<SupplierListItem> supplierPage = supplierRepository.findListItems(pageable);
 
         List<SupplierDTO> supplierDTOs = supplierPage.getContent().stream()
-                .map(supplier -> modelMapper.map(supplier, SupplierDTO.class))
+                .map(supplier -> supplierMapper.toDTO(supplier))
                 .collect(Collectors.toList());
 
         return Response.builder()
@@ -45,10 +46,10 @@ public class SupplierService {
     }
 
     public Response getAllSuppliersWithoutPagination() {
-        List<Supplier> suppliers = supplierRepository.findAll(Sort.by("name").ascending());
+        List<SupplierListItem> suppliers = supplierRepository.findListItems(Sort.by("name").ascending());
 
         List<SupplierDTO> supplierDTOs = suppliers.stream()
-                .map(supplier -> modelMapper.map(supplier, SupplierDTO.class))
+                .map(supplier -> supplierMapper.toDTO(supplier))
                 .collect(Collectors.toList());
 
         return Response.builder()
@@ -62,7 +63,7 @@ public class SupplierService {
         Supplier supplier = supplierRepository.findById(supplierId)
                 .orElseThrow(() -> new NotFoundException("Supplier not found with id: " + supplierId));
 
-        SupplierDTO supplierDTO = modelMapper.map(supplier, SupplierDTO.class);
+        SupplierDTO supplierDTO = supplierMapper.toDTO(supplier);
 
         return Response.builder()
                 .status(200)
@@ -92,7 +93,7 @@ public class SupplierService {
                 .build();
 
         Supplier savedSupplier = supplierRepository.save(supplier);
-        SupplierDTO savedSupplierDTO = modelMapper.map(savedSupplier, SupplierDTO.class);
+        SupplierDTO savedSupplierDTO = supplierMapper.toDTO(savedSupplier);
 
         return Response.builder()
                 .status(200)
@@ -123,7 +124,7 @@ public class SupplierService {
         existingSupplier.setAddress(supplierDTO.getAddress() != null ? supplierDTO.getAddress().trim() : null);
 
         Supplier updatedSupplier = supplierRepository.save(existingSupplier);
-        SupplierDTO updatedSupplierDTO = modelMapper.map(updatedSupplier, SupplierDTO.class);
+        SupplierDTO updatedSupplierDTO = supplierMapper.toDTO(updatedSupplier);
 
         return Response.builder()
                 .status(200)
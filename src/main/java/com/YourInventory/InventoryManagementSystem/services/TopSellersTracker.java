@@ -0,0 +1,248 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.events.TransactionRecordedEvent;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductDailySales;
+import com.YourInventory.InventoryManagementSystem.utils.RebuildBarrier;
+
+// Exact per-product sale counters over sliding windows of 1, 7 and 30 calendar days.
+// Each window keeps a running total per product id, so a top-N read is a bounded heap
+// pass over the products sold in that window; the ranking is cached until the next sale.
+// The RebuildBarrier keeps a sale that commits during a rebuild from being lost or counted twice.
+@Service
+public class TopSellersTracker {
+
+    public static final List<Integer> WINDOWS_IN_DAYS = List.of(1, 7, 30);
+
+    private static final int MAX_WINDOW_DAYS = 30;
+
+    private static final int MAX_LIMIT = 100;
+
+    // Most sold first; equal quantities in product id order, so a limit always cuts the same way
+    private static final Comparator<RankedProduct> RANKING = Comparator
+            .comparingLong(RankedProduct::quantity).reversed()
+            .thenComparingLong(RankedProduct::productId);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    // Quantity sold per product for each day still inside the largest window
+    private final Map<LocalDate, Map<Long, Long>> dailyCounts = new HashMap<>();
+
+    // Running totals per product for each window
+    private final Map<Integer, Map<Long, Long>> windowTotals = new HashMap<>();
+
+    private final Map<Integer, Ranking> rankings = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RebuildBarrier barrier = new RebuildBarrier();
+
+    // Decides where each day starts; replaced in tests
+    private Clock clock = Clock.systemDefaultZone();
+
+    private volatile LocalDate currentDay = LocalDate.now(clock);
+
+    public record RankedProduct(long productId, long quantity) {
+    }
+
+    private record Ranking(long version, List<RankedProduct> products) {
+    }
+
+    public TopSellersTracker() {
+        for (Integer window : WINDOWS_IN_DAYS) {
+            windowTotals.put(window, new HashMap<>());
+            rankings.put(window, new Ranking(-1, List.of()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        barrier.rebuild(() -> {
+            LocalDate today = LocalDate.now(clock);
+            List<ProductDailySales> rows = transactionRepository.sumQuantityByProductAndDay(
+                    TransactionType.SALE, today.minusDays(MAX_WINDOW_DAYS - 1L).atStartOfDay());
+
+            lock.writeLock().lock();
+            try {
+                dailyCounts.clear();
+                windowTotals.values().forEach(Map::clear);
+                currentDay = today;
+                for (ProductDailySales row : rows) {
+                    add(row.getProductId(), row.getSaleDate(), row.getQuantity());
+                }
+                version.incrementAndGet();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @EventListener
+    public void onTransactionRecorded(TransactionRecordedEvent event) {
+        if (event.transactionType() != TransactionType.SALE || event.productId() == null) {
+            return;
+        }
+        barrier.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                advanceTo(LocalDate.now(clock));
+                add(event.productId(), event.createdAt().toLocalDate(), event.quantity());
+                version.incrementAndGet();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public List<RankedProduct> getTopProducts(int windowDays, int limit) {
+        if (!WINDOWS_IN_DAYS.contains(windowDays)) {
+            throw new NameValueRequiredException("Window must be one of " + WINDOWS_IN_DAYS + " days");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new NameValueRequiredException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        if (!currentDay.equals(LocalDate.now(clock))) {
+            lock.writeLock().lock();
+            try {
+                advanceTo(LocalDate.now(clock));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Ranking ranking = rankings.get(windowDays);
+        if (ranking.version() != version.get()) {
+            lock.readLock().lock();
+            try {
+                ranking = new Ranking(version.get(), rank(windowTotals.get(windowDays), MAX_LIMIT));
+            } finally {
+                lock.readLock().unlock();
+            }
+            rankings.put(windowDays, ranking);
+        }
+
+        List<RankedProduct> products = ranking.products();
+        return products.subList(0, Math.min(limit, products.size()));
+    }
+
+    public Response getTopSellers(int windowDays, int limit) {
+        List<RankedProduct> topProducts = getTopProducts(windowDays, limit);
+
+        Map<Long, Product> products = productRepository.findAllById(
+                        topProducts.stream().map(RankedProduct::productId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Map<String, Object>> topSellers = topProducts.stream()
+                .map(ranked -> {
+                    Product product = products.get(ranked.productId());
+                    Map<String, Object> productData = new HashMap<>();
+                    productData.put("productId", ranked.productId());
+                    productData.put("productName", product != null ? product.getName() : null);
+                    productData.put("sku", product != null ? product.getSku() : null);
+                    productData.put("quantitySold", ranked.quantity());
+                    return productData;
+                })
+                .collect(Collectors.toList());
+
+        return Response.builder()
+                .status(200)
+                .message("Top sellers retrieved successfully")
+                .data(topSellers)
+                .build();
+    }
+
+    // Caller must hold the write lock
+    private void add(Long productId, LocalDate saleDay, long quantity) {
+        if (saleDay.isAfter(currentDay)) {
+            advanceTo(saleDay);
+        }
+        long age = ChronoUnit.DAYS.between(saleDay, currentDay);
+        if (age >= MAX_WINDOW_DAYS) {
+            return;
+        }
+        dailyCounts.computeIfAbsent(saleDay, day -> new HashMap<>()).merge(productId, quantity, Long::sum);
+        for (Integer window : WINDOWS_IN_DAYS) {
+            if (age < window) {
+                windowTotals.get(window).merge(productId, quantity, Long::sum);
+            }
+        }
+    }
+
+    // Caller must hold the write lock. Moves every window forward, subtracting the days that fall out.
+    private void advanceTo(LocalDate today) {
+        if (!today.isAfter(currentDay)) {
+            return;
+        }
+        if (ChronoUnit.DAYS.between(currentDay, today) >= MAX_WINDOW_DAYS) {
+            dailyCounts.clear();
+            windowTotals.values().forEach(Map::clear);
+        } else {
+            for (LocalDate day = currentDay.plusDays(1); !day.isAfter(today); day = day.plusDays(1)) {
+                for (Integer window : WINDOWS_IN_DAYS) {
+                    Map<Long, Long> expired = dailyCounts.get(day.minusDays(window));
+                    if (expired != null) {
+                        Map<Long, Long> totals = windowTotals.get(window);
+                        expired.forEach((productId, quantity) ->
+                                totals.computeIfPresent(productId, (id, total) -> total - quantity > 0 ? total - quantity : null));
+                    }
+                }
+            }
+            dailyCounts.keySet().removeIf(day -> ChronoUnit.DAYS.between(day, today) >= MAX_WINDOW_DAYS);
+        }
+        currentDay = today;
+        version.incrementAndGet();
+    }
+
+    private List<RankedProduct> rank(Map<Long, Long> totals, int limit) {
+        // The head of the heap is the lowest-ranked product kept so far
+        PriorityQueue<RankedProduct> heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        totals.forEach((productId, quantity) -> {
+            RankedProduct product = new RankedProduct(productId, quantity);
+            if (heap.size() < limit) {
+                heap.add(product);
+            } else if (RANKING.compare(product, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(product);
+            }
+        });
+
+        List<RankedProduct> ranked = new ArrayList<>(heap);
+        ranked.sort(RANKING);
+        return Collections.unmodifiableList(ranked);
+    }
+}
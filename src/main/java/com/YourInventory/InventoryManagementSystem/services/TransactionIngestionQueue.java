@@ -0,0 +1,340 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.YourInventory.InventoryManagementSystem.dtos.BulkTransactionRequest;
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionDTO;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionRequest;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.exceptions.NotFoundException;
+import com.YourInventory.InventoryManagementSystem.exceptions.TooManyRequestsException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Accepts purchase, sale and return requests without waiting for the database. A checked request
+// is placed on a bounded buffer and the caller gets a ticket id to poll. A single consumer thread
+// drains whatever has queued up and applies it through the bulk path, one batch per run of
+// consecutive requests with the same type and user, so a burst costs a few batched round trips
+// instead of one chain per request while every request still sees the ones before it. A full buffer is
+// refused with 429 rather than growing without limit, and only the most recent finished tickets
+// are kept for polling. A batch that fails on a transient database error is retried after a
+// back-off, and cancelled if that keeps failing; any other failure falls back to line by line,
+// so only the bad lines are cancelled. Tickets are readable only by the user who submitted them.
+// On shutdown no new requests are taken, and those already accepted are applied first.
+@Service
+public class TransactionIngestionQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionIngestionQueue.class);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Value("${transactions.ingestion.batch-size:200}")
+    private int batchSize;
+
+    @Value("${transactions.ingestion.ticket-retention-ms:600000}")
+    private long ticketRetentionMs;
+
+    // Beyond this many, the oldest finished tickets are dropped before their retention ends
+    @Value("${transactions.ingestion.max-finished-tickets:100000}")
+    private int maxFinishedTickets;
+
+    @Value("${transactions.ingestion.max-attempts:3}")
+    private int maxAttempts;
+
+    // Doubled after each failed attempt
+    @Value("${transactions.ingestion.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    // How long shutdown waits for accepted requests to be applied
+    @Value("${transactions.ingestion.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMs;
+
+    private final BlockingQueue<Ticket> queue;
+
+    private volatile boolean accepting = true;
+
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    // Finished tickets, oldest first
+    private final Queue<Ticket> finishedTickets = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger finishedCount = new AtomicInteger();
+
+    private final ExecutorService consumer = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("transaction-ingestion-"));
+
+    private static final class Ticket {
+
+        private final String id = UUID.randomUUID().toString();
+        private final TransactionType type;
+        private final TransactionRequest request;
+        // The caller's identity, captured at submit time for the consumer thread to run as
+        private final Authentication authentication;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+
+        private volatile TransactionStatus status = TransactionStatus.PENDING;
+        private volatile Long transactionId;
+        private volatile String message;
+        private volatile LocalDateTime finishedAt;
+
+        private Ticket(TransactionType type, TransactionRequest request, Authentication authentication) {
+            this.type = type;
+            this.request = request;
+            this.authentication = authentication;
+        }
+    }
+
+    private record BatchKey(TransactionType type, String user) {
+    }
+
+    public TransactionIngestionQueue(@Value("${transactions.ingestion.capacity:10000}") int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        consumer.execute(this::consume);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        accepting = false;
+        consumer.shutdown();
+        try {
+            if (!consumer.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Stopped with {} queued transactions not applied", queue.size());
+                consumer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            consumer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Response submit(TransactionType type, TransactionRequest request) {
+        if (type == null) {
+            throw new NameValueRequiredException("Transaction type is required");
+        }
+        transactionService.validateTransactionRequest(request);
+
+        Ticket ticket = new Ticket(type, request, SecurityContextHolder.getContext().getAuthentication());
+        // Described before it is queued, as the consumer may pick it up straight away
+        Map<String, Object> ticketData = describe(ticket);
+        tickets.put(ticket.id, ticket);
+        if (!accepting) {
+            tickets.remove(ticket.id);
+            throw new TooManyRequestsException("Transaction queue is shutting down, please retry shortly");
+        }
+        if (!queue.offer(ticket)) {
+            tickets.remove(ticket.id);
+            throw new TooManyRequestsException("Transaction queue is full, please retry shortly");
+        }
+        // Shutdown began while offering: the consumer may already have stopped, so take it back if
+        // it is still queued. If it is gone, the consumer took it and will apply it.
+        if (!accepting && queue.remove(ticket)) {
+            tickets.remove(ticket.id);
+            throw new TooManyRequestsException("Transaction queue is shutting down, please retry shortly");
+        }
+
+        return Response.builder()
+                .status(202)
+                .message("Transaction accepted for processing")
+                .data(ticketData)
+                .build();
+    }
+
+    // Another user's ticket is reported as missing, so ids cannot be probed
+    public Response getStatus(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null || !Objects.equals(userOf(ticket.authentication),
+                userOf(SecurityContextHolder.getContext().getAuthentication()))) {
+            throw new NotFoundException("Transaction ticket not found with id: " + ticketId);
+        }
+
+        return Response.builder()
+                .status(200)
+                .message("Transaction ticket retrieved successfully")
+                .data(describe(ticket))
+                .build();
+    }
+
+    // Finished tickets are kept long enough for clients to poll their outcome
+    @Scheduled(fixedDelayString = "${transactions.ingestion.ticket-retention-ms:600000}")
+    public void purgeFinishedTickets() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(ticketRetentionMs * 1_000_000);
+        Ticket oldest;
+        while ((oldest = finishedTickets.peek()) != null && oldest.finishedAt.isBefore(cutoff)) {
+            forgetOldestFinished();
+        }
+    }
+
+    private void consume() {
+        int maxBatch = Math.max(1, Math.min(batchSize, TransactionService.MAX_BULK_LINES));
+        List<Ticket> batch = new ArrayList<>(maxBatch);
+        // After shutdown begins, whatever is still queued is applied before the consumer stops
+        while (!Thread.currentThread().isInterrupted() && (accepting || !queue.isEmpty())) {
+            try {
+                Ticket next = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (next == null) {
+                    continue;
+                }
+                batch.add(next);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, maxBatch - 1);
+            try {
+                apply(batch);
+            } catch (RuntimeException e) {
+                log.error("Could not apply {} queued transactions", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    private void apply(List<Ticket> batch) {
+        batch.forEach(ticket -> ticket.status = TransactionStatus.PROCESSING);
+
+        // Only consecutive tickets are grouped, so every request is applied after all that arrived before it
+        int start = 0;
+        for (int i = 1; i <= batch.size(); i++) {
+            if (i == batch.size() || !keyOf(batch.get(i)).equals(keyOf(batch.get(start)))) {
+                applyGroup(batch.subList(start, i));
+                start = i;
+            }
+        }
+    }
+
+    private static BatchKey keyOf(Ticket ticket) {
+        return new BatchKey(ticket.type, userOf(ticket.authentication));
+    }
+
+    private static String userOf(Authentication authentication) {
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    private void applyGroup(List<Ticket> group) {
+        Ticket first = group.get(0);
+        List<TransactionRequest> lines = group.stream().map(ticket -> ticket.request).collect(Collectors.toList());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                SecurityContextHolder.getContext().setAuthentication(first.authentication);
+                List<TransactionDTO> recorded = transactionService.processBulk(new BulkTransactionRequest(first.type, lines))
+                        .getTransactions();
+                for (int i = 0; i < group.size(); i++) {
+                    finish(group.get(i), TransactionStatus.COMPLETED, recorded.get(i).getId(), null);
+                }
+                return;
+            } catch (RuntimeException e) {
+                // The whole batch rolled back, so it can simply be sent again; no single line is to blame
+                if (isTransient(e)) {
+                    if (attempt < maxAttempts && backOff(attempt)) {
+                        log.warn("Retrying {} queued transactions after a transient failure (attempt {})", group.size(), attempt, e);
+                        continue;
+                    }
+                    group.forEach(ticket -> finish(ticket, TransactionStatus.CANCELLED, null, e.getMessage()));
+                    return;
+                }
+                if (group.size() == 1) {
+                    finish(first, TransactionStatus.CANCELLED, null, e.getMessage());
+                    return;
+                }
+                // One bad line rolls back the whole batch; retry the lines one by one so only it fails
+                group.forEach(ticket -> applyGroup(List.of(ticket)));
+                return;
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+    }
+
+    // Lock timeouts, deadlocks and lost connections may succeed on a later attempt
+    private static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientException || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // False if interrupted, so the consumer stops instead of retrying
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs << (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void finish(Ticket ticket, TransactionStatus status, Long transactionId, String message) {
+        ticket.transactionId = transactionId;
+        ticket.message = message;
+        ticket.finishedAt = LocalDateTime.now();
+        ticket.status = status;
+        finishedTickets.add(ticket);
+        if (finishedCount.incrementAndGet() > maxFinishedTickets) {
+            forgetOldestFinished();
+        }
+    }
+
+    private void forgetOldestFinished() {
+        Ticket oldest = finishedTickets.poll();
+        if (oldest != null) {
+            finishedCount.decrementAndGet();
+            tickets.remove(oldest.id);
+        }
+    }
+
+    private Map<String, Object> describe(Ticket ticket) {
+        Map<String, Object> ticketData = new HashMap<>();
+        ticketData.put("ticketId", ticket.id);
+        ticketData.put("transactionType", ticket.type);
+        ticketData.put("status", ticket.status);
+        ticketData.put("transactionId", ticket.transactionId);
+        ticketData.put("message", ticket.message);
+        ticketData.put("submittedAt", ticket.submittedAt);
+        ticketData.put("finishedAt", ticket.finishedAt);
+        return ticketData;
+    }
+}
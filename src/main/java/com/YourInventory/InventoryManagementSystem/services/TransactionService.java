@@ -2,38 +2,59 @@ package com.YourInventory.InventoryManagementSystem.services;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.YourInventory.InventoryManagementSystem.dtos.BulkTransactionRequest;
 import com.YourInventory.InventoryManagementSystem.dtos.Response;
 import com.YourInventory.InventoryManagementSystem.dtos.TransactionDTO;
 import com.YourInventory.InventoryManagementSystem.dtos.TransactionRequest;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionSearchRequest;
 import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
 import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.events.StockChangedEvent;
+import com.YourInventory.InventoryManagementSystem.events.TransactionRecordedEvent;
 import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
 import com.YourInventory.InventoryManagementSystem.exceptions.NotFoundException;
+import com.YourInventory.InventoryManagementSystem.mappers.TransactionMapper;
 import com.YourInventory.InventoryManagementSystem.model.Product;
 import com.YourInventory.InventoryManagementSystem.model.Supplier;
 import com.YourInventory.InventoryManagementSystem.model.Transaction;
 import com.YourInventory.InventoryManagementSystem.model.User;
 import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
 import com.YourInventory.InventoryManagementSystem.repositories.SupplierRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionBatchRepository;
 import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
 import com.YourInventory.InventoryManagementSystem.repositories.UserRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.specifications.TransactionSpecifications;
+import com.YourInventory.InventoryManagementSystem.utils.KeysetCursor;
 
 @Service
 public class TransactionService {
 
+    public static final int MAX_BULK_LINES = 500;
+
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     @Autowired
     private TransactionRepository transactionRepository;
 
@@ -47,14 +68,23 @@ public class TransactionService {
     private SupplierRepository supplierRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private TransactionMapper transactionMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private TransactionBatchRepository transactionBatchRepository;
 
     public Response getAllTransactions(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Transaction> transactionPage = transactionRepository.findAll(pageable);
 
         List<TransactionDTO> transactionDTOs = transactionPage.getContent().stream()
-                .map(this::convertToDTO)
+                .map(transactionMapper::toDTO)
                 .collect(Collectors.toList());
 
         return Response.builder()
@@ -66,11 +96,24 @@ public class TransactionService {
                 .build();
     }
 
+    // Cursor pagination: an empty cursor reads the first page; no count query at any depth
+    public Response getTransactionsAfter(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        Slice<Transaction> transactionSlice;
+        if (cursor.isEmpty()) {
+            transactionSlice = transactionRepository.findAllByOrderByCreatedAtDescIdDesc(limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            transactionSlice = transactionRepository.findPageAfter(after.createdAt(), after.id(), limit);
+        }
+        return toSliceResponse(transactionSlice);
+    }
+
     public Response getTransactionById(Long transactionId) {
-        Transaction transaction = transactionRepository.findById(transactionId)
+        Transaction transaction = transactionRepository.findWithAssociationsById(transactionId)
                 .orElseThrow(() -> new NotFoundException("Transaction not found with id: " + transactionId));
 
-        TransactionDTO transactionDTO = convertToDTO(transaction);
+        TransactionDTO transactionDTO = transactionMapper.toDTO(transaction);
 
         return Response.builder()
                 .status(200)
@@ -84,7 +127,7 @@ public class TransactionService {
         Page<Transaction> transactionPage = transactionRepository.findByTransactionType(type, pageable);
 
         List<TransactionDTO> transactionDTOs = transactionPage.getContent().stream()
-                .map(this::convertToDTO)
+                .map(transactionMapper::toDTO)
                 .collect(Collectors.toList());
 
         return Response.builder()
@@ -96,12 +139,115 @@ public class TransactionService {
                 .build();
     }
 
+    public Response getTransactionsByTypeAfter(TransactionType type, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        Slice<Transaction> transactionSlice;
+        if (cursor.isEmpty()) {
+            transactionSlice = transactionRepository.findByTransactionTypeOrderByCreatedAtDescIdDesc(type, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            transactionSlice = transactionRepository.findPageByTypeAfter(type, after.createdAt(), after.id(), limit);
+        }
+        return toSliceResponse(transactionSlice);
+    }
+
+    private Response toSliceResponse(Slice<Transaction> transactionSlice) {
+        List<Transaction> transactions = transactionSlice.getContent();
+        List<TransactionDTO> transactionDTOs = transactions.stream()
+                .map(transactionMapper::toDTO)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (transactionSlice.hasNext()) {
+            Transaction last = transactions.get(transactions.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return Response.builder()
+                .status(200)
+                .message("Transactions retrieved successfully")
+                .transactions(transactionDTOs)
+                .hasNext(transactionSlice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // Server-side filtering built from Specifications, sorted by createdAt or totalPrice with id as
+    // the tie-breaker and paged by keyset: one extra row is read to tell whether a next page exists
+    public Response searchTransactions(TransactionSearchRequest request) {
+        if (request.getSize() < 1 || request.getSize() > MAX_SEARCH_PAGE_SIZE) {
+            throw new NameValueRequiredException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if (request.getFrom() != null && request.getTo() != null && !request.getFrom().isBefore(request.getTo())) {
+            throw new NameValueRequiredException("'from' must be before 'to'");
+        }
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice().compareTo(request.getMaxPrice()) > 0) {
+            throw new NameValueRequiredException("'minPrice' must not exceed 'maxPrice'");
+        }
+        String sortBy = request.getSortBy();
+        if (!"createdAt".equals(sortBy) && !"totalPrice".equals(sortBy)) {
+            throw new NameValueRequiredException("Invalid sortBy. Use 'createdAt' or 'totalPrice'");
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(request.getDirection())
+                .orElseThrow(() -> new NameValueRequiredException("Invalid direction. Use 'ASC' or 'DESC'"));
+
+        Specification<Transaction> specification = TransactionSpecifications.matching(request);
+        if (request.getCursor() != null && !request.getCursor().isEmpty()) {
+            KeysetCursor after = KeysetCursor.decode(request.getCursor(), sortBy, direction);
+            try {
+                specification = specification.and("createdAt".equals(sortBy)
+                        ? TransactionSpecifications.after(sortBy, direction.isAscending(), LocalDateTime.parse(after.value()), after.id())
+                        : TransactionSpecifications.after(sortBy, direction.isAscending(), new BigDecimal(after.value()), after.id()));
+            } catch (RuntimeException e) {
+                throw new NameValueRequiredException("Invalid cursor: " + request.getCursor());
+            }
+        }
+
+        int size = request.getSize();
+        Sort sort = Sort.by(direction, sortBy, "id");
+        List<Transaction> rows = transactionRepository.findBy(specification, query -> query
+                .project("product", "product.category", "user", "supplier")
+                .sortBy(sort)
+                .limit(size + 1)
+                .all());
+        boolean hasNext = rows.size() > size;
+        List<Transaction> transactions = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Transaction last = transactions.get(size - 1);
+            Object value = "createdAt".equals(sortBy) ? last.getCreatedAt() : last.getTotalPrice().toPlainString();
+            nextCursor = new KeysetCursor(sortBy, direction, value.toString(), last.getId()).encode();
+        }
+
+        List<TransactionDTO> transactionDTOs = transactions.stream()
+                .map(transactionMapper::toDTO)
+                .collect(Collectors.toList());
+
+        return Response.builder()
+                .status(200)
+                .message("Transactions retrieved successfully")
+                .transactions(transactionDTOs)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional
     public Response purchaseProduct(TransactionRequest request) {
         // Validate request
         validateTransactionRequest(request);
 
+        // Update product stock first, as a single UPDATE in this transaction (or in the hot-stock
+        // ledger). A later failure rolls it back. The stock column is never written from the entity,
+        // so setting it on the loaded product below only fills in the response and events.
+        int newStock = stockService.increment(request.getProductId(), request.getQuantity());
+        int previousStock = newStock - request.getQuantity();
+
         Product product = productRepository.findById(request.getProductId())
                 .orElseThrow(() -> new NotFoundException("Product not found with id: " + request.getProductId()));
+        product.setStockQuantity(newStock);
 
         Supplier supplier = null;
         if (request.getSupplierId() != null) {
@@ -128,12 +274,9 @@ public class TransactionService {
                 .updateAt(LocalDateTime.now())
                 .build();
 
-        // Update product stock
-        product.setStockQuantity(product.getStockQuantity() + request.getQuantity());
-        productRepository.save(product);
-
         Transaction savedTransaction = transactionRepository.save(transaction);
-        TransactionDTO transactionDTO = convertToDTO(savedTransaction);
+        publishTransactionEvents(savedTransaction, previousStock);
+        TransactionDTO transactionDTO = transactionMapper.toDTO(savedTransaction);
 
         return Response.builder()
                 .status(200)
@@ -142,18 +285,21 @@ public class TransactionService {
                 .build();
     }
 
+    @Transactional
     public Response sellProduct(TransactionRequest request) {
         // Validate request
         validateTransactionRequest(request);
 
+        // Guarded decrement first, as a single UPDATE in this transaction (or in the hot-stock
+        // ledger): it fails instead of overselling when a concurrent sale got there first.
+        // A later failure rolls it back. The stock column is never written from the entity,
+        // so setting it on the loaded product below only fills in the response and events.
+        int newStock = stockService.decrement(request.getProductId(), request.getQuantity());
+        int previousStock = newStock + request.getQuantity();
+
         Product product = productRepository.findById(request.getProductId())
                 .orElseThrow(() -> new NotFoundException("Product not found with id: " + request.getProductId()));
-
-        // Check if sufficient stock is available
-        if (product.getStockQuantity() < request.getQuantity()) {
-            throw new NameValueRequiredException("Insufficient stock. Available: " + product.getStockQuantity() + 
-                    ", Requested: " + request.getQuantity());
-        }
+        product.setStockQuantity(newStock);
 
         User currentUser = getCurrentUser();
 
@@ -173,12 +319,9 @@ public class TransactionService {
                 .updateAt(LocalDateTime.now())
                 .build();
 
-        // Update product stock
-        product.setStockQuantity(product.getStockQuantity() - request.getQuantity());
-        productRepository.save(product);
-
         Transaction savedTransaction = transactionRepository.save(transaction);
-        TransactionDTO transactionDTO = convertToDTO(savedTransaction);
+        publishTransactionEvents(savedTransaction, previousStock);
+        TransactionDTO transactionDTO = transactionMapper.toDTO(savedTransaction);
 
         return Response.builder()
                 .status(200)
@@ -187,18 +330,18 @@ public class TransactionService {
                 .build();
     }
 
+    @Transactional
     public Response returnToSupplier(TransactionRequest request) {
         // Validate request
         validateTransactionRequest(request);
 
+        // Guarded decrement, as in sellProduct; a later failure rolls it back
+        int newStock = stockService.decrement(request.getProductId(), request.getQuantity(), "Insufficient stock to return");
+        int previousStock = newStock + request.getQuantity();
+
         Product product = productRepository.findById(request.getProductId())
                 .orElseThrow(() -> new NotFoundException("Product not found with id: " + request.getProductId()));
-
-        // Check if sufficient stock is available for return
-        if (product.getStockQuantity() < request.getQuantity()) {
-            throw new NameValueRequiredException("Insufficient stock to return. Available: " + product.getStockQuantity() + 
-                    ", Requested: " + request.getQuantity());
-        }
+        product.setStockQuantity(newStock);
 
         Supplier supplier = null;
         if (request.getSupplierId() != null) {
@@ -225,12 +368,9 @@ public class TransactionService {
                 .updateAt(LocalDateTime.now())
                 .build();
 
-        // Update product stock
-        product.setStockQuantity(product.getStockQuantity() - request.getQuantity());
-        productRepository.save(product);
-
         Transaction savedTransaction = transactionRepository.save(transaction);
-        TransactionDTO transactionDTO = convertToDTO(savedTransaction);
+        publishTransactionEvents(savedTransaction, previousStock);
+        TransactionDTO transactionDTO = transactionMapper.toDTO(savedTransaction);
 
         return Response.builder()
                 .status(200)
@@ -239,15 +379,100 @@ public class TransactionService {
                 .build();
     }
 
+    @Transactional
+    public Response processBulk(BulkTransactionRequest request) {
+        TransactionType type = request.getTransactionType();
+        List<TransactionRequest> lines = request.getLines();
+        if (type == null) {
+            throw new NameValueRequiredException("Transaction type is required");
+        }
+        if (lines == null || lines.isEmpty() || lines.size() > MAX_BULK_LINES) {
+            throw new NameValueRequiredException("A bulk transaction needs between 1 and " + MAX_BULK_LINES + " lines");
+        }
+        lines.forEach(this::validateTransactionRequest);
+
+        // Net quantity per product, applied in id order so concurrent bulk requests lock rows in the same order.
+        // Stock changes run first (as in the single-line path), so everything loaded below is current.
+        Map<Long, Integer> quantities = new TreeMap<>();
+        lines.forEach(line -> quantities.merge(line.getProductId(), line.getQuantity(), Integer::sum));
+
+        Map<Long, Integer> previousStocks = new HashMap<>();
+        Map<Long, Integer> newStocks = new HashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            int newStock = type == TransactionType.PURCHASE
+                    ? stockService.increment(productId, quantity)
+                    : stockService.decrement(productId, quantity);
+            newStocks.put(productId, newStock);
+            previousStocks.put(productId, type == TransactionType.PURCHASE ? newStock - quantity : newStock + quantity);
+        });
+
+        // One query each for the referenced products and suppliers
+        Map<Long, Product> products = productRepository.findAllById(quantities.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        products.values().forEach(product -> product.setStockQuantity(newStocks.get(product.getId())));
+
+        // A sale has no supplier, as in sellProduct: any supplierId on a sale line is ignored
+        boolean withSupplier = type != TransactionType.SALE;
+        Set<Long> supplierIds = !withSupplier ? Set.of() : lines.stream()
+                .map(TransactionRequest::getSupplierId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Supplier> suppliers = supplierRepository.findAllById(supplierIds).stream()
+                .collect(Collectors.toMap(Supplier::getId, Function.identity()));
+        for (Long supplierId : supplierIds) {
+            if (!suppliers.containsKey(supplierId)) {
+                throw new NotFoundException("Supplier not found with id: " + supplierId);
+            }
+        }
+
+        User currentUser = getCurrentUser();
+
+        List<Transaction> transactions = lines.stream()
+                .map(line -> {
+                    Product product = products.get(line.getProductId());
+                    BigDecimal totalPrice = product.getPrice().multiply(BigDecimal.valueOf(line.getQuantity()));
+                    return Transaction.builder()
+                            .totalProduct(line.getQuantity())
+                            .totalPrice(type == TransactionType.RETURN_TO_SUPPLIER ? totalPrice.negate() : totalPrice)
+                            .transactionType(type)
+                            .transactionStatus(TransactionStatus.COMPLETED)
+                            .description(line.getDescription())
+                            .note(line.getNote())
+                            .product(product)
+                            .user(currentUser)
+                            .supplier(withSupplier && line.getSupplierId() != null ? suppliers.get(line.getSupplierId()) : null)
+                            .updateAt(LocalDateTime.now())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        transactionBatchRepository.insertAll(transactions);
+
+        quantities.keySet().forEach(productId -> eventPublisher.publishEvent(
+                new StockChangedEvent(productId, previousStocks.get(productId), newStocks.get(productId))));
+        transactions.forEach(this::publishTransactionRecorded);
+
+        List<TransactionDTO> transactionDTOs = transactions.stream()
+                .map(transactionMapper::toDTO)
+                .collect(Collectors.toList());
+
+        return Response.builder()
+                .status(200)
+                .message("Bulk transaction completed successfully")
+                .transactions(transactionDTOs)
+                .totalElements((long) transactionDTOs.size())
+                .build();
+    }
+
     public Response updateTransactionStatus(Long transactionId, TransactionStatus status) {
-        Transaction transaction = transactionRepository.findById(transactionId)
+        Transaction transaction = transactionRepository.findWithAssociationsById(transactionId)
                 .orElseThrow(() -> new NotFoundException("Transaction not found with id: " + transactionId));
 
         transaction.setTransactionStatus(status);
         transaction.setUpdateAt(LocalDateTime.now());
 
         Transaction updatedTransaction = transactionRepository.save(transaction);
-        TransactionDTO transactionDTO = convertToDTO(updatedTransaction);
+        TransactionDTO transactionDTO = transactionMapper.toDTO(updatedTransaction);
 
         return Response.builder()
                 .status(200)
@@ -256,7 +481,23 @@ public class TransactionService {
                 .build();
     }
 
-    private void validateTransactionRequest(TransactionRequest request) {
+    private void publishTransactionEvents(Transaction transaction, int previousStock) {
+        Product product = transaction.getProduct();
+        eventPublisher.publishEvent(new StockChangedEvent(product.getId(), previousStock, product.getStockQuantity()));
+        publishTransactionRecorded(transaction);
+    }
+
+    private void publishTransactionRecorded(Transaction transaction) {
+        eventPublisher.publishEvent(new TransactionRecordedEvent(
+                transaction.getId(),
+                transaction.getTransactionType(),
+                transaction.getProduct().getId(),
+                transaction.getTotalProduct(),
+                transaction.getTotalPrice(),
+                transaction.getCreatedAt()));
+    }
+
+    public void validateTransactionRequest(TransactionRequest request) {
         if (request.getProductId() == null || request.getProductId() <= 0) {
             throw new NameValueRequiredException("Valid product ID is required");
         }
@@ -271,19 +512,4 @@ public class TransactionService {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException("Current user not found"));
     }
-
-    private TransactionDTO convertToDTO(Transaction transaction) {
-        TransactionDTO dto = modelMapper.map(transaction, TransactionDTO.class);
-        // Set nested DTOs to avoid circular references
-        if (transaction.getProduct() != null) {
-            dto.setProductDTO(modelMapper.map(transaction.getProduct(), com.YourInventory.InventoryManagementSystem.dtos.ProductDTO.class));
-        }
-        if (transaction.getUser() != null) {
-            dto.setUserDTO(modelMapper.map(transaction.getUser(), com.YourInventory.InventoryManagementSystem.dtos.UserDTO.class));
-        }
-        if (transaction.getSupplier() != null) {
-            dto.setSupplierDTO(modelMapper.map(transaction.getSupplier(), com.YourInventory.InventoryManagementSystem.dtos.SupplierDTO.class));
-        }
-        return dto;
-    }
 }
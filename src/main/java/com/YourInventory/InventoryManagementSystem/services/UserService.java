@@ -3,7 +3,6 @@ package com.YourInventory.InventoryManagementSystem.services;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,8 +16,11 @@ import org.springframework.stereotype.Service;
 import com.YourInventory.InventoryManagementSystem.dtos.Response;
 import com.YourInventory.InventoryManagementSystem.dtos.UserDTO;
 import com.YourInventory.InventoryManagementSystem.exceptions.NotFoundException;
+import com.YourInventory.InventoryManagementSystem.mappers.UserMapper;
 import com.YourInventory.InventoryManagementSystem.model.User;
 import com.YourInventory.InventoryManagementSystem.repositories.UserRepository;
+import com.YourInventory.InventoryManagementSystem.security.AuthenticatedPrincipalCache;
+import com.YourInventory.InventoryManagementSystem.security.TokenRevocationList;
 
 @Service
 public class UserService {
@@ -27,7 +29,16 @@ public class UserService {
     private UserRepository userRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
+
+    @Autowired
+    private AuthenticatedPrincipalCache principalCache;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationList revocationList;
 
     // @Autowired
     // private PasswordEncoder passwordEncoder;
@@ -37,7 +48,7 @@ public class UserService {
         Page<User> userPage = userRepository.findAll(pageable);
 
         List<UserDTO> userDTOs = userPage.getContent().stream()
-                .map(user -> modelMapper.map(user, UserDTO.class))
+                .map(user -> userMapper.toDTO(user))
                 .collect(Collectors.toList());
 
         return Response.builder()
@@ -53,7 +64,7 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User not found with id: " + userId));
 
-        UserDTO userDTO = modelMapper.map(user, UserDTO.class);
+        UserDTO userDTO = userMapper.toDTO(user);
 
         return Response.builder()
                 .status(200)
@@ -69,7 +80,7 @@ public class UserService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException("Current user not found"));
 
-        UserDTO userDTO = modelMapper.map(user, UserDTO.class);
+        UserDTO userDTO = userMapper.toDTO(user);
 
         return Response.builder()
                 .status(200)
@@ -89,12 +100,19 @@ public class UserService {
         if (userDTO.getPhoneNumber() != null) {
             existingUser.setPhoneNumber(userDTO.getPhoneNumber());
         }
+        boolean roleChanged = userDTO.getRole() != null && userDTO.getRole() != existingUser.getRole();
         if (userDTO.getRole() != null) {
             existingUser.setRole(userDTO.getRole());
         }
 
         User updatedUser = userRepository.save(existingUser);
-        UserDTO updatedUserDTO = modelMapper.map(updatedUser, UserDTO.class);
+        if (roleChanged) {
+            // Issued tokens carry the old role, so they stop working and the user signs in again
+            refreshTokenService.revokeAll(updatedUser.getId());
+            revocationList.revokeSubject(updatedUser.getEmail());
+        }
+        principalCache.evict(updatedUser.getEmail());
+        UserDTO updatedUserDTO = userMapper.toDTO(updatedUser);
 
         return Response.builder()
                 .status(200)
@@ -119,7 +137,8 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(existingUser);
-        UserDTO updatedUserDTO = modelMapper.map(updatedUser, UserDTO.class);
+        principalCache.evict(updatedUser.getEmail());
+        UserDTO updatedUserDTO = userMapper.toDTO(updatedUser);
 
         return Response.builder()
                 .status(200)
@@ -133,6 +152,10 @@ public class UserService {
                 .orElseThrow(() -> new NotFoundException("User not found with id: " + userId));
 
         userRepository.delete(user);
+        // Access tokens already issued stop working now, and none can be refreshed
+        refreshTokenService.revokeAll(user.getId());
+        revocationList.revokeSubject(user.getEmail());
+        principalCache.evict(user.getEmail());
 
         return Response.builder()
                 .status(200)
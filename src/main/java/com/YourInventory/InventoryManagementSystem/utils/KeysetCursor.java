@@ -0,0 +1,59 @@
+package com.YourInventory.InventoryManagementSystem.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+
+// Position in a listing ordered by (sortBy, id), both in the same direction: the sort value and id
+// of the last row returned. The next page starts strictly after it, so reading it is an index seek
+// however deep the page. The ordering travels with the cursor so it cannot be replayed against
+// another one. Clients treat the encoded form as opaque.
+public record KeysetCursor(String sortBy, Sort.Direction direction, String value, Long id) {
+
+    // Listings ordered by (createdAt DESC, id DESC)
+    public KeysetCursor(LocalDateTime createdAt, Long id) {
+        this("createdAt", Sort.Direction.DESC, createdAt.toString(), id);
+    }
+
+    // A cursor issued by a (createdAt DESC, id DESC) listing
+    public static KeysetCursor decode(String cursor) {
+        KeysetCursor after = decode(cursor, "createdAt", Sort.Direction.DESC);
+        try {
+            after.createdAt();
+        } catch (DateTimeParseException e) {
+            throw new NameValueRequiredException("Invalid cursor: " + cursor);
+        }
+        return after;
+    }
+
+    public static KeysetCursor decode(String cursor, String sortBy, Sort.Direction direction) {
+        KeysetCursor after;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("expected four parts");
+            }
+            after = new KeysetCursor(parts[0], Sort.Direction.fromString(parts[1]), parts[2], Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new NameValueRequiredException("Invalid cursor: " + cursor);
+        }
+        if (!after.sortBy().equals(sortBy) || after.direction() != direction) {
+            throw new NameValueRequiredException("Cursor does not belong to a listing sorted by " + sortBy + " " + direction);
+        }
+        return after;
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(value);
+    }
+
+    public String encode() {
+        String encoded = sortBy + "|" + direction + "|" + value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(encoded.getBytes(StandardCharsets.UTF_8));
+    }
+}
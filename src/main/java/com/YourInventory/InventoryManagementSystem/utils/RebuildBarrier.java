@@ -0,0 +1,65 @@
+package com.YourInventory.InventoryManagementSystem.utils;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Orders incremental updates of an in-memory view against rebuilds of that view from the database.
+// A transaction holds the barrier (shared) from just before it commits until its update has been
+// applied, and a rebuild holds it exclusively while it reads its snapshot and replaces the view.
+// Every committed change therefore lands either before the rebuild, where the snapshot already
+// contains it, or after it, where the snapshot does not; it is never counted twice or lost.
+public class RebuildBarrier {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Runs update once the current transaction has committed, and not at all if it rolls back.
+    // Outside a transaction the change is already committed, so it runs at once.
+    public void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lock.readLock().lock();
+            try {
+                update.run();
+            } finally {
+                lock.readLock().unlock();
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean held;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                lock.readLock().lock();
+                held = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!held) {
+                    return;
+                }
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        update.run();
+                    }
+                } finally {
+                    lock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    // Commits that have not started yet wait until the rebuild is done; reads of the view do not
+    public void rebuild(Runnable rebuild) {
+        lock.writeLock().lock();
+        try {
+            rebuild.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.YourInventory.InventoryManagementSystem;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Records every SQL statement Hibernate prepares. Register it on a test with
+// spring.jpa.properties.hibernate.session_factory.statement_inspector=<this class>.
+public class SqlStatementCounter implements StatementInspector {
+
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+            "com.YourInventory.InventoryManagementSystem.SqlStatementCounter";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    public static void reset() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    public static int count() {
+        return STATEMENTS.size();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+}
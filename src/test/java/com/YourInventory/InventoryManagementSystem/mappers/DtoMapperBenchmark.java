@@ -0,0 +1,53 @@
+package com.YourInventory.InventoryManagementSystem.mappers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionDTO;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+
+// Maps one listing page of transactions, with product, user and supplier, each way
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMapperBenchmark {
+
+    static final int PAGE_SIZE = 50;
+
+    private List<Transaction> page;
+
+    private ModelMapper modelMapper;
+
+    private TransactionMapper transactionMapper;
+
+    @Setup
+    public void setUp() {
+        page = MappingFixtures.transactions(PAGE_SIZE);
+        modelMapper = MappingFixtures.legacyModelMapper();
+        transactionMapper = MappingFixtures.transactionMapper();
+    }
+
+    @Benchmark
+    public List<TransactionDTO> modelMapper() {
+        List<TransactionDTO> dtos = new ArrayList<>(page.size());
+        for (Transaction transaction : page) {
+            dtos.add(MappingFixtures.legacyTransaction(modelMapper, transaction));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<TransactionDTO> handWritten() {
+        return page.stream().map(transactionMapper::toDTO).toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.YourInventory.InventoryManagementSystem.mappers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionDTO;
+
+// The benchmark is a short in-process JMH run, enabled with -Pbenchmark; for publishable numbers
+// run DtoMapperBenchmark forked with the defaults. Output equality is DtoMapperEquivalenceTests'.
+class DtoMapperBenchmarkTests {
+
+    @Test
+    void bothBenchmarkMethodsMapTheWholePage() {
+        DtoMapperBenchmark benchmark = new DtoMapperBenchmark();
+        benchmark.setUp();
+
+        assertThat(benchmark.handWritten()).hasSize(DtoMapperBenchmark.PAGE_SIZE)
+                .extracting(TransactionDTO::getId)
+                .containsExactlyElementsOf(benchmark.modelMapper().stream().map(TransactionDTO::getId).toList());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void handWrittenMappersBeatModelMapper() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(DtoMapperBenchmark.class.getName())
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.milliseconds(300))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.milliseconds(300))
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        Map<String, Double> microsPerPage = results.stream().collect(Collectors.toMap(
+                result -> result.getParams().getBenchmark().replaceAll(".*\\.", ""),
+                result -> result.getPrimaryResult().getScore(),
+                (first, second) -> first));
+        System.out.printf("Mapping %d transactions: ModelMapper %.1f us, hand-written %.1f us%n",
+                DtoMapperBenchmark.PAGE_SIZE, microsPerPage.get("modelMapper"), microsPerPage.get("handWritten"));
+
+        assertThat(microsPerPage.get("handWritten")).isLessThan(microsPerPage.get("modelMapper"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.YourInventory.InventoryManagementSystem.mappers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import com.YourInventory.InventoryManagementSystem.dtos.SupplierDTO;
+import com.YourInventory.InventoryManagementSystem.dtos.UserDTO;
+import com.YourInventory.InventoryManagementSystem.model.Category;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+// The hand-written mappers must serialize exactly like the ModelMapper output they replace
+class DtoMapperEquivalenceTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ModelMapper modelMapper = MappingFixtures.legacyModelMapper();
+
+    private final TransactionMapper transactionMapper = MappingFixtures.transactionMapper();
+
+    private final ProductMapper productMapper = new ProductMapper();
+
+    private final UserMapper userMapper = new UserMapper();
+
+    private final SupplierMapper supplierMapper = new SupplierMapper();
+
+    private final CategoryMapper categoryMapper = new CategoryMapper();
+
+    @Test
+    void transactionsAndTheirAssociationsSerializeIdentically() throws JsonProcessingException {
+        List<Transaction> transactions = MappingFixtures.transactions(12);
+
+        for (Transaction transaction : transactions) {
+            assertThat(json(transactionMapper.toDTO(transaction)))
+                    .isEqualTo(json(MappingFixtures.legacyTransaction(modelMapper, transaction)));
+            assertThat(json(productMapper.toDTO(transaction.getProduct())))
+                    .isEqualTo(json(MappingFixtures.legacyProduct(modelMapper, transaction.getProduct())));
+            assertThat(json(userMapper.toDTO(transaction.getUser())))
+                    .isEqualTo(json(modelMapper.map(transaction.getUser(), UserDTO.class)));
+            if (transaction.getSupplier() != null) {
+                assertThat(json(supplierMapper.toDTO(transaction.getSupplier())))
+                        .isEqualTo(json(modelMapper.map(transaction.getSupplier(), SupplierDTO.class)));
+            }
+        }
+    }
+
+    @Test
+    void categoriesSerializeIdenticallyWithoutTheirProducts() throws JsonProcessingException {
+        Category category = MappingFixtures.transactions(2).get(1).getProduct().getCategory();
+
+        assertThat(json(categoryMapper.toDTO(category)))
+                .isEqualTo(json(MappingFixtures.legacyCategory(modelMapper, category)))
+                .doesNotContain("product");
+    }
+
+    private String json(Object dto) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(dto);
+    }
+}
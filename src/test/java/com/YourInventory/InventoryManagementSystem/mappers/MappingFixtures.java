@@ -0,0 +1,149 @@
+package com.YourInventory.InventoryManagementSystem.mappers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+import com.YourInventory.InventoryManagementSystem.dtos.CategoryDTO;
+import com.YourInventory.InventoryManagementSystem.dtos.ProductDTO;
+import com.YourInventory.InventoryManagementSystem.dtos.SupplierDTO;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionDTO;
+import com.YourInventory.InventoryManagementSystem.dtos.UserDTO;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.enums.UserRole;
+import com.YourInventory.InventoryManagementSystem.model.Category;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.Supplier;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+import com.YourInventory.InventoryManagementSystem.model.User;
+
+// Sample entities, the hand-written mappers wired by hand, and the reflective ModelMapper
+// setup (and per-entity mapping) the services used before
+final class MappingFixtures {
+
+    private MappingFixtures() {
+    }
+
+    static ModelMapper legacyModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+            .setFieldMatchingEnabled(true)
+            .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
+            .setMatchingStrategy(MatchingStrategies.STANDARD);
+        modelMapper.typeMap(User.class, UserDTO.class)
+            .addMappings(mapper -> mapper.skip(UserDTO::setTransaction));
+        return modelMapper;
+    }
+
+    static ProductDTO legacyProduct(ModelMapper modelMapper, Product product) {
+        ProductDTO productDTO = modelMapper.map(product, ProductDTO.class);
+        if (product.getCategory() != null) {
+            productDTO.setCategoryId(product.getCategory().getId());
+        }
+        return productDTO;
+    }
+
+    static TransactionDTO legacyTransaction(ModelMapper modelMapper, Transaction transaction) {
+        TransactionDTO dto = modelMapper.map(transaction, TransactionDTO.class);
+        if (transaction.getProduct() != null) {
+            dto.setProductDTO(modelMapper.map(transaction.getProduct(), ProductDTO.class));
+        }
+        if (transaction.getUser() != null) {
+            dto.setUserDTO(modelMapper.map(transaction.getUser(), UserDTO.class));
+        }
+        if (transaction.getSupplier() != null) {
+            dto.setSupplierDTO(modelMapper.map(transaction.getSupplier(), SupplierDTO.class));
+        }
+        return dto;
+    }
+
+    static CategoryDTO legacyCategory(ModelMapper modelMapper, Category category) {
+        return modelMapper.map(category, CategoryDTO.class);
+    }
+
+    static TransactionMapper transactionMapper() {
+        TransactionMapper transactionMapper = new TransactionMapper();
+        setField(transactionMapper, "productMapper", new ProductMapper());
+        setField(transactionMapper, "userMapper", new UserMapper());
+        setField(transactionMapper, "supplierMapper", new SupplierMapper());
+        return transactionMapper;
+    }
+
+    // Every association set, with collections that fail if a mapper walks them
+    static List<Transaction> transactions(int count) {
+        Category category = Category.builder().id(7L).name("Beverages").products(untouchable()).build();
+        Supplier supplier = Supplier.builder().id(9L).name("Wholesaler").contactInfo("ops@example.com").address("Main St").build();
+        User user = User.builder()
+                .id(5L)
+                .name("Clerk")
+                .email("clerk@example.com")
+                .password("$2a$10$hash")
+                .phoneNumber("9800000000")
+                .role(UserRole.MANAGER)
+                .transaction(untouchable())
+                .build();
+
+        TransactionType[] types = TransactionType.values();
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Product product = Product.builder()
+                    .id(100L + i)
+                    .name("Product " + i)
+                    .sku("SKU-" + i)
+                    .price(BigDecimal.valueOf(3 + i))
+                    .stockQuantity(40 + i)
+                    .reorderPoint(10)
+                    .safetyStock(i % 2 == 0 ? 4 : null)
+                    .needsReorder(false)
+                    .description(i % 3 == 0 ? null : "Description " + i)
+                    .expiryDate(LocalDateTime.of(2030, 1, 1, 0, 0).plusDays(i))
+                    .imageUrl("https://example.com/" + i + ".png")
+                    .category(i % 4 == 0 ? null : category)
+                    .build();
+            transactions.add(Transaction.builder()
+                    .id(1000L + i)
+                    .totalProduct(1 + i % 5)
+                    .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(1 + i % 5)))
+                    .transactionType(types[i % types.length])
+                    .transactionStatus(TransactionStatus.COMPLETED)
+                    .description("Sale " + i)
+                    .note(i % 2 == 0 ? "note" : null)
+                    .updateAt(i % 2 == 0 ? LocalDateTime.of(2024, 3, 1, 12, 0) : null)
+                    .product(product)
+                    .user(user)
+                    .supplier(i % 3 == 0 ? null : supplier)
+                    .build());
+        }
+        return transactions;
+    }
+
+    private static <T> List<T> untouchable() {
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                throw new AssertionError("lazy collection was walked");
+            }
+
+            @Override
+            public int size() {
+                throw new AssertionError("lazy collection was walked");
+            }
+        };
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        try {
+            var field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
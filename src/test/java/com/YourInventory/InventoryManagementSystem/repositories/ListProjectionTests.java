@@ -0,0 +1,131 @@
+package com.YourInventory.InventoryManagementSystem.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.YourInventory.InventoryManagementSystem.SqlStatementCounter;
+import com.YourInventory.InventoryManagementSystem.mappers.CategoryMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.ProductMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.SupplierMapper;
+import com.YourInventory.InventoryManagementSystem.model.Category;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.Supplier;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductListItem;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        SqlStatementCounter.PROPERTY
+})
+class ListProjectionTests {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final ProductMapper productMapper = new ProductMapper();
+
+    private final SupplierMapper supplierMapper = new SupplierMapper();
+
+    private final CategoryMapper categoryMapper = new CategoryMapper();
+
+    @BeforeEach
+    void seed() {
+        Category[] categories = new Category[3];
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] = entityManager.persist(Category.builder().name("Category " + i).build());
+            entityManager.persist(Supplier.builder()
+                    .name("Supplier " + i)
+                    .contactInfo(i % 2 == 0 ? "contact" + i + "@example.com" : null)
+                    .address("Street " + i)
+                    .build());
+        }
+        // Every fourth product has no category; the projection must not drop it with an inner join
+        for (int i = 0; i < 20; i++) {
+            entityManager.persist(Product.builder()
+                    .name("Product " + i)
+                    .sku("SKU-LIST-" + i)
+                    .price(BigDecimal.valueOf(2 + i))
+                    .stockQuantity(i)
+                    .reorderPoint(5)
+                    .safetyStock(i % 3 == 0 ? null : 2)
+                    .needsReorder(i <= 5)
+                    .description(i % 2 == 0 ? null : "Description " + i)
+                    .category(i % 4 == 0 ? null : categories[i % categories.length])
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void productRowsMapToTheSameDtosAsEntities() {
+        List<?> fromEntities = productRepository.findAll(NEWEST_FIRST).stream().map(productMapper::toDTO).toList();
+        entityManager.clear();
+
+        SqlStatementCounter.reset();
+        Page<ProductListItem> page = productRepository.findListItems(PageRequest.of(0, 100, NEWEST_FIRST));
+
+        assertThat(page.getContent().stream().map(productMapper::toDTO).toList()).isEqualTo(fromEntities);
+        assertThat(page.getTotalElements()).isEqualTo(20);
+        assertThat(SqlStatementCounter.statements()).singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase()).doesNotContain("join"));
+        assertThat(managedEntities()).isZero();
+    }
+
+    @Test
+    void supplierAndCategoryRowsMapToTheSameDtosAsEntities() {
+        Sort byName = Sort.by("name").ascending();
+        List<?> suppliers = supplierRepository.findAll(byName).stream().map(supplierMapper::toDTO).toList();
+        List<?> categories = categoryRepository.findAll(byName).stream().map(categoryMapper::toDTO).toList();
+        entityManager.clear();
+
+        assertThat(supplierRepository.findListItems(byName).stream().map(supplierMapper::toDTO).toList())
+                .isEqualTo(suppliers);
+        assertThat(supplierRepository.findListItems(PageRequest.of(0, 2, byName)).map(supplierMapper::toDTO).getContent())
+                .isEqualTo(suppliers.subList(0, 2));
+        assertThat(categoryRepository.findListItems(byName).stream().map(categoryMapper::toDTO).toList())
+                .isEqualTo(categories);
+        assertThat(categoryRepository.findListItems(PageRequest.of(1, 2, byName)).map(categoryMapper::toDTO).getContent())
+                .isEqualTo(categories.subList(2, 3));
+        assertThat(managedEntities()).isZero();
+    }
+
+    @Test
+    void entityListingsLoadReadOnly() {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+
+        List<Product> toReorder = productRepository.findByNeedsReorderTrue(PageRequest.of(0, 50)).getContent();
+        List<Product> newest = productRepository.findAllByOrderByCreatedAtDescIdDesc(PageRequest.of(0, 5)).getContent();
+
+        assertThat(toReorder).isNotEmpty().allSatisfy(product -> assertThat(session.isReadOnly(product)).isTrue());
+        assertThat(newest).isNotEmpty().allSatisfy(product -> assertThat(session.isReadOnly(product)).isTrue());
+    }
+
+    private int managedEntities() {
+        return entityManager.getEntityManager().unwrap(SessionImplementor.class)
+                .getPersistenceContextInternal().getNumberOfManagedEntities();
+    }
+}
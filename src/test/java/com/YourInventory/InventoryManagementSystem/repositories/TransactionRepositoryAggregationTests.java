@@ -0,0 +1,167 @@
+package com.YourInventory.InventoryManagementSystem.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.model.Category;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.MonthlyTotal;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductDailySales;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductSalesSummary;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.TransactionTypeSummary;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class TransactionRepositoryAggregationTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void seed() {
+        Category category = entityManager.persist(Category.builder().name("Beverages").build());
+
+        Product[] products = new Product[6];
+        for (int i = 0; i < products.length; i++) {
+            products[i] = entityManager.persist(Product.builder()
+                    .name("Product " + i)
+                    .sku("SKU-" + i)
+                    .price(BigDecimal.valueOf(5 + i))
+                    .stockQuantity(i * 4)
+                    .category(category)
+                    .build());
+        }
+
+        TransactionType[] types = TransactionType.values();
+        for (int i = 0; i < 120; i++) {
+            Product product = products[(i * 7) % products.length];
+            int quantity = 1 + (i % 9);
+            TransactionType type = types[i % types.length];
+            BigDecimal totalPrice = product.getPrice().multiply(BigDecimal.valueOf(quantity));
+            Transaction transaction = entityManager.persist(Transaction.builder()
+                    .totalProduct(quantity)
+                    .totalPrice(type == TransactionType.RETURN_TO_SUPPLIER ? totalPrice.negate() : totalPrice)
+                    .transactionType(type)
+                    .transactionStatus(TransactionStatus.COMPLETED)
+                    .product(product)
+                    .build());
+
+            // createdAt is fixed at construction time, so spread the rows over the last year directly
+            entityManager.getEntityManager()
+                    .createNativeQuery("UPDATE transaction SET created_at = ?1 WHERE id = ?2")
+                    .setParameter(1, LocalDateTime.now().minusDays(i * 3L))
+                    .setParameter(2, transaction.getId())
+                    .executeUpdate();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void typeSummaryMatchesInMemoryComputation() {
+        List<Transaction> all = transactionRepository.findAll();
+
+        Map<TransactionType, Long> expectedCounts = all.stream()
+                .collect(Collectors.groupingBy(Transaction::getTransactionType, Collectors.counting()));
+        Map<TransactionType, Long> actualCounts = transactionRepository.summarizeByType().stream()
+                .collect(Collectors.toMap(TransactionTypeSummary::getTransactionType, TransactionTypeSummary::getTransactionCount));
+        assertThat(actualCounts).isEqualTo(expectedCounts);
+
+        for (TransactionType type : TransactionType.values()) {
+            BigDecimal expected = all.stream()
+                    .filter(t -> t.getTransactionType() == type)
+                    .map(Transaction::getTotalPrice)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertThat(transactionRepository.sumTotalPriceByType(type)).isEqualByComparingTo(expected);
+        }
+    }
+
+    @Test
+    void topProductsMatchInMemoryComputation() {
+        Map<String, Integer> expected = transactionRepository.findAll().stream()
+                .filter(t -> t.getTransactionType() == TransactionType.SALE)
+                .collect(Collectors.groupingBy(
+                        t -> t.getProduct().getName(),
+                        Collectors.summingInt(Transaction::getTotalProduct)
+                ));
+
+        List<ProductSalesSummary> actual = transactionRepository.findTopProductsByQuantity(
+                TransactionType.SALE, PageRequest.of(0, 5));
+
+        assertThat(actual).hasSize(Math.min(5, expected.size()));
+        for (int i = 0; i < actual.size(); i++) {
+            ProductSalesSummary summary = actual.get(i);
+            assertThat(summary.getQuantitySold()).isEqualTo(expected.get(summary.getProductName()).longValue());
+            if (i > 0) {
+                assertThat(summary.getQuantitySold()).isLessThanOrEqualTo(actual.get(i - 1).getQuantitySold());
+            }
+        }
+    }
+
+    @Test
+    void monthlySalesMatchInMemoryComputation() {
+        LocalDateTime sixMonthsAgo = LocalDateTime.now().minus(6, ChronoUnit.MONTHS);
+
+        Map<String, BigDecimal> expected = transactionRepository.findAll().stream()
+                .filter(t -> t.getTransactionType() == TransactionType.SALE && t.getCreatedAt().isAfter(sixMonthsAgo))
+                .collect(Collectors.groupingBy(
+                        t -> t.getCreatedAt().getYear() + "-" + String.format("%02d", t.getCreatedAt().getMonthValue()),
+                        Collectors.reducing(BigDecimal.ZERO, Transaction::getTotalPrice, BigDecimal::add)
+                ));
+
+        Map<String, BigDecimal> actual = transactionRepository.sumTotalPriceByMonth(TransactionType.SALE, sixMonthsAgo)
+                .stream()
+                .collect(Collectors.toMap(MonthlyTotal::getBucketKey, MonthlyTotal::getTotalPrice));
+
+        assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        expected.forEach((month, total) -> assertThat(actual.get(month)).isEqualByComparingTo(total));
+    }
+
+    @Test
+    void dailyProductSalesMatchInMemoryComputation() {
+        LocalDateTime since = LocalDateTime.now().minusDays(30);
+
+        Map<String, Long> expected = transactionRepository.findAll().stream()
+                .filter(t -> t.getTransactionType() == TransactionType.SALE && !t.getCreatedAt().isBefore(since))
+                .collect(Collectors.groupingBy(
+                        t -> t.getProduct().getId() + "@" + t.getCreatedAt().toLocalDate(),
+                        Collectors.summingLong(Transaction::getTotalProduct)
+                ));
+
+        Map<String, Long> actual = transactionRepository.sumQuantityByProductAndDay(TransactionType.SALE, since).stream()
+                .collect(Collectors.toMap(row -> row.getProductId() + "@" + row.getSaleDate(), ProductDailySales::getQuantity));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void stockAggregatesMatchInMemoryComputation() {
+        List<Product> products = productRepository.findAll();
+
+        assertThat(productRepository.sumStockQuantity())
+                .isEqualTo(products.stream().mapToLong(Product::getStockQuantity).sum());
+        assertThat(productRepository.countByStockQuantityLessThanEqual(10))
+                .isEqualTo(products.stream().filter(p -> p.getStockQuantity() <= 10).count());
+    }
+}
@@ -0,0 +1,211 @@
+package com.YourInventory.InventoryManagementSystem.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+
+import com.YourInventory.InventoryManagementSystem.SqlStatementCounter;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionSearchRequest;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.enums.UserRole;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.Supplier;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+import com.YourInventory.InventoryManagementSystem.model.User;
+import com.YourInventory.InventoryManagementSystem.repositories.specifications.TransactionSpecifications;
+
+// Criteria values are inlined as literals so the captured SQL can be EXPLAINed as it stands
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        SqlStatementCounter.PROPERTY
+})
+class TransactionSpecificationsTests {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Product[] products;
+
+    private Supplier[] suppliers;
+
+    private User[] users;
+
+    @BeforeEach
+    void seed() {
+        products = new Product[4];
+        for (int i = 0; i < products.length; i++) {
+            products[i] = entityManager.persist(Product.builder()
+                    .name("Product " + i)
+                    .sku("SKU-SEARCH-" + i)
+                    .price(BigDecimal.valueOf(3 + i))
+                    .stockQuantity(100)
+                    .build());
+        }
+        suppliers = new Supplier[3];
+        for (int i = 0; i < suppliers.length; i++) {
+            suppliers[i] = entityManager.persist(Supplier.builder().name("Supplier " + i).build());
+        }
+        users = new User[2];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = entityManager.persist(User.builder()
+                    .name("User " + i)
+                    .email("search" + i + "@example.com")
+                    .password("secret")
+                    .phoneNumber("98000000" + i)
+                    .role(UserRole.MANAGER)
+                    .build());
+        }
+
+        TransactionType[] types = TransactionType.values();
+        TransactionStatus[] statuses = TransactionStatus.values();
+        for (int i = 0; i < 200; i++) {
+            Product product = products[i % products.length];
+            int quantity = 1 + (i % 7);
+            Transaction transaction = entityManager.persist(Transaction.builder()
+                    .totalProduct(quantity)
+                    .totalPrice(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                    .transactionType(types[i % types.length])
+                    .transactionStatus(statuses[(i / 3) % statuses.length])
+                    .product(product)
+                    .supplier(i % 5 == 0 ? null : suppliers[i % suppliers.length])
+                    .user(users[(i / 2) % users.length])
+                    .build());
+            entityManager.getEntityManager()
+                    .createNativeQuery("UPDATE transaction SET created_at = ?1 WHERE id = ?2")
+                    .setParameter(1, START.plusHours(i * 5L))
+                    .setParameter(2, transaction.getId())
+                    .executeUpdate();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterTransaction
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM transaction");
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.update("DELETE FROM suppliers");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void filtersMatchAnInMemoryScan() {
+        List<Transaction> all = transactionRepository.findAll();
+
+        TransactionSearchRequest bySaleAndProduct = new TransactionSearchRequest();
+        bySaleAndProduct.setType(TransactionType.SALE);
+        bySaleAndProduct.setProductId(products[1].getId());
+        assertMatches(bySaleAndProduct, all, t -> t.getTransactionType() == TransactionType.SALE
+                && t.getProduct().getId().equals(products[1].getId()));
+
+        TransactionSearchRequest bySupplierAndDates = new TransactionSearchRequest();
+        bySupplierAndDates.setSupplierId(suppliers[2].getId());
+        bySupplierAndDates.setFrom(START.plusDays(10));
+        bySupplierAndDates.setTo(START.plusDays(30));
+        assertMatches(bySupplierAndDates, all, t -> t.getSupplier() != null
+                && t.getSupplier().getId().equals(suppliers[2].getId())
+                && !t.getCreatedAt().isBefore(START.plusDays(10))
+                && t.getCreatedAt().isBefore(START.plusDays(30)));
+
+        TransactionSearchRequest byUserStatusAndPrice = new TransactionSearchRequest();
+        byUserStatusAndPrice.setUserId(users[0].getId());
+        byUserStatusAndPrice.setStatus(TransactionStatus.COMPLETED);
+        byUserStatusAndPrice.setMinPrice(BigDecimal.valueOf(10));
+        byUserStatusAndPrice.setMaxPrice(BigDecimal.valueOf(20));
+        assertMatches(byUserStatusAndPrice, all, t -> t.getUser().getId().equals(users[0].getId())
+                && t.getTransactionStatus() == TransactionStatus.COMPLETED
+                && t.getTotalPrice().compareTo(BigDecimal.valueOf(10)) >= 0
+                && t.getTotalPrice().compareTo(BigDecimal.valueOf(20)) <= 0);
+    }
+
+    @Test
+    void keysetPredicateContinuesAfterTheLastRow() {
+        List<Transaction> byPrice = transactionRepository.findAll(Sort.by(Sort.Direction.ASC, "totalPrice", "id"));
+        Transaction last = byPrice.get(49);
+
+        List<Long> rest = transactionRepository.findAll(
+                        TransactionSpecifications.after("totalPrice", true, last.getTotalPrice(), last.getId()),
+                        Sort.by(Sort.Direction.ASC, "totalPrice", "id"))
+                .stream().map(Transaction::getId).toList();
+
+        assertThat(rest).isEqualTo(byPrice.subList(50, byPrice.size()).stream().map(Transaction::getId).toList());
+    }
+
+    @Test
+    void eachFilterIsServedByItsIndex() {
+        // Give the planner column statistics, as a populated production table would have. ANALYZE
+        // commits the seed rows, so cleanUp removes them once the test transaction has ended.
+        jdbcTemplate.execute("ANALYZE");
+        assertPlanUses("IDX_TRANSACTION_CREATED_ID",
+                TransactionSpecifications.createdFrom(START.plusDays(20))
+                        .and(TransactionSpecifications.createdBefore(START.plusDays(25))));
+        assertPlanUses("IDX_TRANSACTION_TYPE_CREATED_ID",
+                TransactionSpecifications.hasType(TransactionType.PURCHASE)
+                        .and(TransactionSpecifications.createdFrom(START.plusDays(20))));
+        assertPlanUses("IDX_TRANSACTION_PRODUCT_CREATED_ID",
+                TransactionSpecifications.forProduct(products[0].getId())
+                        .and(TransactionSpecifications.createdFrom(START.plusDays(20))));
+        assertPlanUses("IDX_TRANSACTION_SUPPLIER_CREATED_ID",
+                TransactionSpecifications.fromSupplier(suppliers[0].getId())
+                        .and(TransactionSpecifications.createdFrom(START.plusDays(20))));
+        assertPlanUses("IDX_TRANSACTION_USER_CREATED_ID",
+                TransactionSpecifications.byUser(users[0].getId())
+                        .and(TransactionSpecifications.createdFrom(START.plusDays(20))));
+        assertPlanUses("IDX_TRANSACTION_PRICE_ID",
+                TransactionSpecifications.pricedAtLeast(BigDecimal.valueOf(40))
+                        .and(TransactionSpecifications.pricedAtMost(BigDecimal.valueOf(45))));
+    }
+
+    private void assertMatches(TransactionSearchRequest request, List<Transaction> all, Predicate<Transaction> filter) {
+        List<Long> expected = all.stream()
+                .filter(filter)
+                .sorted(Comparator.comparing(Transaction::getCreatedAt).thenComparing(Transaction::getId).reversed())
+                .map(Transaction::getId)
+                .collect(Collectors.toList());
+        List<Long> found = transactionRepository.findAll(TransactionSpecifications.matching(request), NEWEST_FIRST)
+                .stream().map(Transaction::getId).toList();
+
+        assertThat(expected).isNotEmpty();
+        assertThat(found).isEqualTo(expected);
+    }
+
+    private void assertPlanUses(String index, Specification<Transaction> specification) {
+        SqlStatementCounter.reset();
+        transactionRepository.findAll(specification, NEWEST_FIRST);
+        String sql = SqlStatementCounter.statements().stream()
+                .filter(statement -> statement.toLowerCase().contains("from transaction"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plan).as(sql).containsIgnoringCase(index);
+    }
+}
@@ -0,0 +1,50 @@
+package com.YourInventory.InventoryManagementSystem.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ClientIpResolverTests {
+
+    private ClientIpResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ClientIpResolver();
+        ReflectionTestUtils.setField(resolver, "trustedProxies", List.of("10.0.0.10", "10.0.0.11"));
+    }
+
+    @Test
+    void forwardedForIsIgnoredFromAnUntrustedPeer() {
+        assertThat(resolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+        assertThat(resolver.resolve(request("203.0.113.7", null))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void clientIsTheRightmostAddressNotATrustedProxy() {
+        // The client forged the first entry; our proxies appended the real one and each other
+        assertThat(resolver.resolve(request("10.0.0.10", "1.2.3.4, 198.51.100.1, 10.0.0.11")))
+                .isEqualTo("198.51.100.1");
+        assertThat(resolver.resolve(request("10.0.0.10", "198.51.100.1"))).isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    void trustedPeerWithoutAUsableHeaderIsItself() {
+        assertThat(resolver.resolve(request("10.0.0.10", " "))).isEqualTo("10.0.0.10");
+        assertThat(resolver.resolve(request("10.0.0.10", "10.0.0.11"))).isEqualTo("10.0.0.10");
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,176 @@
+package com.YourInventory.InventoryManagementSystem.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.YourInventory.InventoryManagementSystem.SqlStatementCounter;
+import com.YourInventory.InventoryManagementSystem.dtos.UserDTO;
+import com.YourInventory.InventoryManagementSystem.enums.UserRole;
+import com.YourInventory.InventoryManagementSystem.mappers.UserMapper;
+import com.YourInventory.InventoryManagementSystem.model.User;
+import com.YourInventory.InventoryManagementSystem.repositories.UserRepository;
+import com.YourInventory.InventoryManagementSystem.services.RefreshTokenService;
+import com.YourInventory.InventoryManagementSystem.services.UserService;
+import com.YourInventory.InventoryManagementSystem.utils.JwtUtil;
+
+// SQL statements the JWT filter issues per authenticated request
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "jwt.secret=aW52ZW50b3J5TWFuYWdlbWVudFN5c3RlbVNlY3JldEtleTIwMjRGb3JKV1RUb2tlbkdlbmVyYXRpb24=",
+        "jwt.expiration=600000",
+        SqlStatementCounter.PROPERTY
+})
+@Import({JwtAuthenticationFilter.class, JwtUtil.class, CustomUserDetailsService.class, AuthenticatedPrincipalCache.class,
+        UserService.class, UserMapper.class, RefreshTokenService.class, TokenRevocationList.class})
+class JwtAuthenticationFilterTests {
+
+    private static final int REQUESTS = 500;
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private AuthenticatedPrincipalCache principalCache;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+
+    private String token;
+
+    @BeforeEach
+    void seed() {
+        principalCache.clear();
+        user = userRepository.save(User.builder()
+                .name("Manager")
+                .email("manager@example.com")
+                .password("secret")
+                .phoneNumber("9800000000")
+                .role(UserRole.MANAGER)
+                .build());
+        token = jwtUtil.generateToken(user.getEmail(), user.getRole().name());
+    }
+
+    @AfterEach
+    void resetMode() {
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "claimsOnly", false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void repeatedRequestsWithOneTokenReadTheUserOnce() throws Exception {
+        SqlStatementCounter.reset();
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(authenticate(token)).isEqualTo("ROLE_MANAGER");
+        }
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void changingTheRoleEvictsTheCachedPrincipal() throws Exception {
+        // Its own subject, since the role change revokes the subject's tokens for the whole context
+        User promoted = userRepository.save(User.builder()
+                .name("Promoted")
+                .email("promoted@example.com")
+                .password("secret")
+                .phoneNumber("9800000001")
+                .role(UserRole.MANAGER)
+                .build());
+        String oldToken = jwtUtil.generateToken(promoted.getEmail(), promoted.getRole().name());
+        assertThat(authenticate(oldToken)).isEqualTo("ROLE_MANAGER");
+
+        UserDTO change = new UserDTO();
+        change.setRole(UserRole.ADMIN);
+        userService.updateUser(promoted.getId(), change);
+        entityManager.flush();
+
+        assertThat(authenticateOrNull(oldToken)).isNull();
+
+        // Issue times have one-second resolution, so a token from the same second is revoked too
+        Thread.sleep(1000 - System.currentTimeMillis() % 1000 + 10);
+        String newToken = jwtUtil.generateToken(promoted.getEmail(), UserRole.ADMIN.name());
+        SqlStatementCounter.reset();
+        assertThat(authenticate(newToken)).isEqualTo("ROLE_ADMIN");
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void claimsOnlyModeNeverReadsTheUser() throws Exception {
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "claimsOnly", true);
+
+        SqlStatementCounter.reset();
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(authenticate(token)).isEqualTo("ROLE_MANAGER");
+        }
+
+        assertThat(SqlStatementCounter.count()).isZero();
+    }
+
+    @Test
+    void expiredOrMalformedTokensLeaveTheRequestAnonymous() throws Exception {
+        JwtUtil expiredIssuer = new JwtUtil(
+                "aW52ZW50b3J5TWFuYWdlbWVudFN5c3RlbVNlY3JldEtleTIwMjRGb3JKV1RUb2tlbkdlbmVyYXRpb24=", -60_000L, 10);
+        String expired = expiredIssuer.generateToken(user.getEmail(), user.getRole().name());
+        JwtUtil otherIssuer = new JwtUtil(
+                "b3RoZXJTZWNyZXRLZXlGb3JTaWduaW5nVG9rZW5zVGhhdFRoaXNBcHBEb2VzTm90VHJ1c3Q=", 60_000L, 10);
+        String forged = otherIssuer.generateToken(user.getEmail(), user.getRole().name());
+
+        for (String jwt : new String[] {expired, forged, "not-a-token", ""}) {
+            SecurityContextHolder.clearContext();
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/all");
+            request.addHeader("Authorization", "Bearer " + jwt);
+            MockFilterChain chain = new MockFilterChain();
+
+            jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertThat(chain.getRequest()).isSameAs(request);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+    }
+
+    // Runs one request through the filter and returns the authority it was granted
+    private String authenticate(String jwt) throws Exception {
+        String authority = authenticateOrNull(jwt);
+        assertThat(authority).isNotNull();
+        return authority;
+    }
+
+    // As authenticate, but null when the request stays anonymous
+    private String authenticateOrNull(String jwt) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/all");
+        request.addHeader("Authorization", "Bearer " + jwt);
+
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return null;
+        }
+        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,107 @@
+package com.YourInventory.InventoryManagementSystem.security;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.YourInventory.InventoryManagementSystem.utils.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+// Cost of authenticating one request with a bearer token. The principal itself comes from a
+// stub, so only token handling is measured.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    static final String SECRET = "aW52ZW50b3J5TWFuYWdlbWVudFN5c3RlbVNlY3JldEtleTIwMjRGb3JKV1RUb2tlbkdlbmVyYXRpb24=";
+
+    private static final UserDetails PRINCIPAL =
+            new User("manager@example.com", "", List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+
+    private String token;
+
+    private MockHttpServletRequest request;
+
+    private JwtAuthenticationFilter singleParseFilter;
+
+    private JwtAuthenticationFilter cachedFilter;
+
+    @Setup
+    public void setUp() {
+        JwtUtil cachingJwtUtil = new JwtUtil(SECRET, 600_000L, 10_000);
+        token = cachingJwtUtil.generateToken(PRINCIPAL.getUsername(), "MANAGER");
+        request = new MockHttpServletRequest("GET", "/api/products/all");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        // A verified-token cache of size 0 keeps nothing, so every request parses exactly once
+        singleParseFilter = filter(new JwtUtil(SECRET, 600_000L, 0));
+        cachedFilter = filter(cachingJwtUtil);
+    }
+
+    // The filter before: three parses, each re-deriving the signing key from the secret
+    @Benchmark
+    public Object tripleParse() {
+        String username = legacyClaims(token).getSubject();
+        UserDetails principal = PRINCIPAL;
+        boolean valid = username.equals(legacyClaims(token).getSubject())
+                && !legacyClaims(token).getExpiration().before(new Date());
+        return valid ? principal : null;
+    }
+
+    @Benchmark
+    public Object singleParse() throws Exception {
+        return authenticate(singleParseFilter);
+    }
+
+    @Benchmark
+    public Object cachedVerification() throws Exception {
+        return authenticate(cachedFilter);
+    }
+
+    private Object authenticate(JwtAuthenticationFilter filter) throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    private static JwtAuthenticationFilter filter(JwtUtil jwtUtil) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+        AuthenticatedPrincipalCache principalCache = new AuthenticatedPrincipalCache(10_000);
+        ReflectionTestUtils.setField(principalCache, "ttlMillis", 600_000L);
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "principalCache", principalCache);
+        ReflectionTestUtils.setField(filter, "revocationList", new TokenRevocationList(10_000));
+        ReflectionTestUtils.setField(filter, "userDetailsService",
+                (UserDetailsService) username -> PRINCIPAL);
+        return filter;
+    }
+}
@@ -0,0 +1,40 @@
+package com.YourInventory.InventoryManagementSystem.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+// Short in-process JMH run; for publishable numbers run JwtFilterBenchmark forked with the defaults
+class JwtFilterBenchmarkTests {
+
+    @Test
+    void singleParseAndCachedVerificationBeatTheTripleParse() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtFilterBenchmark.class.getName())
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.milliseconds(300))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.milliseconds(300))
+                .build();
+
+        Map<String, Double> microsPerRequest = new Runner(options).run().stream().collect(Collectors.toMap(
+                result -> result.getParams().getBenchmark().replaceAll(".*\\.", ""),
+                result -> result.getPrimaryResult().getScore(),
+                (first, second) -> first));
+        System.out.printf("JWT filter per request: triple parse %.2f us, single parse %.2f us, cached %.2f us%n",
+                microsPerRequest.get("tripleParse"), microsPerRequest.get("singleParse"),
+                microsPerRequest.get("cachedVerification"));
+
+        assertThat(microsPerRequest.get("singleParse")).isLessThan(microsPerRequest.get("tripleParse"));
+        assertThat(microsPerRequest.get("cachedVerification")).isLessThan(microsPerRequest.get("singleParse"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.YourInventory.InventoryManagementSystem.security;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.YourInventory.InventoryManagementSystem.exceptions.TooManyRequestsException;
+
+class LoginRateLimiterTests {
+
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginRateLimiter();
+        ReflectionTestUtils.setField(limiter, "accountCapacity", 3);
+        ReflectionTestUtils.setField(limiter, "accountRefillPerMinute", 3.0);
+        ReflectionTestUtils.setField(limiter, "ipCapacity", 5);
+        ReflectionTestUtils.setField(limiter, "ipRefillPerMinute", 5.0);
+    }
+
+    @Test
+    void accountBucketEmptiesAfterItsBurst() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("clerk@example.com", "10.0.0." + i);
+        }
+
+        // Matched case-insensitively, whichever address the attempt comes from
+        assertThatThrownBy(() -> limiter.acquire("Clerk@Example.com", "10.0.0.9"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.acquire("other@example.com", "10.0.0.9")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void ipBucketLimitsAttemptsAcrossAccounts() {
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> limiter.acquire("user9@example.com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.acquire("user9@example.com", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void bucketsRefillOverTime() throws InterruptedException {
+        ReflectionTestUtils.setField(limiter, "accountRefillPerMinute", 6000.0);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("clerk@example.com", null);
+        }
+        assertThatThrownBy(() -> limiter.acquire("clerk@example.com", null))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // 100 tokens a second: one is back well within 50 ms
+        Thread.sleep(50);
+
+        assertThatCode(() -> limiter.acquire("clerk@example.com", null)).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,89 @@
+package com.YourInventory.InventoryManagementSystem.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+class TokenRevocationListTests {
+
+    @Test
+    void revokedTokenIdIsRejectedAndOthersPass() {
+        TokenRevocationList revocations = new TokenRevocationList(1_000);
+
+        revocations.revokeToken("token-1");
+
+        assertThat(revocations.isRevoked(claims("token-1", "clerk@example.com", new Date()))).isTrue();
+        assertThat(revocations.isRevoked(claims("token-2", "clerk@example.com", new Date()))).isFalse();
+    }
+
+    @Test
+    void subjectRevocationCoversTokensIssuedUpToTheCutoff() {
+        TokenRevocationList revocations = new TokenRevocationList(1_000);
+        long now = System.currentTimeMillis();
+
+        revocations.revokeSubject("clerk@example.com");
+
+        assertThat(revocations.isRevoked(claims("a", "clerk@example.com", new Date(now - 60_000)))).isTrue();
+        assertThat(revocations.isRevoked(claims("b", "clerk@example.com", new Date(now + 60_000)))).isFalse();
+        assertThat(revocations.isRevoked(claims("c", "manager@example.com", new Date(now - 60_000)))).isFalse();
+    }
+
+    @Test
+    void saturatedFilterFallsBackToTheExactSet() {
+        // Sized for one entry and given thousands: the filter answers "maybe" nearly always
+        TokenRevocationList revocations = new TokenRevocationList(1);
+        for (int i = 0; i < 5_000; i++) {
+            revocations.revokeToken("revoked-" + i);
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(revocations.isRevoked(claims("revoked-" + i, "clerk@example.com", new Date()))).isTrue();
+            assertThat(revocations.isRevoked(claims("live-" + i, "clerk@example.com", new Date()))).isFalse();
+        }
+    }
+
+    @Test
+    void purgeDropsEntriesOlderThanATokenLifetime() {
+        TokenRevocationList revocations = new TokenRevocationList(1_000);
+        ReflectionTestUtils.setField(revocations, "accessTokenLifetimeMs", -1L);
+        revocations.revokeToken("token-1");
+
+        revocations.purgeExpired();
+
+        assertThat(revocations.isRevoked(claims("token-1", "clerk@example.com", new Date()))).isFalse();
+    }
+
+    @Test
+    void checkingALiveTokenCostsNanoseconds() {
+        TokenRevocationList revocations = new TokenRevocationList(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            revocations.revokeToken("revoked-" + i);
+        }
+        Claims live = claims("live-token", "clerk@example.com", new Date());
+
+        int checks = 2_000_000;
+        int revoked = 0;
+        for (int i = 0; i < checks; i++) {
+            revoked += revocations.isRevoked(live) ? 1 : 0;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < checks; i++) {
+            revoked += revocations.isRevoked(live) ? 1 : 0;
+        }
+        double nanosPerCheck = (System.nanoTime() - start) / (double) checks;
+
+        System.out.printf("Revocation check against %d revoked tokens: %.0f ns%n", 10_000, nanosPerCheck);
+        assertThat(revoked).isZero();
+        assertThat(nanosPerCheck).isLessThan(2_000);
+    }
+
+    private static Claims claims(String id, String subject, Date issuedAt) {
+        return Jwts.claims().id(id).subject(subject).issuedAt(issuedAt).build();
+    }
+}
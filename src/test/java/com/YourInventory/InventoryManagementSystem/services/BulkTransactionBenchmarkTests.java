@@ -0,0 +1,192 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.dtos.BulkTransactionRequest;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionRequest;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.enums.UserRole;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.mappers.ProductMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.SupplierMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.TransactionMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.UserMapper;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+import com.YourInventory.InventoryManagementSystem.model.User;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionBatchRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.UserRepository;
+
+// A 40-line sale sent as 40 single requests and as one bulk request must have the same effect;
+// the benchmark (run with -Pbenchmark) compares their throughput
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TransactionService.class, StockService.class, StockHistoryService.class, HotStockLedger.class, TransactionBatchRepository.class,
+        TransactionMapper.class, ProductMapper.class, UserMapper.class, SupplierMapper.class})
+class BulkTransactionBenchmarkTests {
+
+    private static final int LINES = 40;
+
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private List<Long> productIds;
+
+    @BeforeEach
+    void seed() {
+        userRepository.save(User.builder()
+                .name("Cashier")
+                .email("cashier@example.com")
+                .password("secret")
+                .phoneNumber("0000000000")
+                .role(UserRole.MANAGER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("cashier@example.com", null, List.of()));
+
+        productIds = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            productIds.add(productRepository.save(Product.builder()
+                    .name("Product " + i)
+                    .sku("SKU-BULK-" + i)
+                    .price(BigDecimal.valueOf(2 + i))
+                    .stockQuantity(10_000)
+                    .build()).getId());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        transactionRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void bulkSaleMatchesSingleLineSales() {
+        sellLineByLine();
+        sellInBulk();
+
+        assertThat(transactionRepository.count()).isEqualTo(2L * LINES);
+        for (Long productId : productIds) {
+            assertThat(productRepository.findStockQuantityById(productId)).contains(10_000 - 2);
+        }
+        // Prices 2..41, sold once each way
+        BigDecimal expectedRevenue = BigDecimal.valueOf(2L * (2 + LINES + 1) * LINES / 2);
+        List<Transaction> transactions = transactionRepository.findAll();
+        assertThat(transactions).allSatisfy(transaction -> {
+            assertThat(transaction.getTransactionType()).isEqualTo(TransactionType.SALE);
+            assertThat(transaction.getTotalProduct()).isEqualTo(1);
+        });
+        assertThat(transactions.stream().map(Transaction::getTotalPrice).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo(expectedRevenue);
+    }
+
+    @Test
+    void saleLinesIgnoreTheSupplierLikeASingleSale() {
+        // The supplier does not exist; a sale never looks it up, in either path
+        TransactionRequest single = new TransactionRequest(productIds.get(0), 1, 999_999L, null, null);
+        transactionService.sellProduct(single);
+        transactionService.processBulk(new BulkTransactionRequest(TransactionType.SALE, List.of(single)));
+
+        assertThat(transactionRepository.findAll()).hasSize(2)
+                .allSatisfy(transaction -> assertThat(transaction.getSupplier()).isNull());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void bulkSaleIsFasterThanSingleLineSales() {
+        // Warm up both paths
+        sellLineByLine();
+        sellInBulk();
+
+        long singleStart = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            sellLineByLine();
+        }
+        long singleNanos = System.nanoTime() - singleStart;
+
+        long bulkStart = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            sellInBulk();
+        }
+        long bulkNanos = System.nanoTime() - bulkStart;
+
+        System.out.printf("%d x %d-line sale: single requests %.1f lines/s, bulk %.1f lines/s%n",
+                ROUNDS, LINES, linesPerSecond(singleNanos), linesPerSecond(bulkNanos));
+
+        int perProduct = 2 * (ROUNDS + 1);
+        assertThat(transactionRepository.count()).isEqualTo(2L * (ROUNDS + 1) * LINES);
+        for (Long productId : productIds) {
+            assertThat(productRepository.findStockQuantityById(productId)).contains(10_000 - perProduct);
+        }
+        assertThat(bulkNanos).isLessThan(singleNanos);
+    }
+
+    @Test
+    void bulkSaleIsAllOrNothing() {
+        List<TransactionRequest> lines = lines();
+        lines.get(LINES - 1).setQuantity(10_001);
+
+        assertThatThrownBy(() -> transactionService.processBulk(new BulkTransactionRequest(TransactionType.SALE, lines)))
+                .isInstanceOf(NameValueRequiredException.class);
+
+        assertThat(transactionRepository.count()).isZero();
+        for (Long productId : productIds) {
+            assertThat(productRepository.findStockQuantityById(productId)).contains(10_000);
+        }
+    }
+
+    private void sellLineByLine() {
+        lines().forEach(transactionService::sellProduct);
+    }
+
+    private void sellInBulk() {
+        transactionService.processBulk(new BulkTransactionRequest(TransactionType.SALE, lines()));
+    }
+
+    private List<TransactionRequest> lines() {
+        return productIds.stream()
+                .map(productId -> new TransactionRequest(productId, 1, null, null, null))
+                .collect(Collectors.toList());
+    }
+
+    private double linesPerSecond(long nanos) {
+        return ROUNDS * LINES / (nanos / 1_000_000_000.0);
+    }
+}
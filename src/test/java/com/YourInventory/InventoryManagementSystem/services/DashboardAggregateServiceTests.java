@@ -0,0 +1,199 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.events.StockChangedEvent;
+import com.YourInventory.InventoryManagementSystem.events.TransactionRecordedEvent;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+
+// Sales are written and their events published in real transactions, so the aggregates see them
+// exactly as they would from TransactionService
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(DashboardAggregateService.class)
+class DashboardAggregateServiceTests {
+
+    @Autowired
+    private DashboardAggregateService dashboardAggregateService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Product product;
+
+    @BeforeEach
+    void seed() {
+        product = productRepository.save(Product.builder()
+                .name("Sparkling water")
+                .sku("SKU-AGGREGATE-1")
+                .price(BigDecimal.TEN)
+                .stockQuantity(12)
+                .build());
+        dashboardAggregateService.rebuild();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transactionRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void committedSalesMoveTheTotalsAndRolledBackOnesDoNot() {
+        sell(3, null);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            recordSale(2);
+            status.setRollbackOnly();
+        });
+
+        assertThat(dashboardAggregateService.getTotalStock()).isEqualTo(9);
+        assertThat(dashboardAggregateService.getLowStockCount()).isEqualTo(1);
+        assertThat(dashboardAggregateService.getTransactionTypeDistribution()).isEqualTo(Map.of(TransactionType.SALE, 1L));
+        assertThat(dashboardAggregateService.getTotal(TransactionType.SALE)).isEqualByComparingTo("30");
+    }
+
+    @Test
+    void aRebuildDuringASalesCommitCountsTheSaleOnce() throws Exception {
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch rebuildStarted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The sale commits, then stalls before its after-commit work while the rebuild starts
+            Future<?> sale = executor.submit(() -> sell(3, new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    committed.countDown();
+                    try {
+                        rebuildStarted.await();
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }));
+            assertThat(committed.await(10, TimeUnit.SECONDS)).isTrue();
+            rebuildStarted.countDown();
+            dashboardAggregateService.rebuild();
+            sale.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(dashboardAggregateService.getTotalStock()).isEqualTo(9);
+        assertThat(dashboardAggregateService.getLowStockCount()).isEqualTo(1);
+        assertThat(dashboardAggregateService.getTransactionTypeDistribution()).isEqualTo(Map.of(TransactionType.SALE, 1L));
+        assertThat(dashboardAggregateService.getTotal(TransactionType.SALE)).isEqualByComparingTo("30");
+    }
+
+    @Test
+    void concurrentSalesAndRebuildsEndOnTheDatabaseTotals() throws Exception {
+        productRepository.save(Product.builder()
+                .name("Still water")
+                .sku("SKU-AGGREGATE-2")
+                .price(BigDecimal.TEN)
+                .stockQuantity(1000)
+                .build());
+        dashboardAggregateService.rebuild();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?> rebuilds = executor.submit(() -> {
+                for (int i = 0; i < 20; i++) {
+                    dashboardAggregateService.rebuild();
+                }
+            });
+            Future<?>[] sales = new Future<?>[3];
+            for (int t = 0; t < sales.length; t++) {
+                sales[t] = executor.submit(() -> {
+                    for (int i = 0; i < 3; i++) {
+                        sell(1, null);
+                    }
+                });
+            }
+            rebuilds.get(30, TimeUnit.SECONDS);
+            for (Future<?> sale : sales) {
+                sale.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long stock = dashboardAggregateService.getTotalStock();
+        dashboardAggregateService.rebuild();
+        assertThat(stock).isEqualTo(dashboardAggregateService.getTotalStock()).isEqualTo(1003);
+        assertThat(dashboardAggregateService.getTransactionTypeDistribution()).isEqualTo(Map.of(TransactionType.SALE, 9L));
+    }
+
+    // Sells quantity of the seeded product in its own transaction, registering hook first so that
+    // it runs ahead of the aggregates' own after-commit work
+    private void sell(int quantity, TransactionSynchronization hook) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (hook != null) {
+                TransactionSynchronizationManager.registerSynchronization(hook);
+            }
+            recordSale(quantity);
+        });
+    }
+
+    // Caller must be in a transaction
+    private void recordSale(int quantity) {
+        int previous = jdbcTemplate.queryForObject("SELECT stock_quantity FROM products WHERE id = ? FOR UPDATE",
+                Integer.class, product.getId());
+        jdbcTemplate.update("UPDATE products SET stock_quantity = ? WHERE id = ?", previous - quantity, product.getId());
+        Transaction transaction = transactionRepository.save(Transaction.builder()
+                .totalProduct(quantity)
+                .totalPrice(BigDecimal.TEN.multiply(BigDecimal.valueOf(quantity)))
+                .transactionType(TransactionType.SALE)
+                .transactionStatus(TransactionStatus.COMPLETED)
+                .product(product)
+                .build());
+        eventPublisher.publishEvent(new StockChangedEvent(product.getId(), previous, previous - quantity));
+        eventPublisher.publishEvent(new TransactionRecordedEvent(transaction.getId(), TransactionType.SALE,
+                product.getId(), quantity, transaction.getTotalPrice(), LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,126 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.YourInventory.InventoryManagementSystem.config.DashboardExecutorConfig;
+import com.YourInventory.InventoryManagementSystem.services.DashboardAssembler.Section;
+import com.YourInventory.InventoryManagementSystem.services.DashboardAssembler.SectionStatus;
+
+class DashboardAssemblerTests {
+
+    private final DashboardAssembler assembler = new DashboardAssembler();
+
+    private final MockEnvironment environment = new MockEnvironment();
+
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new DashboardExecutorConfig().dashboardExecutor(2, 8);
+        ReflectionTestUtils.setField(assembler, "dashboardExecutor", executor);
+        ReflectionTestUtils.setField(assembler, "environment", environment);
+        ReflectionTestUtils.setField(assembler, "defaultTimeoutMs", 200L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void sectionsThatLoadInTimeAreOk() {
+        Map<String, Object> data = assembler.assemble("overview", List.of(
+                new Section("products", () -> Map.of("totalProducts", 3)),
+                new Section("sales", () -> Map.of("totalSales", 7))));
+
+        assertThat(data).containsEntry("totalProducts", 3).containsEntry("totalSales", 7);
+        assertThat(statuses(data)).containsExactly(
+                Map.entry("products", SectionStatus.OK), Map.entry("sales", SectionStatus.OK));
+        assertThat(DashboardAssembler.isComplete(data)).isTrue();
+    }
+
+    @Test
+    void aSlowSectionIsMissingAndItsLoaderIsCancelled() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        Map<String, Object> data = assembler.assemble("overview", List.of(
+                new Section("products", () -> Map.of("totalProducts", 3)),
+                new Section("sales", () -> {
+                    try {
+                        Thread.sleep(30_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return Map.of("totalSales", 7);
+                })));
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+        assertThat(data).containsEntry("totalProducts", 3).doesNotContainKey("totalSales");
+        assertThat(statuses(data)).containsEntry("sales", SectionStatus.MISSING);
+        assertThat(DashboardAssembler.isComplete(data)).isFalse();
+        // The worker is freed rather than left running the abandoned query
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void aFailedOrLateSectionFallsBackToItsLastGoodValue() {
+        assembler.assemble("overview", List.of(new Section("sales", () -> Map.of("totalSales", 7))));
+
+        Map<String, Object> failed = assembler.assemble("overview", List.of(new Section("sales", () -> {
+            throw new IllegalStateException("database unavailable");
+        })));
+        assertThat(failed).containsEntry("totalSales", 7);
+        assertThat(statuses(failed)).containsEntry("sales", SectionStatus.STALE);
+
+        Map<String, Object> late = assembler.assemble("overview", List.of(new Section("sales", () -> {
+            sleep(30_000);
+            return Map.of("totalSales", 8);
+        })));
+        assertThat(late).containsEntry("totalSales", 7);
+        assertThat(statuses(late)).containsEntry("sales", SectionStatus.STALE);
+
+        // Last good values are kept per dashboard
+        Map<String, Object> other = assembler.assemble("monthly", List.of(new Section("sales", () -> {
+            throw new IllegalStateException("database unavailable");
+        })));
+        assertThat(statuses(other)).containsEntry("sales", SectionStatus.MISSING);
+    }
+
+    @Test
+    void aSectionCanHaveItsOwnBudget() {
+        environment.setProperty("dashboard.sections.sales.timeout-ms", "2000");
+
+        Map<String, Object> data = assembler.assemble("overview", List.of(new Section("sales", () -> {
+            sleep(400);
+            return Map.of("totalSales", 7);
+        })));
+
+        assertThat(statuses(data)).containsEntry("sales", SectionStatus.OK);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, SectionStatus> statuses(Map<String, Object> data) {
+        return (Map<String, SectionStatus>) data.get(DashboardAssembler.SECTION_STATUS_KEY);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+
+class DashboardCacheServiceTests {
+
+    private static final int THREADS = 8;
+
+    private final DashboardCacheService cache = new DashboardCacheService();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "maxStalenessMs", 60_000L);
+        pool = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneComputation() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Response>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(pool.submit(() -> cache.get("overview", () -> {
+                await(release);
+                return load("computed");
+            })));
+        }
+        // Let every caller reach the cache before the one computation finishes
+        waitFor(() -> stat("coalesced") == THREADS - 1);
+        release.countDown();
+
+        for (Future<Response> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS).getMessage()).isEqualTo("computed");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.get("overview", () -> load("again")).getMessage()).isEqualTo("computed");
+        assertThat(stat("misses")).isEqualTo(1);
+    }
+
+    @Test
+    void aMissThatLosesTheRaceToAFinishedComputationUsesItsResult() throws Exception {
+        // The first caller misses, then stalls until a second caller has computed, stored and
+        // released the key; it must then find the stored entry rather than compute again
+        CountDownLatch firstMissed = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+        Thread first = Thread.currentThread();
+        Map<String, Object> entries = new ConcurrentHashMap<>() {
+            @Override
+            public Object get(Object key) {
+                Object entry = super.get(key);
+                if (Thread.currentThread() == first && firstMissed.getCount() > 0) {
+                    firstMissed.countDown();
+                    DashboardCacheServiceTests.await(secondDone);
+                }
+                return entry;
+            }
+        };
+        ReflectionTestUtils.setField(cache, "entries", entries);
+
+        Future<Response> second = pool.submit(() -> {
+            firstMissed.await();
+            try {
+                return cache.get("overview", () -> load("second"));
+            } finally {
+                secondDone.countDown();
+            }
+        });
+
+        assertThat(cache.get("overview", () -> load("first")).getMessage()).isEqualTo("second");
+        assertThat(second.get(10, TimeUnit.SECONDS).getMessage()).isEqualTo("second");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidationDuringAComputationLeavesItsResultStale() {
+        assertThat(cache.get("overview", () -> {
+            cache.invalidateAll();
+            return load("before the write");
+        }).getMessage()).isEqualTo("before the write");
+
+        assertThat(cache.get("overview", () -> load("after the write")).getMessage()).isEqualTo("after the write");
+        assertThat(cache.get("overview", () -> load("unused")).getMessage()).isEqualTo("after the write");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void writesAndAgeInvalidateEntries() throws Exception {
+        cache.get("overview", () -> load("one"));
+        cache.invalidateAll();
+        assertThat(cache.get("overview", () -> load("two")).getMessage()).isEqualTo("two");
+
+        ReflectionTestUtils.setField(cache, "maxStalenessMs", 20L);
+        Thread.sleep(40);
+        assertThat(cache.get("overview", () -> load("three")).getMessage()).isEqualTo("three");
+        assertThat(stat("invalidations")).isEqualTo(1);
+    }
+
+    @Test
+    void failuresReachEveryWaiterAndAreNotCached() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Response>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(pool.submit(() -> cache.get("overview", () -> {
+                await(release);
+                loads.incrementAndGet();
+                throw new AssertionError("query failed");
+            })));
+        }
+        waitFor(() -> stat("coalesced") == THREADS - 1);
+        release.countDown();
+
+        for (Future<Response> result : results) {
+            assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS)).hasRootCauseMessage("query failed");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.get("overview", () -> load("recovered")).getMessage()).isEqualTo("recovered");
+    }
+
+    @Test
+    void rejectedResponsesAreReturnedButNotStored() {
+        assertThat(cache.get("overview", () -> load("partial"), response -> false).getMessage()).isEqualTo("partial");
+        assertThat(cache.get("overview", () -> load("complete")).getMessage()).isEqualTo("complete");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private Response load(String message) {
+        loads.incrementAndGet();
+        return Response.builder().status(200).message(message).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private long stat(String name) {
+        return (Long) ((Map<String, Object>) cache.getStats().getData()).get(name);
+    }
+
+    private static void waitFor(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.get()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.YourInventory.InventoryManagementSystem.events.StockChangedEvent;
+import com.YourInventory.InventoryManagementSystem.exceptions.TooManyRequestsException;
+
+class DashboardStreamServiceTests {
+
+    // Emitters handed to the next subscribers, in order
+    private final Queue<RecordingEmitter> emitters = new ArrayDeque<>();
+
+    private DashboardStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new DashboardStreamService() {
+            @Override
+            SseEmitter createEmitter(long timeout) {
+                return emitters.remove();
+            }
+        };
+        ReflectionTestUtils.setField(streamService, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(streamService, "bufferSize", 4);
+        ReflectionTestUtils.setField(streamService, "maxSubscribers", 3);
+        ReflectionTestUtils.setField(streamService, "sendTimeoutMs", 50L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(RecordingEmitter::release);
+        streamService.shutdown();
+    }
+
+    @Test
+    void stalledClientDoesNotHoldUpTheOthers() throws Exception {
+        RecordingEmitter stalled = subscribe(new RecordingEmitter(true));
+        RecordingEmitter alsoStalled = subscribe(new RecordingEmitter(true));
+        RecordingEmitter healthy = subscribe(new RecordingEmitter(false));
+
+        for (int i = 1; i <= 3; i++) {
+            streamService.onStockChanged(new StockChangedEvent(1L, 100, 100 - i));
+        }
+
+        // "connected" plus three stock deltas, while both other clients' first writes are still blocked
+        healthy.awaitEvents(4);
+        assertThat(healthy.events()).containsExactly("connected", "stock", "stock", "stock");
+        assertThat(stalled.events()).isEmpty();
+        assertThat(alsoStalled.events()).isEmpty();
+    }
+
+    @Test
+    void fullBufferSendsAResyncAndTheLatestDeltas() throws Exception {
+        RecordingEmitter slow = subscribe(new RecordingEmitter(true));
+        slow.awaitSendStarted();
+
+        for (int i = 1; i <= 10; i++) {
+            streamService.onStockChanged(new StockChangedEvent(1L, 100, 100 - i));
+        }
+        slow.release();
+
+        // The blocked "connected" write completes, then the oldest deltas are gone
+        slow.awaitEvents(6);
+        assertThat(slow.events()).containsExactly("connected", "resync", "stock", "stock", "stock", "stock");
+    }
+
+    @Test
+    void clientBlockedPastTheSendTimeoutIsDropped() throws Exception {
+        RecordingEmitter stalled = subscribe(new RecordingEmitter(true));
+        subscribe(new RecordingEmitter(false));
+        stalled.awaitSendStarted();
+
+        Thread.sleep(100);
+        streamService.dropStalledSubscribers();
+        assertThat(streamService.getSubscriberCount()).isEqualTo(1);
+
+        // Its thread completes the emitter once the blocked write returns
+        stalled.release();
+        assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void subscribersAreCapped() {
+        for (int i = 0; i < 3; i++) {
+            subscribe(new RecordingEmitter(false));
+        }
+
+        emitters.add(new RecordingEmitter(false));
+        assertThatThrownBy(() -> streamService.subscribe()).isInstanceOf(TooManyRequestsException.class);
+    }
+
+    private RecordingEmitter subscribe(RecordingEmitter emitter) {
+        emitters.add(emitter);
+        streamService.subscribe();
+        return emitter;
+    }
+
+    // Records event names instead of writing to a response; a blocking one holds every write
+    // until released, like a client that stopped reading
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch released;
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter(boolean blocking) {
+            released = new CountDownLatch(blocking ? 1 : 0);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            String text = builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining());
+            int name = text.indexOf("event:");
+            if (name >= 0) {
+                events.add(text.substring(name + "event:".length(), text.indexOf('\n', name)));
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed.countDown();
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        void awaitSendStarted() throws InterruptedException {
+            assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+
+        List<String> events() {
+            return events;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.StockJournalCommitRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.StockMovementRepository;
+
+// Hot-stock changes go through StockService inside real transactions. A "crash" is a ledger that
+// is dropped without flushing; the next ledger must recover exactly the committed changes.
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StockService.class, StockHistoryService.class, HotStockLedger.class})
+class HotStockLedgerRecoveryTests {
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private HotStockLedger contextLedger;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockJournalCommitRepository commitRepository;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path journalDir;
+
+    @AfterEach
+    void cleanUp() {
+        StockService target = AopTestUtils.getTargetObject(stockService);
+        ReflectionTestUtils.setField(target, "hotStockLedger", contextLedger);
+        stockMovementRepository.deleteAllInBatch();
+        productRepository.deleteAll();
+        commitRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void unflushedSalesAreReplayedExactlyOnce() throws Exception {
+        Long productId = createProduct(100);
+
+        startLedger(productId);
+        commit(() -> stockService.decrement(productId, 30));
+        commit(() -> stockService.increment(productId, 5));
+        commit(() -> stockService.decrement(productId, 10));
+        assertThat(databaseStock(productId)).isEqualTo(100);
+
+        // A write torn by the crash: never acknowledged, so it must be ignored
+        try (Stream<Path> segments = Files.list(journalDir)) {
+            Path segment = segments.findFirst().orElseThrow();
+            Files.writeString(segment, "4:" + productId + ":-", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        }
+
+        HotStockLedger recovered = startLedger(productId);
+        assertThat(databaseStock(productId)).isEqualTo(65);
+        assertThat(commitRepository.count()).isZero();
+
+        commit(() -> stockService.decrement(productId, 5));
+        recovered.flush();
+        assertThat(databaseStock(productId)).isEqualTo(60);
+
+        // Restarting after a clean flush must not apply anything twice
+        HotStockLedger restarted = startLedger(productId);
+        assertThat(databaseStock(productId)).isEqualTo(60);
+        assertThatThrownBy(() -> commit(() -> stockService.decrement(productId, 61)))
+                .isInstanceOf(NameValueRequiredException.class);
+        assertThat(commit(() -> stockService.decrement(productId, 60))).isZero();
+        restarted.shutdown();
+        assertThat(databaseStock(productId)).isZero();
+    }
+
+    @Test
+    void rolledBackChangeIsUndoneInMemoryAndNeverReplayed() throws Exception {
+        Long productId = createProduct(100);
+        HotStockLedger ledger = startLedger(productId);
+
+        // The sale's journal entry is already on disk when its transaction fails
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            stockService.decrement(productId, 40);
+            status.setRollbackOnly();
+        });
+        assertThat(ledger.current(productId)).isEqualTo(100);
+
+        commit(() -> stockService.decrement(productId, 10));
+        assertThat(ledger.current(productId)).isEqualTo(90);
+
+        // Crash before any flush: only the committed sale may reach the database
+        startLedger(productId);
+        assertThat(databaseStock(productId)).isEqualTo(90);
+    }
+
+    @Test
+    void stockFromAPurchaseThatRollsBackCannotBeSold() throws Exception {
+        Long productId = createProduct(0);
+        HotStockLedger ledger = startLedger(productId);
+
+        CountDownLatch purchased = new CountDownLatch(1);
+        CountDownLatch saleTried = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            // The purchase adds its stock, then fails later in the same transaction
+            Future<?> purchase = pool.submit(() -> assertThatThrownBy(() -> commit(() -> {
+                stockService.increment(productId, 10);
+                purchased.countDown();
+                saleTried.await(10, TimeUnit.SECONDS);
+                throw new IllegalStateException("Supplier not found");
+            })).isInstanceOf(IllegalStateException.class));
+
+            assertThat(purchased.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThatThrownBy(() -> commit(() -> stockService.decrement(productId, 5)))
+                    .isInstanceOf(NameValueRequiredException.class);
+            saleTried.countDown();
+            purchase.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(ledger.current(productId)).isZero();
+
+        // Once a purchase commits, its stock can be sold
+        commit(() -> stockService.increment(productId, 10));
+        assertThat(ledger.current(productId)).isEqualTo(10);
+        assertThat(commit(() -> stockService.decrement(productId, 10))).isZero();
+        ledger.flush();
+        assertThat(databaseStock(productId)).isZero();
+    }
+
+    @Test
+    void aSetIsReservedDownwardsAndPublishedUpwardsOnCommit() throws Exception {
+        Long productId = createProduct(50);
+        HotStockLedger ledger = startLedger(productId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(stockService.set(productId, 80)).isEqualTo(50);
+            assertThat(ledger.current(productId)).isEqualTo(50);
+            status.setRollbackOnly();
+        });
+        assertThat(ledger.current(productId)).isEqualTo(50);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(stockService.set(productId, 20)).isEqualTo(50);
+            assertThat(ledger.current(productId)).isEqualTo(20);
+            status.setRollbackOnly();
+        });
+        assertThat(ledger.current(productId)).isEqualTo(50);
+
+        commit(() -> stockService.set(productId, 80));
+        assertThat(ledger.current(productId)).isEqualTo(80);
+        ledger.flush();
+        assertThat(databaseStock(productId)).isEqualTo(80);
+    }
+
+    @Test
+    void crashBeforeCommitIsNotReplayed() throws Exception {
+        Long productId = createProduct(100);
+        startLedger(productId);
+
+        // Journal entry written and forced, then the process dies before the transaction commits:
+        // the marker insert is never committed, so the entry has no marker
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            stockService.decrement(productId, 25);
+            try (Stream<Path> segments = Files.list(journalDir)) {
+                assertThat(Files.readString(segments.findFirst().orElseThrow())).contains(":" + productId + ":-25:");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            status.setRollbackOnly();
+        });
+
+        startLedger(productId);
+        assertThat(databaseStock(productId)).isEqualTo(100);
+    }
+
+    @Test
+    void concurrentSalesShareForcesAndAllCommittedOnesSurviveACrash() throws Exception {
+        Long productId = createProduct(1_000);
+        startLedger(productId);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> sales = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                sales.add(pool.submit(() -> commit(() -> stockService.decrement(productId, 2))));
+            }
+            for (Future<Integer> sale : sales) {
+                sale.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(commitRepository.count()).isEqualTo(200);
+
+        startLedger(productId);
+        assertThat(databaseStock(productId)).isEqualTo(600);
+    }
+
+    @Test
+    void changesOutsideATransactionAreRefused() throws Exception {
+        Long productId = createProduct(10);
+        HotStockLedger ledger = startLedger(productId);
+
+        assertThatThrownBy(() -> ledger.decrement(productId, 1)).isInstanceOf(IllegalStateException.class);
+        assertThat(ledger.current(productId)).isEqualTo(10);
+    }
+
+    // Starts a fresh ledger on the journal directory and routes StockService through it
+    private HotStockLedger startLedger(Long productId) throws Exception {
+        HotStockLedger ledger = new HotStockLedger();
+        ReflectionTestUtils.setField(ledger, "productRepository", productRepository);
+        ReflectionTestUtils.setField(ledger, "commitRepository", commitRepository);
+        ReflectionTestUtils.setField(ledger, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(ledger, "enabled", true);
+        ReflectionTestUtils.setField(ledger, "hotProductIds", String.valueOf(productId));
+        ReflectionTestUtils.setField(ledger, "journalDir", journalDir.toString());
+        ledger.start();
+        StockService target = AopTestUtils.getTargetObject(stockService);
+        ReflectionTestUtils.setField(target, "hotStockLedger", ledger);
+        return ledger;
+    }
+
+    private <T> T commit(Callable<T> change) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            try {
+                return change.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private Long createProduct(int stock) {
+        return productRepository.save(Product.builder()
+                .name("Promoted product")
+                .sku("SKU-HOT")
+                .price(BigDecimal.TEN)
+                .stockQuantity(stock)
+                .build()).getId();
+    }
+
+    private int databaseStock(Long productId) {
+        return productRepository.findStockQuantityById(productId).orElseThrow();
+    }
+}
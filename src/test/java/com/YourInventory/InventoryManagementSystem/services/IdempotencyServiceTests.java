@@ -0,0 +1,173 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.model.Category;
+import com.YourInventory.InventoryManagementSystem.repositories.CategoryRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.IdempotencyRecordRepository;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({IdempotencyService.class, JacksonAutoConfiguration.class})
+class IdempotencyServiceTests {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void cleanUp() {
+        categoryRepository.deleteAll();
+        idempotencyRecordRepository.deleteAll();
+        forgetRecentKeys();
+    }
+
+    @Test
+    void retryReplaysTheFirstResponse() {
+        Response first = idempotencyService.execute("scan-1", "sell", "line-1", createCategory("Snacks"));
+        Response retry = idempotencyService.execute("scan-1", "sell", "line-1", createCategory("Snacks"));
+
+        assertThat(retry.getMessage()).isEqualTo(first.getMessage());
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(categoryRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void retryAfterTheCacheIsLostDoesNotRepeatTheWrite() {
+        Response first = idempotencyService.execute("scan-2", "sell", "line-2", createCategory("Drinks"));
+        forgetRecentKeys();
+
+        Response retry = idempotencyService.execute("scan-2", "sell", "line-2", createCategory("Drinks"));
+
+        assertThat(retry.getMessage()).isEqualTo(first.getMessage());
+        assertThat(categoryRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentDuplicatesRunOnce() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Response>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return idempotencyService.execute("scan-3", "sell", "line-3", () -> {
+                    sleep(200);
+                    return createCategory("Frozen").get();
+                });
+            }));
+        }
+        start.countDown();
+        for (Future<Response> future : futures) {
+            assertThat(future.get(30, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        }
+        executor.shutdown();
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(categoryRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void reusedKeyWithDifferentRequestIsRejected() {
+        idempotencyService.execute("scan-4", "sell", "line-4", createCategory("Bakery"));
+
+        assertThatThrownBy(() -> idempotencyService.execute("scan-4", "sell", "another line", createCategory("Dairy")))
+                .isInstanceOf(NameValueRequiredException.class);
+        assertThat(categoryRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void aLongEmailAndKeyStillFitTheRecord() {
+        String email = "a".repeat(240) + "@example.com";
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(email, null));
+        try {
+            String key = "k".repeat(100);
+            Response first = idempotencyService.execute(key, "sell", "line-5", createCategory("Pantry"));
+            forgetRecentKeys();
+            Response retry = idempotencyService.execute(key, "sell", "line-5", createCategory("Pantry"));
+
+            assertThat(retry.getMessage()).isEqualTo(first.getMessage());
+            assertThat(categoryRepository.count()).isEqualTo(1);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void anExpiredRecordThatWasNotPurgedYetFreesItsKey() {
+        idempotencyService.execute("scan-6", "sell", "line-6", createCategory("Spices"));
+        jdbcTemplate.update("UPDATE idempotency_records SET expires_at = ?", LocalDateTime.now().minusMinutes(1));
+        forgetRecentKeys();
+
+        Response second = idempotencyService.execute("scan-6", "sell", "another line", createCategory("Herbs"));
+
+        assertThat(second.getMessage()).isEqualTo("Created Herbs");
+        assertThat(categoryRepository.count()).isEqualTo(2);
+        assertThat(idempotencyRecordRepository.findAll())
+                .singleElement()
+                .satisfies(stored -> assertThat(stored.getExpiresAt()).isAfter(LocalDateTime.now()));
+    }
+
+    private Supplier<Response> createCategory(String name) {
+        return () -> {
+            executions.incrementAndGet();
+            categoryRepository.save(Category.builder().name(name).build());
+            return Response.builder().status(200).message("Created " + name).build();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private void forgetRecentKeys() {
+        Map<String, ?> recent = (Map<String, ?>) ReflectionTestUtils.getField(idempotencyService, "recent");
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.YourInventory.InventoryManagementSystem.events.ProductChangedEvent;
+import com.YourInventory.InventoryManagementSystem.events.StockChangedEvent;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+
+class InventoryAlertEngineTests {
+
+    private final InventoryAlertEngine engine = new InventoryAlertEngine();
+
+    @Test
+    void alertsMatchFullScanAfterRandomWrites() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductChangedEvent> catalog = new ArrayList<>();
+
+        for (long id = 1; id <= 200; id++) {
+            LocalDateTime expiry = random.nextBoolean() ? now.plusDays(random.nextInt(90) - 10) : null;
+            ProductChangedEvent product = new ProductChangedEvent(id, "Product " + id, "SKU-" + id, null, random.nextInt(30), expiry, false);
+            catalog.add(product);
+            engine.onProductChanged(product);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            int index = random.nextInt(catalog.size());
+            ProductChangedEvent current = catalog.get(index);
+            int newStock = random.nextInt(30);
+            engine.onStockChanged(new StockChangedEvent(current.productId(), current.stockQuantity(), newStock));
+            catalog.set(index, new ProductChangedEvent(current.productId(), current.name(), current.sku(), current.description(), newStock, current.expiryDate(), false));
+        }
+
+        // Delete a few products
+        for (int i = 0; i < 10; i++) {
+            ProductChangedEvent removed = catalog.remove(random.nextInt(catalog.size()));
+            engine.onProductChanged(ProductChangedEvent.deleted(removed.productId()));
+        }
+
+        List<Long> expectedLowStock = catalog.stream()
+                .filter(p -> p.stockQuantity() <= 10)
+                .sorted(Comparator.comparing(ProductChangedEvent::stockQuantity).thenComparing(ProductChangedEvent::productId))
+                .map(ProductChangedEvent::productId)
+                .collect(Collectors.toList());
+        InventoryAlertEngine.AlertPage lowStock = engine.getLowStock(10, 0, 1000);
+        assertThat(lowStock.content()).extracting(InventoryAlertEngine.AlertProduct::id).containsExactlyElementsOf(expectedLowStock);
+        assertThat(lowStock.totalElements()).isEqualTo(expectedLowStock.size());
+
+        assertThat(engine.getOutOfStock(0, 1000).totalElements())
+                .isEqualTo(catalog.stream().filter(p -> p.stockQuantity() == 0).count());
+
+        LocalDateTime cutoff = now.plusDays(30);
+        List<Long> expectedExpiring = catalog.stream()
+                .filter(p -> p.expiryDate() != null && p.expiryDate().isBefore(cutoff))
+                .sorted(Comparator.comparing(ProductChangedEvent::expiryDate).thenComparing(ProductChangedEvent::productId))
+                .map(ProductChangedEvent::productId)
+                .collect(Collectors.toList());
+        assertThat(engine.getExpiringBefore(cutoff, 0, 1000).content())
+                .extracting(InventoryAlertEngine.AlertProduct::id)
+                .containsExactlyElementsOf(expectedExpiring);
+    }
+
+    @Test
+    void pagesWalkTheAlertSetInOrder() {
+        for (long id = 1; id <= 25; id++) {
+            engine.onProductChanged(new ProductChangedEvent(id, "Product " + id, "SKU-" + id, null, (int) (id % 5), null, false));
+        }
+
+        InventoryAlertEngine.AlertPage first = engine.getLowStock(10, 0, 10);
+        InventoryAlertEngine.AlertPage last = engine.getLowStock(10, 2, 10);
+
+        assertThat(first.totalElements()).isEqualTo(25);
+        assertThat(first.content()).hasSize(10);
+        assertThat(first.content().get(0).stockQuantity()).isZero();
+        assertThat(last.content()).hasSize(5);
+        assertThat(last.content().get(4).stockQuantity()).isEqualTo(4);
+    }
+
+    @Test
+    void stockChangesArrivingOutOfOrderSettleOnTheCommittedStock() {
+        engine.onProductChanged(new ProductChangedEvent(1L, "Product 1", "SKU-1", null, 20, null, false));
+
+        // A purchase committed after a sale, but its event arrives first
+        engine.onStockChanged(new StockChangedEvent(1L, 15, 25));
+        engine.onStockChanged(new StockChangedEvent(1L, 20, 15));
+
+        assertThat(stockOf(1L)).isEqualTo(25);
+    }
+
+    @Test
+    void anEditDoesNotRollBackStockMovedSinceItWasRead() {
+        engine.onProductChanged(new ProductChangedEvent(1L, "Product 1", "SKU-1", null, 20, null, false));
+        engine.onStockChanged(new StockChangedEvent(1L, 20, 8));
+
+        engine.onProductChanged(new ProductChangedEvent(1L, "Renamed", "SKU-1", null, 20, null, false));
+
+        assertThat(engine.getLowStock(10, 0, 10).content())
+                .extracting(InventoryAlertEngine.AlertProduct::name, InventoryAlertEngine.AlertProduct::stockQuantity)
+                .containsExactly(tuple("Renamed", 8));
+    }
+
+    @Test
+    void aChangeCommittedWhileTheSnapshotIsReadIsAppliedAfterTheRebuild() throws Exception {
+        engine.onProductChanged(new ProductChangedEvent(1L, "Product 1", "SKU-1", null, 20, null, false));
+        ProductRepository productRepository = mock(ProductRepository.class);
+        ReflectionTestUtils.setField(engine, "productRepository", productRepository);
+        Thread[] sale = new Thread[1];
+        when(productRepository.findAll()).thenAnswer(invocation -> {
+            // The snapshot predates the sale, which commits while the rebuild is still running
+            sale[0] = commitInAnotherThread(new StockChangedEvent(1L, 20, 15), new CountDownLatch(1), new CountDownLatch(0));
+            sale[0].join(200);
+            return List.of(product(1L, 20));
+        });
+
+        engine.rebuild();
+        sale[0].join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(stockOf(1L)).isEqualTo(15);
+    }
+
+    @Test
+    void aChangeCommittedBeforeTheSnapshotIsNotAppliedTwice() throws Exception {
+        engine.onProductChanged(new ProductChangedEvent(1L, "Product 1", "SKU-1", null, 20, null, false));
+        ProductRepository productRepository = mock(ProductRepository.class);
+        ReflectionTestUtils.setField(engine, "productRepository", productRepository);
+        when(productRepository.findAll()).thenReturn(List.of(product(1L, 15)));
+
+        // The sale commits, then the rebuild starts before the sale's update has been applied
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch rebuildStarted = new CountDownLatch(1);
+        Thread sale = commitInAnotherThread(new StockChangedEvent(1L, 20, 15), committing, rebuildStarted);
+        Thread rebuild = new Thread(() -> {
+            try {
+                committing.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            rebuildStarted.countDown();
+            engine.rebuild();
+        });
+        rebuild.start();
+        sale.join(TimeUnit.SECONDS.toMillis(10));
+        rebuild.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(stockOf(1L)).isEqualTo(15);
+    }
+
+    // Publishes event in a transaction on a new thread and commits it. Once the commit is under way
+    // it counts down committing, then waits for beforeApplying, as a slow after-commit phase would.
+    private Thread commitInAnotherThread(StockChangedEvent event, CountDownLatch committing, CountDownLatch beforeApplying) {
+        Thread thread = new Thread(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                engine.onStockChanged(event);
+                TransactionSynchronizationUtils.triggerBeforeCommit(false);
+                committing.countDown();
+                beforeApplying.await();
+                Thread.sleep(50);
+                TransactionSynchronizationUtils.invokeAfterCompletion(
+                        TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private int stockOf(Long productId) {
+        return engine.getLowStock(Integer.MAX_VALUE, 0, 1000).content().stream()
+                .filter(product -> product.id() == productId)
+                .findFirst()
+                .orElseThrow()
+                .stockQuantity();
+    }
+
+    private static Product product(Long id, int stock) {
+        return Product.builder().id(id).name("Product " + id).sku("SKU-" + id).stockQuantity(stock).build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionDTO;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.mappers.ProductMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.SupplierMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.TransactionMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.UserMapper;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionBatchRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+
+// Walks the transaction listings page by page through the cursors TransactionService hands out
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({TransactionService.class, StockService.class, StockHistoryService.class, HotStockLedger.class,
+        TransactionBatchRepository.class, TransactionMapper.class, ProductMapper.class, UserMapper.class, SupplierMapper.class})
+class KeysetPaginationTests {
+
+    private static final int PAGE_SIZE = 7;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @BeforeEach
+    void seed() {
+        Product product = entityManager.persist(Product.builder()
+                .name("Green tea")
+                .sku("SKU-KEYSET-1")
+                .price(BigDecimal.ONE)
+                .stockQuantity(100)
+                .build());
+
+        // Groups of three rows share a createdAt, so pages have to break ties on id
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        TransactionType[] types = TransactionType.values();
+        for (int i = 0; i < 60; i++) {
+            Transaction transaction = entityManager.persist(Transaction.builder()
+                    .totalProduct(1)
+                    .totalPrice(BigDecimal.ONE)
+                    .transactionType(types[i % types.length])
+                    .transactionStatus(TransactionStatus.COMPLETED)
+                    .product(product)
+                    .build());
+            entityManager.getEntityManager()
+                    .createNativeQuery("UPDATE transaction SET created_at = ?1 WHERE id = ?2")
+                    .setParameter(1, start.plusMinutes(i / 3))
+                    .setParameter(2, transaction.getId())
+                    .executeUpdate();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void cursorPagesMatchOffsetOrder() {
+        List<Long> expected = transactionRepository.findAll(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))
+                .stream().map(Transaction::getId).toList();
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = "";
+        do {
+            Response page = transactionService.getTransactionsAfter(cursor, PAGE_SIZE);
+            walked.addAll(ids(page));
+            cursor = page.getNextCursor();
+            assertThat(cursor != null).isEqualTo(page.getHasNext());
+        } while (cursor != null);
+
+        assertThat(walked).isEqualTo(expected);
+    }
+
+    @Test
+    void cursorPagesByTypeStayWithinTheType() {
+        List<Long> expected = transactionRepository.findByTransactionType(TransactionType.SALE,
+                        PageRequest.of(0, 100, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))))
+                .stream().map(Transaction::getId).toList();
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = "";
+        do {
+            Response page = transactionService.getTransactionsByTypeAfter(TransactionType.SALE, cursor, PAGE_SIZE);
+            walked.addAll(ids(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(walked).isEqualTo(expected);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> transactionService.getTransactionsAfter("not-a-cursor", PAGE_SIZE))
+                .isInstanceOf(NameValueRequiredException.class);
+    }
+
+    private static List<Long> ids(Response page) {
+        return page.getTransactions().stream().map(TransactionDTO::getId).toList();
+    }
+}
@@ -0,0 +1,271 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.config.LoginExecutorConfig;
+import com.YourInventory.InventoryManagementSystem.dtos.LoginRequest;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionRequest;
+import com.YourInventory.InventoryManagementSystem.enums.UserRole;
+import com.YourInventory.InventoryManagementSystem.exceptions.InavlidCredentialsException;
+import com.YourInventory.InventoryManagementSystem.exceptions.TooManyRequestsException;
+import com.YourInventory.InventoryManagementSystem.mappers.ProductMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.SupplierMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.TransactionMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.UserMapper;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.User;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.RefreshTokenRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionBatchRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.UserRepository;
+import com.YourInventory.InventoryManagementSystem.security.CustomUserDetailsService;
+import com.YourInventory.InventoryManagementSystem.security.LoginRateLimiter;
+import com.YourInventory.InventoryManagementSystem.security.TokenRevocationList;
+import com.YourInventory.InventoryManagementSystem.utils.JwtUtil;
+
+// Logins on the bounded pool, and (as a benchmark) sale latency while many clients fail to log in at
+// once. Rate limits are lifted here so that every attempt reaches BCrypt; what is exercised is the
+// bounded login pool alone.
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "jwt.secret=aW52ZW50b3J5TWFuYWdlbWVudFN5c3RlbVNlY3JldEtleTIwMjRGb3JKV1RUb2tlbkdlbmVyYXRpb24=",
+        "jwt.expiration=600000",
+        "auth.login.pool-size=1",
+        "auth.login.queue-capacity=4",
+        "auth.login.queue-timeout-ms=300",
+        "auth.rate-limit.account.capacity=1000000",
+        "auth.rate-limit.ip.capacity=1000000"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AuthService.class, LoginRateLimiter.class, LoginExecutorConfig.class, JwtUtil.class, CustomUserDetailsService.class,
+        LoginStormTests.Authentication.class, TransactionService.class, StockService.class, StockHistoryService.class,
+        HotStockLedger.class, TransactionBatchRepository.class, TransactionMapper.class, ProductMapper.class, UserMapper.class,
+        SupplierMapper.class, RefreshTokenService.class, TokenRevocationList.class})
+class LoginStormTests {
+
+    private static final String EMAIL = "cashier@example.com";
+
+    private static final int STORM_THREADS = 8;
+
+    private static final int SALES = 40;
+
+    @TestConfiguration
+    static class Authentication {
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder();
+        }
+
+        @Bean
+        AuthenticationManager authenticationManager(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+            provider.setUserDetailsService(userDetailsService);
+            provider.setPasswordEncoder(passwordEncoder);
+            return new ProviderManager(provider);
+        }
+    }
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void seed() {
+        userRepository.save(User.builder()
+                .name("Cashier")
+                .email(EMAIL)
+                .password(passwordEncoder.encode("secret"))
+                .phoneNumber("0000000000")
+                .role(UserRole.MANAGER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(EMAIL, null, List.of()));
+        productId = productRepository.save(Product.builder()
+                .name("Green tea")
+                .sku("SKU-STORM-1")
+                .price(BigDecimal.ONE)
+                .stockQuantity(100_000)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        transactionRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void saleLatencyStaysFlatWhileLoginsAreBounded() throws Exception {
+        sell(SALES);
+        double quiet = p95Millis(sell(SALES));
+
+        // Before: every login hashed on its own request thread
+        double unbounded = duringStorm(() -> authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(EMAIL, "wrong-password")));
+
+        // After: logins go through the one-thread login pool and give up when it is busy
+        AtomicInteger client = new AtomicInteger();
+        double bounded = duringStorm(() -> authService.login(
+                new LoginRequest(EMAIL, "wrong-password"), "10.0.0." + client.incrementAndGet() % 250));
+
+        System.out.printf("Sale p95 with %d clients logging in: quiet %.1f ms, unbounded %.1f ms, bounded %.1f ms%n",
+                STORM_THREADS, quiet, unbounded, bounded);
+        assertThat(bounded).isLessThan(unbounded / 2);
+        assertThat(bounded).isLessThan(quiet * 3);
+    }
+
+    @Test
+    void loginSucceedsAndIsRefusedWhenThePoolIsSaturated() throws Exception {
+        assertThat(authService.login(new LoginRequest(EMAIL, "secret"), "10.0.0.1").getToken()).isNotBlank();
+
+        AtomicInteger refused = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(12);
+        List<Future<?>> attempts = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            attempts.add(clients.submit(() -> {
+                try {
+                    authService.login(new LoginRequest(EMAIL, "wrong-password"), "10.0.0.2");
+                } catch (TooManyRequestsException e) {
+                    refused.incrementAndGet();
+                } catch (InavlidCredentialsException e) {
+                    rejected.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> attempt : attempts) {
+            attempt.get();
+        }
+        clients.shutdown();
+
+        assertThat(refused.get()).isPositive();
+        assertThat(rejected.get()).isPositive();
+        assertThat(refused.get() + rejected.get()).isEqualTo(12);
+    }
+
+    @Test
+    void queueTimeoutDoesNotCutShortACheckAlreadyRunning() throws Exception {
+        // Far shorter than one BCrypt check, but the pool is idle so the check starts at once
+        ReflectionTestUtils.setField(authService, "queueTimeoutMs", 1L);
+        try {
+            assertThat(authService.login(new LoginRequest(EMAIL, "secret"), "10.0.0.1").getToken()).isNotBlank();
+            assertThatThrownBy(() -> authService.login(new LoginRequest(EMAIL, "wrong-password"), "10.0.0.1"))
+                    .isInstanceOf(InavlidCredentialsException.class);
+        } finally {
+            ReflectionTestUtils.setField(authService, "queueTimeoutMs", 300L);
+        }
+    }
+
+    private double duringStorm(Runnable login) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService storm = Executors.newFixedThreadPool(STORM_THREADS);
+        for (int i = 0; i < STORM_THREADS; i++) {
+            storm.submit(() -> {
+                while (running.get()) {
+                    try {
+                        login.run();
+                    } catch (TooManyRequestsException e) {
+                        // A refused client backs off before retrying, as it would on a 429
+                        pause(100);
+                    } catch (RuntimeException e) {
+                        // Wrong password: the client tries again straight away
+                    }
+                }
+            });
+        }
+        try {
+            Thread.sleep(200);
+            return p95Millis(sell(SALES));
+        } finally {
+            running.set(false);
+            storm.shutdown();
+            storm.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long[] sell(int count) {
+        long[] nanos = new long[count];
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            transactionService.sellProduct(new TransactionRequest(productId, 1, null, null, null));
+            nanos[i] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    private static double p95Millis(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sorted.length * 0.95) - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,283 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.YourInventory.InventoryManagementSystem.events.ProductChangedEvent;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductListItem;
+
+class ProductSearchIndexTests {
+
+    // Run the benchmark with -Pbenchmark, at another size with -Dproduct.search.benchmark.products=100000
+    private static final int BENCHMARK_PRODUCTS = Integer.getInteger("product.search.benchmark.products", 1_000_000);
+
+    private static final int BENCHMARK_QUERIES = 300;
+
+    private static final String[] ADJECTIVES = {"green", "organic", "fresh", "smoked", "roasted", "spicy", "sweet",
+            "frozen", "dried", "premium", "classic", "wild", "salted", "golden", "dark", "light", "crispy", "whole",
+            "ground", "raw"};
+
+    private static final String[] NOUNS = {"tea", "coffee", "rice", "pasta", "beans", "almonds", "salmon", "honey",
+            "butter", "cheese", "flour", "sugar", "pepper", "olives", "tomatoes", "lentils", "oats", "chocolate",
+            "cashews", "yogurt", "noodles", "cocoa", "ginger", "garlic", "paprika"};
+
+    private final ProductSearchIndex index = new ProductSearchIndex();
+
+    @Test
+    void matchesWholeTokensAndPrefixesAcrossFields() {
+        save(1, "Green Tea", "SKU-TEA-01", "Loose leaf from the hills");
+        save(2, "Earl Grey", "SKU-TEA-02", "Black tea with bergamot");
+        save(3, "Greek Yogurt", "SKU-DAIRY-07", null);
+        save(4, "Roasted Coffee", "SKU-COF-01", "Dark roast, whole beans");
+
+        assertThat(ids("tea")).containsExactly(1L, 2L);
+        assertThat(ids("gre")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ids("ROAST")).containsExactly(4L);
+        assertThat(ids("dairy")).containsExactly(3L);
+        assertThat(ids("bergamot black")).containsExactly(2L);
+        assertThat(ids("  ")).isEmpty();
+    }
+
+    @Test
+    void everyQueryTermMustMatch() {
+        save(1, "Green Tea", "SKU-1", null);
+        save(2, "Green Beans", "SKU-2", null);
+
+        assertThat(ids("green tea")).containsExactly(1L);
+        assertThat(ids("green coffee")).isEmpty();
+    }
+
+    @Test
+    void oneLetterTermsMatchWholeTokensOnly() {
+        save(1, "Vitamin C tablets", "SKU-1", null);
+        save(2, "Chocolate chips", "SKU-2", null);
+
+        assertThat(ids("c")).containsExactly(1L);
+        assertThat(ids("ch")).containsExactly(2L);
+    }
+
+    @Test
+    void ranksNameOverDescriptionAndWholeTokensOverPrefixes() {
+        save(1, "Herbal infusion", "SKU-1", "Caffeine free tea");
+        save(2, "Teapot", "SKU-2", null);
+        save(3, "Jasmine Tea", "SKU-3", null);
+
+        assertThat(ids("tea")).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void exactSkuRanksFirst() {
+        save(1, "Sku 100 labels", "SKU-LABEL", "Printable sku 100 stickers");
+        save(2, "Rice", "SKU-100", null);
+        save(3, "Pasta", "X-1-A", null);
+
+        assertThat(ids("sku-100")).first().isEqualTo(2L);
+        assertThat(ids("SKU 100")).first().isEqualTo(1L);
+        // One-letter parts are matched as whole tokens
+        assertThat(ids("x-1-a")).containsExactly(3L);
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() {
+        save(1, "Green Tea", "SKU-1", null);
+        save(2, "Green Beans", "SKU-2", null);
+
+        save(1, "Black Coffee", "SKU-1B", null);
+        assertThat(ids("tea")).isEmpty();
+        assertThat(ids("coffee")).containsExactly(1L);
+        assertThat(ids("sku-1")).isEmpty();
+        assertThat(ids("sku-1b")).containsExactly(1L);
+
+        index.onProductChanged(ProductChangedEvent.deleted(2L));
+        assertThat(ids("green")).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+
+        // The freed slot is reused
+        save(3, "Green Apples", "SKU-3", null);
+        assertThat(ids("green")).containsExactly(3L);
+        assertThat(ids("coffee")).containsExactly(1L);
+    }
+
+    @Test
+    void limitKeepsTheBestHits() {
+        for (long id = 1; id <= 50; id++) {
+            save(id, id % 10 == 0 ? "Tea " + id : "Teapot " + id, "SKU-" + id, null);
+        }
+
+        List<ProductSearchIndex.Hit> hits = index.search("tea", 5);
+        assertThat(hits).extracting(ProductSearchIndex.Hit::productId).containsExactly(10L, 20L, 30L, 40L, 50L);
+    }
+
+    @Test
+    void updatesAndDeletesKeepEveryPostingFindable() {
+        // Enough products for "common" to be scored in the per-slot arrays, and few for "rare"
+        TreeSet<Long> common = new TreeSet<>();
+        TreeSet<Long> rare = new TreeSet<>();
+        for (long id = 1; id <= 3 * ProductSearchIndex.SPARSE_CANDIDATES; id++) {
+            save(id, "Common item", "SKU-" + id, id % 7 == 0 ? "rare" : null);
+            common.add(id);
+            if (id % 7 == 0) {
+                rare.add(id);
+            }
+        }
+        // Removing entries moves others within the postings; each must still be found and removable
+        for (long id = 1; id <= 3 * ProductSearchIndex.SPARSE_CANDIDATES; id++) {
+            if (id % 3 == 0) {
+                index.onProductChanged(ProductChangedEvent.deleted(id));
+                common.remove(id);
+                rare.remove(id);
+            } else if (id % 5 == 0) {
+                save(id, "Renamed item", "SKU-" + id, id % 7 == 0 ? "rare" : null);
+                common.remove(id);
+            }
+        }
+        for (long id = 2; id <= 3 * ProductSearchIndex.SPARSE_CANDIDATES; id += 10) {
+            index.onProductChanged(ProductChangedEvent.deleted(id));
+            common.remove(id);
+            rare.remove(id);
+        }
+
+        assertThat(allIds("common")).containsExactlyInAnyOrderElementsOf(common);
+        assertThat(allIds("item rare")).containsExactlyInAnyOrderElementsOf(rare);
+        assertThat(allIds("common rare")).containsExactlyInAnyOrderElementsOf(
+                rare.stream().filter(common::contains).toList());
+        assertThat(allIds("renamed")).allMatch(id -> id % 5 == 0 && id % 3 != 0);
+    }
+
+    @Test
+    void sparseAndDenseScoringRankAlike() {
+        for (long id = 1; id <= 2 * ProductSearchIndex.SPARSE_CANDIDATES; id++) {
+            save(id, id % 2 == 0 ? "Tea" : "Teapot", "SKU-" + id, id <= 10 ? "gift tea" : null);
+        }
+
+        // "gift" is rare, so these candidates are scored in a map; "tea" alone uses the arrays
+        List<ProductSearchIndex.Hit> sparse = index.search("gift tea", 10);
+        List<ProductSearchIndex.Hit> dense = index.search("tea", 1000).stream()
+                .filter(hit -> hit.productId() <= 10)
+                .map(hit -> new ProductSearchIndex.Hit(hit.productId(), hit.score() + 2))
+                .toList();
+        assertThat(sparse).containsExactlyElementsOf(dense);
+        // Reused arrays start from zero on the next query
+        assertThat(index.search("tea", 1000)).isEqualTo(index.search("tea", 1000));
+    }
+
+    @Test
+    void rebuildKeepsChangesMadeWhileTheCatalogIsRead() {
+        ProductRepository productRepository = mock(ProductRepository.class);
+        ReflectionTestUtils.setField(index, "productRepository", productRepository);
+        when(productRepository.findListItems(any(Pageable.class))).thenAnswer(invocation -> {
+            // Committed after the read began, so the rows below predate them
+            save(2, "Black Coffee", "SKU-2", null);
+            index.onProductChanged(ProductChangedEvent.deleted(3L));
+            save(4, "Green Apples", "SKU-4", null);
+            return new PageImpl<>(LongStream.rangeClosed(1, 3)
+                    .mapToObj(id -> listItem(id, "Green Tea " + id))
+                    .toList());
+        });
+
+        index.rebuild();
+
+        assertThat(ids("green")).containsExactly(1L, 4L);
+        assertThat(ids("coffee")).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(3);
+
+        // Once the rebuild is done, changes are no longer held for replay
+        save(1, "Oolong", "SKU-1", null);
+        assertThat(ids("oolong")).containsExactly(1L);
+    }
+
+    // Queries over a large catalog must stay in the low milliseconds: only the rarest term's
+    // postings are scored, whatever the catalog size
+    @Test
+    @Tag("benchmark")
+    void answersQueriesOverALargeCatalogInMilliseconds() {
+        Random random = new Random(42);
+        String[] words = new String[5_000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = word(random);
+        }
+
+        long buildStart = System.nanoTime();
+        for (long id = 1; id <= BENCHMARK_PRODUCTS; id++) {
+            String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                    + NOUNS[random.nextInt(NOUNS.length)] + " " + words[random.nextInt(words.length)];
+            StringBuilder description = new StringBuilder();
+            for (int w = 0; w < 6; w++) {
+                description.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            save(id, name, String.format("SKU-%07d", id), description.toString());
+        }
+        long buildMs = (System.nanoTime() - buildStart) / 1_000_000;
+
+        String[] queries = {"green tea", "organic cof", "spicy", "sal", String.format("SKU-%07d", BENCHMARK_PRODUCTS / 2),
+                words[7] + " " + NOUNS[3], "premium choc " + words[11].substring(0, 3)};
+        for (int i = 0; i < BENCHMARK_QUERIES; i++) {
+            index.search(queries[i % queries.length], 20);
+        }
+
+        long[] totalNanos = new long[queries.length];
+        for (int i = 0; i < BENCHMARK_QUERIES; i++) {
+            long start = System.nanoTime();
+            List<ProductSearchIndex.Hit> hits = index.search(queries[i % queries.length], 20);
+            long elapsed = System.nanoTime() - start;
+            totalNanos[i % queries.length] += elapsed;
+            assertThat(hits).isNotEmpty();
+        }
+
+        System.out.printf("Search index: %d products indexed in %d ms%n", BENCHMARK_PRODUCTS, buildMs);
+        long runs = BENCHMARK_QUERIES / queries.length;
+        for (int q = 0; q < queries.length; q++) {
+            System.out.printf("  %-24s %.2f ms%n", "'" + queries[q] + "'", totalNanos[q] / runs / 1e6);
+        }
+
+        assertThat(index.search(queries[4], 20)).first()
+                .extracting(ProductSearchIndex.Hit::productId).isEqualTo((long) BENCHMARK_PRODUCTS / 2);
+        for (long nanos : totalNanos) {
+            assertThat(nanos / runs).isLessThan(20_000_000L);
+        }
+    }
+
+    private void save(long id, String name, String sku, String description) {
+        index.onProductChanged(new ProductChangedEvent(id, name, sku, description, 10, null, false));
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query, ProductSearchIndex.MAX_RESULTS).stream()
+                .map(ProductSearchIndex.Hit::productId)
+                .toList();
+    }
+
+    private List<Long> allIds(String query) {
+        return index.search(query, Integer.MAX_VALUE).stream()
+                .map(ProductSearchIndex.Hit::productId)
+                .toList();
+    }
+
+    private static ProductListItem listItem(long id, String name) {
+        return new ProductListItem(id, null, name, "SKU-" + id, null, 10, null, null, false, false, null, null, null,
+                null);
+    }
+
+    private static String word(Random random) {
+        char[] letters = new char[5 + random.nextInt(4)];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+}
@@ -0,0 +1,118 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.dtos.ProductDTO;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.mappers.ProductMapper;
+import com.YourInventory.InventoryManagementSystem.model.Category;
+import com.YourInventory.InventoryManagementSystem.repositories.CategoryRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.StockMovementRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.StockSnapshotRepository;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ProductService.class, ProductSearchIndex.class, ProductMapper.class,
+        StockService.class, StockHistoryService.class, HotStockLedger.class})
+class ProductSearchTests {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private StockSnapshotRepository stockSnapshotRepository;
+
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        categoryId = categoryRepository.save(Category.builder().name("Pantry").build()).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        stockMovementRepository.deleteAllInBatch();
+        stockSnapshotRepository.deleteAllInBatch();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        productSearchIndex.rebuild();
+    }
+
+    @Test
+    void searchFollowsCreateUpdateAndDelete() {
+        Long teaId = create("Green Tea", "sku-tea-1", "Loose leaf");
+        Long potId = create("Teapot", "SKU-POT-1", "Cast iron, for green tea");
+
+        assertThat(productService.searchProducts("tea", 20).getProducts())
+                .extracting(ProductDTO::getId).containsExactly(teaId, potId);
+        assertThat(productService.searchProducts("SKU-POT-1", 20).getProducts())
+                .first().extracting(ProductDTO::getName).isEqualTo("Teapot");
+
+        ProductDTO update = productDTO("Black Coffee", "SKU-COFFEE-1", null);
+        productService.updateProduct(teaId, update);
+        assertThat(productService.searchProducts("tea", 20).getProducts())
+                .extracting(ProductDTO::getId).containsExactly(potId);
+        assertThat(productService.searchProducts("coff", 20).getProducts())
+                .extracting(ProductDTO::getId).containsExactly(teaId);
+
+        productService.deleteProduct(potId);
+        assertThat(productService.searchProducts("tea", 20).getProducts()).isEmpty();
+    }
+
+    @Test
+    void rebuildIndexesExistingProducts() {
+        Long id = create("Basmati Rice", "SKU-RICE-1", null);
+
+        productSearchIndex.rebuild();
+
+        assertThat(productSearchIndex.size()).isEqualTo(1);
+        assertThat(productService.searchProducts("basm", 20).getProducts())
+                .extracting(ProductDTO::getId).containsExactly(id);
+    }
+
+    @Test
+    void blankQueryIsRejected() {
+        assertThatThrownBy(() -> productService.searchProducts(" ", 20))
+                .isInstanceOf(NameValueRequiredException.class);
+    }
+
+    private Long create(String name, String sku, String description) {
+        return productService.createProduct(productDTO(name, sku, description)).getProduct().getId();
+    }
+
+    private ProductDTO productDTO(String name, String sku, String description) {
+        ProductDTO dto = new ProductDTO();
+        dto.setName(name);
+        dto.setSku(sku);
+        dto.setDescription(description);
+        dto.setPrice(BigDecimal.TEN);
+        dto.setStockQuantity(5);
+        dto.setCategoryId(categoryId);
+        return dto;
+    }
+}
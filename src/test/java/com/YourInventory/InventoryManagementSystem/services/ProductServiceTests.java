@@ -0,0 +1,167 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.YourInventory.InventoryManagementSystem.dtos.ProductDTO;
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.mappers.ProductMapper;
+import com.YourInventory.InventoryManagementSystem.model.Category;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.repositories.CategoryRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.StockMovementRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.StockSnapshotRepository;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ProductService.class, ProductSearchIndex.class, ProductMapper.class,
+        StockService.class, StockHistoryService.class, HotStockLedger.class})
+class ProductServiceTests {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private StockSnapshotRepository stockSnapshotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        categoryId = categoryRepository.save(Category.builder().name("Pantry").build()).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        stockMovementRepository.deleteAllInBatch();
+        stockSnapshotRepository.deleteAllInBatch();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void editKeepsSalesMadeWhileTheFormWasOpen() {
+        Long productId = create("Olive oil", 50);
+        ProductDTO form = productDTO("Olive oil", 50);
+        form.setLoadedStockQuantity(50);
+
+        sell(productId, 5);
+
+        // Only the name changed: the sale must survive the save
+        form.setName("Extra virgin olive oil");
+        productService.updateProduct(productId, form);
+        assertThat(stock(productId)).isEqualTo(45);
+
+        // The user adds 10 to the 50 they saw: 10 is added to what is there now
+        sell(productId, 3);
+        form.setStockQuantity(60);
+        assertThat(productService.updateProduct(productId, form).getProduct().getStockQuantity()).isEqualTo(52);
+        assertThat(stock(productId)).isEqualTo(52);
+    }
+
+    @Test
+    void editWithoutTheLoadedStockSetsOnlyAChangedValue() {
+        Long productId = create("Flour", 20);
+        long movements = stockMovementRepository.count();
+
+        productService.updateProduct(productId, productDTO("Bread flour", 20));
+        assertThat(stockMovementRepository.count()).isEqualTo(movements);
+
+        productService.updateProduct(productId, productDTO("Bread flour", 12));
+        assertThat(stock(productId)).isEqualTo(12);
+        assertThat(stockMovementRepository.count()).isEqualTo(movements + 1);
+    }
+
+    @Test
+    void productPagesFollowTheirCursorsToTheEnd() {
+        // Groups of three products share a createdAt, so pages have to break ties on id
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < 20; i++) {
+            Long productId = productRepository.save(Product.builder()
+                    .name("Product " + i)
+                    .sku("SKU-PAGE-" + i)
+                    .price(BigDecimal.ONE)
+                    .stockQuantity(1)
+                    .build()).getId();
+            jdbcTemplate.update("UPDATE products SET created_at = ? WHERE id = ?", start.plusMinutes(i / 3), productId);
+        }
+        List<Long> expected = productRepository.findAll(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))
+                .stream().map(Product::getId).toList();
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = "";
+        do {
+            Response page = productService.getProductsAfter(cursor, 7);
+            page.getProducts().forEach(product -> walked.add(product.getId()));
+            cursor = page.getNextCursor();
+            assertThat(cursor != null).isEqualTo(page.getHasNext());
+        } while (cursor != null);
+
+        assertThat(walked).isEqualTo(expected);
+        assertThatThrownBy(() -> productService.getProductsAfter("not-a-cursor", 7))
+                .isInstanceOf(NameValueRequiredException.class);
+    }
+
+    private void sell(Long productId, int quantity) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> stockService.decrement(productId, quantity));
+    }
+
+    private int stock(Long productId) {
+        return productRepository.findStockQuantityById(productId).orElseThrow();
+    }
+
+    private Long create(String name, int stock) {
+        return productService.createProduct(productDTO(name, stock)).getProduct().getId();
+    }
+
+    private ProductDTO productDTO(String name, int stock) {
+        ProductDTO dto = new ProductDTO();
+        dto.setName(name);
+        dto.setSku("SKU-EDIT");
+        dto.setPrice(BigDecimal.TEN);
+        dto.setStockQuantity(stock);
+        dto.setCategoryId(categoryId);
+        return dto;
+    }
+}
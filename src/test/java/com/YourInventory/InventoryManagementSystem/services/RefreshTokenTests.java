@@ -0,0 +1,201 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.config.LoginExecutorConfig;
+import com.YourInventory.InventoryManagementSystem.dtos.LoginRequest;
+import com.YourInventory.InventoryManagementSystem.dtos.RefreshRequest;
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.dtos.UserDTO;
+import com.YourInventory.InventoryManagementSystem.enums.UserRole;
+import com.YourInventory.InventoryManagementSystem.exceptions.InavlidCredentialsException;
+import com.YourInventory.InventoryManagementSystem.mappers.UserMapper;
+import com.YourInventory.InventoryManagementSystem.model.User;
+import com.YourInventory.InventoryManagementSystem.repositories.RefreshTokenRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.UserRepository;
+import com.YourInventory.InventoryManagementSystem.security.AuthenticatedPrincipalCache;
+import com.YourInventory.InventoryManagementSystem.security.CustomUserDetailsService;
+import com.YourInventory.InventoryManagementSystem.security.JwtAuthenticationFilter;
+import com.YourInventory.InventoryManagementSystem.security.LoginRateLimiter;
+import com.YourInventory.InventoryManagementSystem.security.TokenRevocationList;
+import com.YourInventory.InventoryManagementSystem.utils.JwtUtil;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "jwt.secret=aW52ZW50b3J5TWFuYWdlbWVudFN5c3RlbVNlY3JldEtleTIwMjRGb3JKV1RUb2tlbkdlbmVyYXRpb24=",
+        "jwt.expiration=600000"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AuthService.class, UserService.class, RefreshTokenService.class, TokenRevocationList.class, LoginRateLimiter.class,
+        LoginExecutorConfig.class, JwtUtil.class, JwtAuthenticationFilter.class, AuthenticatedPrincipalCache.class,
+        CustomUserDetailsService.class, UserMapper.class, RefreshTokenTests.Authentication.class})
+class RefreshTokenTests {
+
+    private static final String EMAIL = "clerk@example.com";
+
+    @TestConfiguration
+    static class Authentication {
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+
+        @Bean
+        AuthenticationManager authenticationManager(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+            provider.setUserDetailsService(userDetailsService);
+            provider.setPasswordEncoder(passwordEncoder);
+            return new ProviderManager(provider);
+        }
+    }
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void seed() {
+        userRepository.save(User.builder()
+                .name("Clerk")
+                .email(EMAIL)
+                .password(passwordEncoder.encode("secret"))
+                .phoneNumber("0000000000")
+                .role(UserRole.MANAGER)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void refreshTokenIsRotatedOnUse() throws Exception {
+        Response login = authService.login(new LoginRequest(EMAIL, "secret"), "10.0.0.1");
+        assertThat(login.getRefreshToken()).isNotBlank();
+
+        Response refreshed = authService.refresh(new RefreshRequest(login.getRefreshToken()));
+
+        assertThat(authenticates(refreshed.getToken())).isTrue();
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(login.getRefreshToken())))
+                .isInstanceOf(InavlidCredentialsException.class);
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void logoutRevokesTheAccessAndRefreshTokens() throws Exception {
+        Response login = authService.login(new LoginRequest(EMAIL, "secret"), "10.0.0.1");
+        Response other = authService.login(new LoginRequest(EMAIL, "secret"), "10.0.0.2");
+        assertThat(authenticates(login.getToken())).isTrue();
+
+        authService.logout(new RefreshRequest(login.getRefreshToken()), login.getToken());
+
+        assertThat(authenticates(login.getToken())).isFalse();
+        assertThat(authenticates(other.getToken())).isTrue();
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(login.getRefreshToken())))
+                .isInstanceOf(InavlidCredentialsException.class);
+    }
+
+    @Test
+    void deletingTheUserRevokesEverythingItWasIssued() throws Exception {
+        // Its own account: a subject revocation outlives the test in the shared context
+        User leaver = userRepository.save(User.builder()
+                .name("Leaver")
+                .email("leaver@example.com")
+                .password(passwordEncoder.encode("secret"))
+                .phoneNumber("0000000001")
+                .role(UserRole.MANAGER)
+                .build());
+        Response login = authService.login(new LoginRequest(leaver.getEmail(), "secret"), "10.0.0.1");
+        assertThat(authenticates(login.getToken())).isTrue();
+
+        userService.deleteUser(leaver.getId());
+
+        assertThat(authenticates(login.getToken())).isFalse();
+        assertThat(refreshTokenRepository.count()).isZero();
+        assertThatThrownBy(() -> authService.refresh(new RefreshRequest(login.getRefreshToken())))
+                .isInstanceOf(InavlidCredentialsException.class);
+    }
+
+    @Test
+    void demotingAUserRevokesTokensThatCarryTheOldRole() throws Exception {
+        User admin = userRepository.save(User.builder()
+                .name("Former admin")
+                .email("demoted@example.com")
+                .password(passwordEncoder.encode("secret"))
+                .phoneNumber("0000000002")
+                .role(UserRole.ADMIN)
+                .build());
+        Response login = authService.login(new LoginRequest(admin.getEmail(), "secret"), "10.0.0.1");
+        // Claims-only mode trusts the role in the token, so only revocation can take it away
+        ReflectionTestUtils.setField(jwtAuthenticationFilter, "claimsOnly", true);
+        try {
+            UserDTO rename = new UserDTO();
+            rename.setName("Still admin");
+            rename.setRole(UserRole.ADMIN);
+            userService.updateUser(admin.getId(), rename);
+            assertThat(authenticates(login.getToken())).isTrue();
+
+            UserDTO demotion = new UserDTO();
+            demotion.setRole(UserRole.MANAGER);
+            userService.updateUser(admin.getId(), demotion);
+
+            assertThat(authenticates(login.getToken())).isFalse();
+            assertThatThrownBy(() -> authService.refresh(new RefreshRequest(login.getRefreshToken())))
+                    .isInstanceOf(InavlidCredentialsException.class);
+        } finally {
+            ReflectionTestUtils.setField(jwtAuthenticationFilter, "claimsOnly", false);
+        }
+    }
+
+    private boolean authenticates(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/all");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication() != null;
+    }
+}
@@ -0,0 +1,122 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.YourInventory.InventoryManagementSystem.events.StockChangedEvent;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "inventory.reorder.default-point=10"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ReorderEvaluator.class)
+class ReorderEvaluatorTests {
+
+    @Autowired
+    private ReorderEvaluator reorderEvaluator;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger skus = new AtomicInteger();
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void stockChangesMoveAProductThroughTheTiers() throws Exception {
+        Long productId = createProduct(20, 8, 3, false, false);
+
+        changeStock(productId, 20, 8);
+        awaitFlags(productId, true, false);
+
+        changeStock(productId, 8, 3);
+        awaitFlags(productId, true, true);
+
+        changeStock(productId, 3, 50);
+        awaitFlags(productId, false, false);
+    }
+
+    @Test
+    void withoutASafetyStockNothingIsUrgent() throws Exception {
+        Long productId = createProduct(20, null, null, false, false);
+
+        changeStock(productId, 20, 0);
+        awaitFlags(productId, true, false);
+    }
+
+    @Test
+    void startupCorrectsFlagsWhoseEvaluationWasLost() {
+        // Stock changed but the queued evaluation died with the process
+        Long dropped = createProduct(2, 8, 3, false, false);
+        Long recovered = createProduct(40, 8, 3, true, true);
+        // Predates the flags
+        Long unevaluated = createProduct(5, null, null, null, null);
+        Long correct = createProduct(6, 8, 3, true, false);
+
+        reorderEvaluator.reconcile();
+
+        assertFlags(dropped, true, true);
+        assertFlags(recovered, false, false);
+        assertFlags(unevaluated, true, false);
+        assertFlags(correct, true, false);
+        assertThat(productRepository.reconcileReorderFlags(10)).isZero();
+    }
+
+    private void changeStock(Long productId, int previous, int stock) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> productRepository.setStock(productId, stock));
+        reorderEvaluator.onStockChanged(new StockChangedEvent(productId, previous, stock));
+    }
+
+    private void awaitFlags(Long productId, boolean needsReorder, boolean urgent) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        Product product = productRepository.findById(productId).orElseThrow();
+        while (!(Boolean.valueOf(needsReorder).equals(product.getNeedsReorder())
+                && Boolean.valueOf(urgent).equals(product.getReorderUrgent())) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            product = productRepository.findById(productId).orElseThrow();
+        }
+        assertFlags(productId, needsReorder, urgent);
+    }
+
+    private void assertFlags(Long productId, boolean needsReorder, boolean urgent) {
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getNeedsReorder()).isEqualTo(needsReorder);
+        assertThat(product.getReorderUrgent()).isEqualTo(urgent);
+    }
+
+    private Long createProduct(int stock, Integer reorderPoint, Integer safetyStock, Boolean needsReorder, Boolean urgent) {
+        return productRepository.save(Product.builder()
+                .name("Reordered product")
+                .sku("SKU-REORDER-" + skus.incrementAndGet())
+                .price(BigDecimal.TEN)
+                .stockQuantity(stock)
+                .reorderPoint(reorderPoint)
+                .safetyStock(safetyStock)
+                .needsReorder(needsReorder)
+                .reorderUrgent(urgent)
+                .build()).getId();
+    }
+}
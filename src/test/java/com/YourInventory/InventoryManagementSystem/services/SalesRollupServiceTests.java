@@ -0,0 +1,183 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.events.ProductChangedEvent;
+import com.YourInventory.InventoryManagementSystem.events.TransactionRecordedEvent;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.SalesRollup;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+import com.YourInventory.InventoryManagementSystem.repositories.SalesRollupRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.projections.ProductSalesSummary;
+
+// The upsert is MySQL syntax, so this runs on H2 in MySQL mode rather than the default embedded database
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rollups;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SalesRollupService.class)
+class SalesRollupServiceTests {
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private SalesRollupRepository salesRollupRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Product tea;
+
+    private Product coffee;
+
+    private Product rice;
+
+    @BeforeEach
+    void seed() {
+        tea = product("Tea", "SKU-TEA");
+        coffee = product("Coffee", "SKU-COFFEE");
+        rice = product("Rice", "SKU-RICE");
+    }
+
+    @Test
+    void recordedTransactionsMatchARebuildFromTheTransactionTable() {
+        LocalDateTime now = LocalDateTime.now();
+        record(TransactionType.SALE, tea, 3, "4.50", now);
+        record(TransactionType.SALE, tea, 2, "3.00", now.minusHours(1));
+        record(TransactionType.SALE, coffee, 1, "7.00", now.minusDays(40));
+        record(TransactionType.PURCHASE, tea, 10, "9.00", now.minusDays(40));
+        record(TransactionType.SALE, rice, 4, "8.00", now.minusDays(400));
+
+        List<String> incremental = rollupRows();
+        assertThat(incremental).contains(
+                "DAY SALE " + now.toLocalDate() + " " + tea.getId() + " 5 7.50 2",
+                "MONTH SALE " + now.toLocalDate().withDayOfMonth(1) + " " + tea.getId() + " 5 7.50 2",
+                "TOTAL SALE " + SalesRollupService.ALL_TIME + " " + tea.getId() + " 5 7.50 2");
+
+        salesRollupService.backfill();
+        entityManager.clear();
+
+        assertThat(rollupRows()).containsExactlyInAnyOrderElementsOf(incremental);
+    }
+
+    @Test
+    void deletingAProductDropsItsRollupsLikeARebuildWould() {
+        LocalDateTime now = LocalDateTime.now();
+        record(TransactionType.SALE, tea, 3, "4.50", now);
+        record(TransactionType.PURCHASE, tea, 10, "9.00", now.minusDays(40));
+        record(TransactionType.SALE, coffee, 1, "7.00", now.minusDays(40));
+
+        // A product can only be deleted once its transactions are
+        entityManager.getEntityManager()
+                .createNativeQuery("DELETE FROM transaction WHERE product_id = ?1")
+                .setParameter(1, tea.getId())
+                .executeUpdate();
+        entityManager.clear();
+        entityManager.remove(entityManager.find(Product.class, tea.getId()));
+        salesRollupService.onProductChanged(ProductChangedEvent.deleted(tea.getId()));
+
+        List<String> incremental = rollupRows();
+        assertThat(salesRollupRepository.findAll()).hasSize(3).extracting(SalesRollup::getProductId).containsOnly(coffee.getId());
+
+        salesRollupService.backfill();
+        entityManager.clear();
+
+        assertThat(rollupRows()).containsExactlyInAnyOrderElementsOf(incremental);
+    }
+
+    @Test
+    void monthlyTrendCountsTheWholeCutoffDay() {
+        LocalDateTime since = LocalDateTime.now().minusMonths(6).withHour(12);
+        record(TransactionType.SALE, tea, 1, "1.00", since.minusDays(1));
+        // Before and after the cutoff instant on its day: the day is counted in full
+        record(TransactionType.SALE, tea, 1, "2.00", since.minusHours(2));
+        record(TransactionType.SALE, tea, 1, "4.00", since.plusHours(2));
+        record(TransactionType.SALE, coffee, 1, "8.00", since.plusMonths(1));
+        record(TransactionType.PURCHASE, coffee, 1, "16.00", since.plusMonths(1));
+
+        Map<String, BigDecimal> trend = salesRollupService.getMonthlyTrend(TransactionType.SALE, since);
+
+        String cutoffMonth = String.format("%d-%02d", since.getYear(), since.getMonthValue());
+        LocalDate nextMonth = since.toLocalDate().plusMonths(1);
+        assertThat(trend.get(cutoffMonth)).isEqualByComparingTo("6.00");
+        assertThat(trend.get(String.format("%d-%02d", nextMonth.getYear(), nextMonth.getMonthValue())))
+                .isEqualByComparingTo("8.00");
+        assertThat(trend).hasSize(2);
+    }
+
+    @Test
+    void topProductsRankAllTimeQuantities() {
+        LocalDateTime now = LocalDateTime.now();
+        record(TransactionType.SALE, tea, 3, "3.00", now.minusDays(90));
+        record(TransactionType.SALE, tea, 3, "3.00", now);
+        record(TransactionType.SALE, coffee, 5, "5.00", now.minusDays(400));
+        record(TransactionType.SALE, rice, 2, "2.00", now);
+        record(TransactionType.PURCHASE, rice, 50, "50.00", now);
+
+        List<ProductSalesSummary> top = salesRollupService.getTopProducts(TransactionType.SALE, 2);
+
+        assertThat(top).extracting(ProductSalesSummary::getProductName).containsExactly("Tea", "Coffee");
+        assertThat(top).extracting(ProductSalesSummary::getQuantitySold).containsExactly(6L, 5L);
+    }
+
+    // Writes the transaction row and publishes its event the way TransactionService does
+    private void record(TransactionType type, Product product, int quantity, String price, LocalDateTime createdAt) {
+        Transaction transaction = entityManager.persist(Transaction.builder()
+                .totalProduct(quantity)
+                .totalPrice(new BigDecimal(price))
+                .transactionType(type)
+                .transactionStatus(TransactionStatus.COMPLETED)
+                .product(product)
+                .build());
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE transaction SET created_at = ?1 WHERE id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, transaction.getId())
+                .executeUpdate();
+        salesRollupService.onTransactionRecorded(new TransactionRecordedEvent(transaction.getId(), type, product.getId(),
+                quantity, new BigDecimal(price), createdAt));
+    }
+
+    private List<String> rollupRows() {
+        return salesRollupRepository.findAll().stream()
+                .map(SalesRollupServiceTests::describe)
+                .toList();
+    }
+
+    private static String describe(SalesRollup rollup) {
+        return rollup.getGranularity() + " " + rollup.getTransactionType() + " " + rollup.getBucketStart() + " "
+                + rollup.getProductId() + " " + rollup.getQuantity() + " " + rollup.getRevenue().setScale(2) + " "
+                + rollup.getTransactionCount();
+    }
+
+    private Product product(String name, String sku) {
+        return entityManager.persist(Product.builder()
+                .name(name)
+                .sku(sku)
+                .price(BigDecimal.ONE)
+                .stockQuantity(100)
+                .build());
+    }
+}
@@ -0,0 +1,197 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.StockMovementRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.StockSnapshotRepository;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "inventory.stock-history.settle-ms=0"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StockHistoryService.class, StockService.class, HotStockLedger.class})
+class StockHistoryServiceTests {
+
+    // Run the benchmark with -Pbenchmark, at full size with -Dstock.history.benchmark.movements=10000000
+    private static final int BENCHMARK_MOVEMENTS = Integer.getInteger("stock.history.benchmark.movements", 1_000_000);
+
+    private static final int BENCHMARK_PRODUCTS = 100;
+
+    private static final int BENCHMARK_QUERIES = 200;
+
+    private static final LocalDateTime BENCHMARK_START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private StockHistoryService stockHistoryService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private StockSnapshotRepository stockSnapshotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        stockMovementRepository.deleteAllInBatch();
+        stockSnapshotRepository.deleteAllInBatch();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void stockAtAnyTimeMatchesWhatWasRecorded() throws InterruptedException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long productId = transaction.execute(status -> {
+            Product product = productRepository.save(Product.builder()
+                    .name("Olive oil")
+                    .sku("SKU-HISTORY-1")
+                    .price(BigDecimal.TEN)
+                    .stockQuantity(20)
+                    .build());
+            stockHistoryService.recordOpening(product.getId(), 20);
+            return product.getId();
+        });
+
+        List<LocalDateTime> times = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        int[] changes = {5, -8, 12, -3, -20, 7};
+        for (int i = 0; i < changes.length; i++) {
+            int change = changes[i];
+            Thread.sleep(5);
+            if (i == 3) {
+                // Snapshot part-way through, so later reads start from it
+                stockHistoryService.takeSnapshots();
+                Thread.sleep(5);
+            }
+            transaction.executeWithoutResult(status -> {
+                if (change > 0) {
+                    stockService.increment(productId, change);
+                } else {
+                    stockService.decrement(productId, -change);
+                }
+            });
+            times.add(LocalDateTime.now());
+            expected.add(productRepository.findStockQuantityById(productId).orElseThrow());
+        }
+        transaction.executeWithoutResult(status -> stockService.set(productId, 4));
+        times.add(LocalDateTime.now());
+        expected.add(4);
+        stockHistoryService.takeSnapshots();
+
+        for (int i = 0; i < times.size(); i++) {
+            assertThat(stockHistoryService.getStockAt(productId, times.get(i))).isEqualTo(expected.get(i));
+        }
+        assertThat(stockSnapshotRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void snapshotReadMatchesFullReplay() {
+        int movements = 20_000;
+        seedHistory(movements);
+        List<Long> productIds = new ArrayList<>();
+        List<LocalDateTime> times = new ArrayList<>();
+        pickQueries(movements, productIds, times);
+
+        for (int i = 0; i < BENCHMARK_QUERIES; i++) {
+            assertThat(stockHistoryService.getStockAt(productIds.get(i), times.get(i)))
+                    .isEqualTo(fullReplay(productIds.get(i), times.get(i)));
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void snapshotReadIsFasterThanFullReplay() {
+        seedHistory(BENCHMARK_MOVEMENTS);
+        List<Long> productIds = new ArrayList<>();
+        List<LocalDateTime> times = new ArrayList<>();
+        pickQueries(BENCHMARK_MOVEMENTS, productIds, times);
+
+        // Warm up both paths; the first few thousand calls are dominated by JIT compilation
+        for (int i = 0; i < 2000; i++) {
+            stockHistoryService.getStockAt(productIds.get(i % BENCHMARK_QUERIES), times.get(i % BENCHMARK_QUERIES));
+        }
+        for (int i = 0; i < 100; i++) {
+            fullReplay(productIds.get(i), times.get(i));
+        }
+
+        int[] fromSnapshot = new int[BENCHMARK_QUERIES];
+        long snapshotStart = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_QUERIES; i++) {
+            fromSnapshot[i] = stockHistoryService.getStockAt(productIds.get(i), times.get(i));
+        }
+        long snapshotNanos = System.nanoTime() - snapshotStart;
+
+        int[] replayed = new int[BENCHMARK_QUERIES];
+        long replayStart = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_QUERIES; i++) {
+            replayed[i] = fullReplay(productIds.get(i), times.get(i));
+        }
+        long replayNanos = System.nanoTime() - replayStart;
+
+        System.out.printf("%d point-in-time reads over %,d movements: snapshot + replay %.2f ms/read, full replay %.2f ms/read%n",
+                BENCHMARK_QUERIES, BENCHMARK_MOVEMENTS,
+                snapshotNanos / 1e6 / BENCHMARK_QUERIES, replayNanos / 1e6 / BENCHMARK_QUERIES);
+
+        assertThat(fromSnapshot).isEqualTo(replayed);
+        assertThat(snapshotNanos).isLessThan(replayNanos);
+    }
+
+    private void pickQueries(int movements, List<Long> productIds, List<LocalDateTime> times) {
+        Random random = new Random(42);
+        for (int i = 0; i < BENCHMARK_QUERIES; i++) {
+            productIds.add(1L + random.nextInt(BENCHMARK_PRODUCTS));
+            times.add(BENCHMARK_START.plusSeconds(1 + (long) (random.nextDouble() * movements)));
+        }
+    }
+
+    // One movement per second spread over the products, an opening balance of zero for each,
+    // and a snapshot per product at the last movement of every day
+    private void seedHistory(int movements) {
+        jdbcTemplate.update("INSERT INTO stock_snapshots (product_id, quantity, taken_at) " +
+                "SELECT X, 0, CAST(? AS TIMESTAMP) FROM SYSTEM_RANGE(1, ?)", BENCHMARK_START, BENCHMARK_PRODUCTS);
+        jdbcTemplate.update("INSERT INTO stock_movements (product_id, delta, created_at) " +
+                "SELECT MOD(X, ?) + 1, CASE WHEN MOD(X, 3) = 0 THEN -1 ELSE 2 END, DATEADD('SECOND', X, CAST(? AS TIMESTAMP)) " +
+                "FROM SYSTEM_RANGE(1, ?)", BENCHMARK_PRODUCTS, BENCHMARK_START, movements);
+        jdbcTemplate.update("INSERT INTO stock_snapshots (product_id, quantity, taken_at) " +
+                "SELECT product_id, SUM(SUM(delta)) OVER (PARTITION BY product_id ORDER BY movement_day), MAX(created_at) " +
+                "FROM (SELECT product_id, delta, created_at, CAST(created_at AS DATE) AS movement_day FROM stock_movements) " +
+                "GROUP BY product_id, movement_day");
+    }
+
+    private int fullReplay(Long productId, LocalDateTime at) {
+        return stockMovementRepository.replay(productId, BENCHMARK_START, at).getDelta().intValue();
+    }
+}
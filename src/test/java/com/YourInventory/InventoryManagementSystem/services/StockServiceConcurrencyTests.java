@@ -0,0 +1,250 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionRequest;
+import com.YourInventory.InventoryManagementSystem.enums.UserRole;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.exceptions.NotFoundException;
+import com.YourInventory.InventoryManagementSystem.mappers.ProductMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.SupplierMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.TransactionMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.UserMapper;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.User;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.StockMovementRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionBatchRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.UserRepository;
+
+// Each stock call (and each sale through TransactionService) commits on its own, so the threads
+// really race on the same row
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StockService.class, StockHistoryService.class, HotStockLedger.class, TransactionService.class,
+        TransactionBatchRepository.class, TransactionMapper.class, ProductMapper.class, UserMapper.class, SupplierMapper.class})
+class StockServiceConcurrencyTests {
+
+    private static final String CASHIER = "cashier@example.com";
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        transactionRepository.deleteAll();
+        stockMovementRepository.deleteAllInBatch();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentSalesNeverOversell() throws Exception {
+        Long productId = createProduct(1000);
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(100, () -> {
+            try {
+                stockService.decrement(productId, 1);
+                sold.incrementAndGet();
+            } catch (NameValueRequiredException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertThat(sold.get()).isEqualTo(1000);
+        assertThat(rejected.get()).isEqualTo(THREADS * 100 - 1000);
+        assertThat(currentStock(productId)).isZero();
+    }
+
+    @Test
+    void concurrentPurchasesAndSalesLoseNoUpdates() throws Exception {
+        Long productId = createProduct(500);
+        AtomicInteger net = new AtomicInteger();
+
+        runConcurrently(200, () -> {
+            int quantity = 1 + (int) (Thread.currentThread().getId() % 3);
+            if (Thread.currentThread().getId() % 2 == 0) {
+                stockService.increment(productId, quantity);
+                net.addAndGet(quantity);
+            } else {
+                try {
+                    stockService.decrement(productId, quantity);
+                    net.addAndGet(-quantity);
+                } catch (NameValueRequiredException e) {
+                    // Not enough stock at that moment; nothing changed
+                }
+            }
+        });
+
+        assertThat(currentStock(productId)).isEqualTo(500 + net.get());
+        assertThat(currentStock(productId)).isNotNegative();
+    }
+
+    @Test
+    void concurrentSetsAndSalesKeepTheMovementLedgerExact() throws Exception {
+        LocalDateTime start = LocalDateTime.now().minusSeconds(1);
+        Long productId = createProduct(500);
+
+        runConcurrently(50, () -> {
+            if (Thread.currentThread().getId() % 4 == 0) {
+                stockService.set(productId, 300);
+            } else {
+                try {
+                    stockService.decrement(productId, 1);
+                } catch (NameValueRequiredException e) {
+                    // Not enough stock at that moment; nothing changed
+                }
+            }
+        });
+
+        // Every set recorded its delta from the stock it replaced, so the movements add up
+        long recorded = stockMovementRepository.replay(productId, start, LocalDateTime.now().plusSeconds(1))
+                .getDelta().longValue();
+        assertThat(500 + recorded).isEqualTo(currentStock(productId));
+    }
+
+    @Test
+    void concurrentSalesRecordOneTransactionPerSaleAndNeverOversell() throws Exception {
+        createCashier();
+        Long productId = createProduct(200);
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(25, () -> {
+            signIn();
+            try {
+                transactionService.sellProduct(new TransactionRequest(productId, 1, null, null, null));
+                sold.incrementAndGet();
+            } catch (NameValueRequiredException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertThat(sold.get()).isEqualTo(200);
+        assertThat(rejected.get()).isEqualTo(THREADS * 25 - 200);
+        assertThat(currentStock(productId)).isZero();
+        // A rejected sale left neither a transaction nor a movement behind
+        assertThat(transactionRepository.count()).isEqualTo(200);
+        assertThat(stockMovementRepository.count()).isEqualTo(200);
+    }
+
+    @Test
+    void aSaleThatFailsAfterTheDecrementRollsItBack() {
+        // Signed in, but the user is missing: the sale fails after the stock was taken
+        signIn();
+        Long productId = createProduct(10);
+
+        assertThatThrownBy(() -> transactionService.sellProduct(new TransactionRequest(productId, 3, null, null, null)))
+                .isInstanceOf(NotFoundException.class);
+
+        assertThat(currentStock(productId)).isEqualTo(10);
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(stockMovementRepository.count()).isZero();
+    }
+
+    @Test
+    void shortagesExplainWhichMovementFailed() {
+        createCashier();
+        signIn();
+        Long productId = createProduct(1);
+
+        assertThatThrownBy(() -> transactionService.sellProduct(new TransactionRequest(productId, 2, null, null, null)))
+                .hasMessage("Insufficient stock. Available: 1, Requested: 2");
+        assertThatThrownBy(() -> transactionService.returnToSupplier(new TransactionRequest(productId, 2, null, null, null)))
+                .hasMessage("Insufficient stock to return. Available: 1, Requested: 2");
+    }
+
+    private void createCashier() {
+        userRepository.save(User.builder()
+                .name("Cashier")
+                .email(CASHIER)
+                .password("secret")
+                .phoneNumber("0000000000")
+                .role(UserRole.MANAGER)
+                .build());
+    }
+
+    // The security context is per thread, so each worker signs in for itself
+    private static void signIn() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(CASHIER, null, List.of()));
+    }
+
+    private void runConcurrently(int iterationsPerThread, Runnable operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterationsPerThread; i++) {
+                    operation.run();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private Long createProduct(int stock) {
+        return productRepository.save(Product.builder()
+                .name("Contended product")
+                .sku("SKU-CONTENDED")
+                .price(BigDecimal.TEN)
+                .stockQuantity(stock)
+                .build()).getId();
+    }
+
+    private int currentStock(Long productId) {
+        return productRepository.findStockQuantityById(productId).orElseThrow();
+    }
+}
@@ -0,0 +1,170 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.events.TransactionRecordedEvent;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+import com.YourInventory.InventoryManagementSystem.services.TopSellersTracker.RankedProduct;
+
+// Days are driven by a fixed clock that each test moves forward by hand
+class TopSellersTrackerTests {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 1);
+
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+
+    private final TopSellersTracker tracker = new TopSellersTracker();
+
+    private LocalDate today;
+
+    @BeforeEach
+    void startClock() {
+        setToday(START);
+        ReflectionTestUtils.setField(tracker, "currentDay", START);
+    }
+
+    @Test
+    void eachWindowCountsOnlyItsOwnDays() {
+        sell(1, 5, START);
+        sell(2, 4, START.minusDays(1));
+        sell(3, 3, START.minusDays(6));
+        sell(4, 2, START.minusDays(7));
+        sell(5, 1, START.minusDays(29));
+        // Older than the largest window, so never counted
+        sell(6, 100, START.minusDays(30));
+
+        assertThat(top(1)).containsExactly(ranked(1, 5));
+        assertThat(top(7)).containsExactly(ranked(1, 5), ranked(2, 4), ranked(3, 3));
+        assertThat(top(30)).containsExactly(ranked(1, 5), ranked(2, 4), ranked(3, 3), ranked(4, 2), ranked(5, 1));
+    }
+
+    @Test
+    void daysRollOutOfEachWindowAtMidnight() {
+        sell(1, 3, START);
+        sell(2, 2, START);
+        setToday(START.plusDays(1));
+        sell(2, 2, today);
+
+        // Yesterday has left the one-day window but is still in the others
+        assertThat(top(1)).containsExactly(ranked(2, 2));
+        assertThat(top(7)).containsExactly(ranked(2, 4), ranked(1, 3));
+
+        // A read alone moves the windows on; no sale is needed
+        setToday(START.plusDays(7));
+        assertThat(top(1)).isEmpty();
+        assertThat(top(7)).containsExactly(ranked(2, 2));
+        assertThat(top(30)).containsExactly(ranked(2, 4), ranked(1, 3));
+
+        setToday(START.plusDays(30));
+        assertThat(top(30)).containsExactly(ranked(2, 2));
+        setToday(START.plusDays(31));
+        assertThat(top(30)).isEmpty();
+    }
+
+    @Test
+    void aGapLongerThanEveryWindowStartsAfresh() {
+        sell(1, 3, START);
+        setToday(START.plusDays(45));
+        sell(2, 1, today);
+
+        assertThat(top(30)).containsExactly(ranked(2, 1));
+        assertThat(top(7)).containsExactly(ranked(2, 1));
+    }
+
+    @Test
+    void tiesRankByProductIdSoTheLimitCutsTheSameWay() {
+        // More tied products than the ranking keeps, sold in descending id order
+        for (long productId = 150; productId >= 1; productId--) {
+            sell(productId, 2, START);
+        }
+        sell(200, 5, START);
+
+        List<RankedProduct> top = tracker.getTopProducts(7, 4);
+        assertThat(top).containsExactly(ranked(200, 5), ranked(1, 2), ranked(2, 2), ranked(3, 2));
+        assertThat(tracker.getTopProducts(7, 100)).hasSize(100).last().isEqualTo(ranked(99, 2));
+    }
+
+    @Test
+    void onlySalesAreCounted() {
+        sell(1, 2, START);
+        tracker.onTransactionRecorded(new TransactionRecordedEvent(2L, TransactionType.PURCHASE, 1L, 50,
+                BigDecimal.TEN, START.atTime(10, 0)));
+        tracker.onTransactionRecorded(new TransactionRecordedEvent(3L, TransactionType.RETURN_TO_SUPPLIER, 1L, 1,
+                BigDecimal.TEN.negate(), START.atTime(11, 0)));
+
+        assertThat(top(1)).containsExactly(ranked(1, 2));
+    }
+
+    @Test
+    void aSaleCommittedWhileTheSnapshotIsReadIsCountedAfterTheRebuild() throws Exception {
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        ReflectionTestUtils.setField(tracker, "transactionRepository", transactionRepository);
+        Thread[] sale = new Thread[1];
+        when(transactionRepository.sumQuantityByProductAndDay(eq(TransactionType.SALE), any())).thenAnswer(invocation -> {
+            // The snapshot predates the sale, which commits while the rebuild is still running
+            sale[0] = commitInAnotherThread(new TransactionRecordedEvent(1L, TransactionType.SALE, 1L, 3,
+                    BigDecimal.valueOf(3), START.atTime(9, 30)));
+            sale[0].join(200);
+            return List.of();
+        });
+
+        tracker.rebuild();
+        sale[0].join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(top(1)).containsExactly(ranked(1, 3));
+    }
+
+    // Publishes event in a transaction on a new thread and commits it
+    private Thread commitInAnotherThread(TransactionRecordedEvent event) {
+        Thread thread = new Thread(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                tracker.onTransactionRecorded(event);
+                TransactionSynchronizationUtils.triggerBeforeCommit(false);
+                TransactionSynchronizationUtils.invokeAfterCompletion(
+                        TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private void setToday(LocalDate day) {
+        today = day;
+        ReflectionTestUtils.setField(tracker, "clock", Clock.fixed(day.atTime(12, 0).atZone(ZONE).toInstant(), ZONE));
+    }
+
+    private void sell(long productId, int quantity, LocalDate day) {
+        tracker.onTransactionRecorded(new TransactionRecordedEvent(productId * 1000 + quantity, TransactionType.SALE,
+                productId, quantity, BigDecimal.valueOf(quantity), day.atTime(9, 30)));
+    }
+
+    private List<RankedProduct> top(int windowDays) {
+        return tracker.getTopProducts(windowDays, 10);
+    }
+
+    private static RankedProduct ranked(long productId, long quantity) {
+        return new RankedProduct(productId, quantity);
+    }
+}
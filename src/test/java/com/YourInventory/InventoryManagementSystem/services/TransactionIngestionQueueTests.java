@@ -0,0 +1,318 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.YourInventory.InventoryManagementSystem.dtos.BulkTransactionRequest;
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionDTO;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionRequest;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.enums.UserRole;
+import com.YourInventory.InventoryManagementSystem.exceptions.NotFoundException;
+import com.YourInventory.InventoryManagementSystem.exceptions.TooManyRequestsException;
+import com.YourInventory.InventoryManagementSystem.mappers.ProductMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.SupplierMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.TransactionMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.UserMapper;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.User;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionBatchRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.UserRepository;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TransactionIngestionQueue.class, TransactionService.class, StockService.class, StockHistoryService.class, HotStockLedger.class,
+        TransactionBatchRepository.class, TransactionMapper.class, ProductMapper.class, UserMapper.class, SupplierMapper.class})
+class TransactionIngestionQueueTests {
+
+    @Autowired
+    private TransactionIngestionQueue transactionIngestionQueue;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void signIn() {
+        userRepository.save(User.builder()
+                .name("Cashier")
+                .email("till@example.com")
+                .password("secret")
+                .phoneNumber("0000000000")
+                .role(UserRole.MANAGER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("till@example.com", null, List.of()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        transactionRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void queuedSalesAreAppliedAndOnlyOversellsAreCancelled() throws Exception {
+        Long productId = productRepository.save(Product.builder()
+                .name("Sparkling water")
+                .sku("SKU-QUEUE-1")
+                .price(BigDecimal.ONE)
+                .stockQuantity(30)
+                .build()).getId();
+
+        List<String> ticketIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Map<String, Object> accepted = data(transactionIngestionQueue.submit(TransactionType.SALE, sale(productId)).getData());
+            assertThat(accepted.get("status")).isEqualTo(TransactionStatus.PENDING);
+            ticketIds.add((String) accepted.get("ticketId"));
+        }
+
+        int completed = 0;
+        int cancelled = 0;
+        for (String ticketId : ticketIds) {
+            Map<String, Object> ticket = awaitFinished(ticketId);
+            if (ticket.get("status") == TransactionStatus.COMPLETED) {
+                assertThat(ticket.get("transactionId")).isNotNull();
+                completed++;
+            } else {
+                assertThat(ticket.get("status")).isEqualTo(TransactionStatus.CANCELLED);
+                cancelled++;
+            }
+        }
+
+        assertThat(completed).isEqualTo(30);
+        assertThat(cancelled).isEqualTo(20);
+        assertThat(productRepository.findStockQuantityById(productId)).contains(0);
+        assertThat(transactionRepository.count()).isEqualTo(30);
+    }
+
+    @Test
+    void fullQueueRefusesNewRequests() {
+        // Never started, so nothing drains the two slots
+        TransactionIngestionQueue stalled = new TransactionIngestionQueue(2);
+        ReflectionTestUtils.setField(stalled, "transactionService", transactionService);
+
+        stalled.submit(TransactionType.SALE, sale(1L));
+        stalled.submit(TransactionType.SALE, sale(1L));
+
+        assertThatThrownBy(() -> stalled.submit(TransactionType.SALE, sale(1L)))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void transientFailuresAreRetriedAsAWholeBatch() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        TransactionIngestionQueue queue = stubbedQueue(10, lines -> {
+            if (calls.incrementAndGet() <= 2) {
+                throw new CannotAcquireLockException("Lock wait timeout exceeded");
+            }
+        });
+
+        // Queued before the consumer starts, so the three arrive as one batch
+        List<String> ticketIds = submitSales(queue, 3);
+        queue.start();
+        try {
+            for (String ticketId : ticketIds) {
+                assertThat(awaitFinished(queue, ticketId).get("status")).isEqualTo(TransactionStatus.COMPLETED);
+            }
+            assertThat(calls.get()).isEqualTo(3);
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void aBatchThatKeepsFailingTransientlyIsCancelledWithoutSplitting() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        TransactionIngestionQueue queue = stubbedQueue(10, lines -> {
+            calls.incrementAndGet();
+            throw new CannotAcquireLockException("Lock wait timeout exceeded");
+        });
+
+        List<String> ticketIds = submitSales(queue, 3);
+        queue.start();
+        try {
+            for (String ticketId : ticketIds) {
+                Map<String, Object> ticket = awaitFinished(queue, ticketId);
+                assertThat(ticket.get("status")).isEqualTo(TransactionStatus.CANCELLED);
+                assertThat(ticket.get("message")).isEqualTo("Lock wait timeout exceeded");
+            }
+            assertThat(calls.get()).isEqualTo(3);
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void onlyTheMostRecentFinishedTicketsAreKept() throws Exception {
+        TransactionIngestionQueue queue = stubbedQueue(2, lines -> {
+        });
+
+        List<String> ticketIds = submitSales(queue, 3);
+        queue.start();
+        try {
+            awaitFinished(queue, ticketIds.get(2));
+            assertThatThrownBy(() -> queue.getStatus(ticketIds.get(0))).isInstanceOf(NotFoundException.class);
+            assertThat(data(queue.getStatus(ticketIds.get(1)).getData()).get("status")).isEqualTo(TransactionStatus.COMPLETED);
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void onlyConsecutiveRequestsOfOneTypeAreBatchedTogether() throws Exception {
+        List<TransactionType> batches = new CopyOnWriteArrayList<>();
+        TransactionIngestionQueue queue = stubbedQueue(10, (type, lines) -> batches.add(type));
+
+        List<String> ticketIds = new ArrayList<>();
+        for (TransactionType type : List.of(TransactionType.SALE, TransactionType.PURCHASE, TransactionType.SALE, TransactionType.SALE)) {
+            ticketIds.add((String) data(queue.submit(type, sale(1L)).getData()).get("ticketId"));
+        }
+        queue.start();
+        try {
+            for (String ticketId : ticketIds) {
+                assertThat(awaitFinished(queue, ticketId).get("status")).isEqualTo(TransactionStatus.COMPLETED);
+            }
+            // The purchase is applied between the sales on either side of it, as they arrived
+            assertThat(batches).containsExactly(TransactionType.SALE, TransactionType.PURCHASE, TransactionType.SALE);
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void aTicketIsOnlyVisibleToTheUserWhoSubmittedIt() throws Exception {
+        TransactionIngestionQueue queue = stubbedQueue(10, lines -> {
+        });
+        String ticketId = submitSales(queue, 1).get(0);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("someone-else@example.com", null, List.of()));
+        assertThatThrownBy(() -> queue.getStatus(ticketId)).isInstanceOf(NotFoundException.class);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("till@example.com", null, List.of()));
+        assertThat(data(queue.getStatus(ticketId).getData()).get("status")).isEqualTo(TransactionStatus.PENDING);
+    }
+
+    @Test
+    void shutdownAppliesEveryAcceptedRequestAndRefusesNewOnes() {
+        TransactionIngestionQueue queue = stubbedQueue(10, lines -> {
+        });
+        List<String> ticketIds = submitSales(queue, 5);
+        queue.start();
+
+        queue.shutdown();
+
+        for (String ticketId : ticketIds) {
+            assertThat(data(queue.getStatus(ticketId).getData()).get("status")).isEqualTo(TransactionStatus.COMPLETED);
+        }
+        assertThatThrownBy(() -> queue.submit(TransactionType.SALE, sale(1L))).isInstanceOf(TooManyRequestsException.class);
+    }
+
+    private TransactionIngestionQueue stubbedQueue(int maxFinishedTickets, Consumer<List<TransactionRequest>> check) {
+        return stubbedQueue(maxFinishedTickets, (type, lines) -> check.accept(lines));
+    }
+
+    // A queue whose bulk calls run check first and then record every line
+    private TransactionIngestionQueue stubbedQueue(int maxFinishedTickets, BiConsumer<TransactionType, List<TransactionRequest>> check) {
+        AtomicInteger ids = new AtomicInteger();
+        TransactionService stub = new TransactionService() {
+            @Override
+            public Response processBulk(BulkTransactionRequest request) {
+                check.accept(request.getTransactionType(), request.getLines());
+                return Response.builder()
+                        .transactions(request.getLines().stream().map(line -> {
+                            TransactionDTO dto = new TransactionDTO();
+                            dto.setId((long) ids.incrementAndGet());
+                            return dto;
+                        }).collect(Collectors.toList()))
+                        .build();
+            }
+        };
+        TransactionIngestionQueue queue = new TransactionIngestionQueue(10);
+        ReflectionTestUtils.setField(queue, "transactionService", stub);
+        ReflectionTestUtils.setField(queue, "batchSize", 200);
+        ReflectionTestUtils.setField(queue, "maxFinishedTickets", maxFinishedTickets);
+        ReflectionTestUtils.setField(queue, "maxAttempts", 3);
+        ReflectionTestUtils.setField(queue, "retryBackoffMs", 1L);
+        ReflectionTestUtils.setField(queue, "shutdownTimeoutMs", 10_000L);
+        return queue;
+    }
+
+    private List<String> submitSales(TransactionIngestionQueue queue, int count) {
+        List<String> ticketIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ticketIds.add((String) data(queue.submit(TransactionType.SALE, sale(1L)).getData()).get("ticketId"));
+        }
+        return ticketIds;
+    }
+
+    private TransactionRequest sale(Long productId) {
+        TransactionRequest request = new TransactionRequest();
+        request.setProductId(productId);
+        request.setQuantity(1);
+        return request;
+    }
+
+    private Map<String, Object> awaitFinished(String ticketId) throws InterruptedException {
+        return awaitFinished(transactionIngestionQueue, ticketId);
+    }
+
+    private Map<String, Object> awaitFinished(TransactionIngestionQueue queue, String ticketId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (true) {
+            Map<String, Object> ticket = data(queue.getStatus(ticketId).getData());
+            if (ticket.get("finishedAt") != null || System.nanoTime() > deadline) {
+                return ticket;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> data(Object data) {
+        return (Map<String, Object>) data;
+    }
+}
@@ -0,0 +1,173 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.YourInventory.InventoryManagementSystem.SqlStatementCounter;
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionSearchRequest;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.enums.UserRole;
+import com.YourInventory.InventoryManagementSystem.mappers.ProductMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.SupplierMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.TransactionMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.UserMapper;
+import com.YourInventory.InventoryManagementSystem.model.Category;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.Supplier;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+import com.YourInventory.InventoryManagementSystem.model.User;
+import com.YourInventory.InventoryManagementSystem.repositories.CategoryRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.ProductRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.SupplierRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionBatchRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.UserRepository;
+import com.YourInventory.InventoryManagementSystem.security.AuthenticatedPrincipalCache;
+import com.YourInventory.InventoryManagementSystem.security.TokenRevocationList;
+
+// Exact SQL statement counts per read endpoint. Each call runs in its own read-only transaction,
+// like a request with open-in-view, so any lazy load during mapping would be counted here.
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        SqlStatementCounter.PROPERTY
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TransactionService.class, UserService.class, StockService.class, StockHistoryService.class, HotStockLedger.class,
+        TransactionBatchRepository.class, TransactionMapper.class, ProductMapper.class, UserMapper.class, SupplierMapper.class,
+        AuthenticatedPrincipalCache.class, RefreshTokenService.class, TokenRevocationList.class})
+class TransactionQueryCountTests {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long userId;
+
+    private Long transactionId;
+
+    @BeforeEach
+    void seed() {
+        Category category = categoryRepository.save(Category.builder().name("Pantry").build());
+        Supplier supplier = supplierRepository.save(Supplier.builder().name("Wholesaler").build());
+        User user = userRepository.save(User.builder()
+                .name("Clerk")
+                .email("clerk@example.com")
+                .password("secret")
+                .phoneNumber("0000000000")
+                .role(UserRole.MANAGER)
+                .build());
+        userId = user.getId();
+
+        // Every row has its own product, so a per-row lazy load would show up as one query per row.
+        // Each type gets a full page, so the offset listings also run their count query.
+        TransactionType[] types = TransactionType.values();
+        for (int i = 0; i < 3 * PAGE_SIZE; i++) {
+            Product product = productRepository.save(Product.builder()
+                    .name("Product " + i)
+                    .sku("SKU-COUNT-" + i)
+                    .price(BigDecimal.valueOf(1 + i))
+                    .stockQuantity(100)
+                    .category(category)
+                    .build());
+            transactionId = transactionRepository.save(Transaction.builder()
+                    .totalProduct(1)
+                    .totalPrice(product.getPrice())
+                    .transactionType(types[i % types.length])
+                    .transactionStatus(TransactionStatus.COMPLETED)
+                    .product(product)
+                    .user(user)
+                    .supplier(supplier)
+                    .build()).getId();
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM transaction");
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.update("DELETE FROM categories");
+        jdbcTemplate.update("DELETE FROM suppliers");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void offsetPagesRunThePageQueryAndOneCount() {
+        assertStatements(2, () -> transactionService.getAllTransactions(0, PAGE_SIZE));
+        assertStatements(2, () -> transactionService.getTransactionsByType(TransactionType.SALE, 0, PAGE_SIZE));
+    }
+
+    @Test
+    void cursorPagesAndSearchRunOneQuery() {
+        assertStatements(1, () -> transactionService.getTransactionsAfter("", PAGE_SIZE));
+        assertStatements(1, () -> transactionService.getTransactionsByTypeAfter(TransactionType.SALE, "", PAGE_SIZE));
+
+        TransactionSearchRequest search = new TransactionSearchRequest();
+        search.setStatus(TransactionStatus.COMPLETED);
+        search.setSize(PAGE_SIZE);
+        assertStatements(1, () -> transactionService.searchTransactions(search));
+    }
+
+    @Test
+    void detailReadRunsOneQuery() {
+        assertStatements(1, () -> transactionService.getTransactionById(transactionId));
+    }
+
+    @Test
+    void mappingAUserNeverLoadsTheirTransactions() {
+        Response response = assertStatements(1, () -> userService.getUserById(userId));
+
+        assertThat(response.getUser().getTransaction()).isNull();
+    }
+
+    private Response assertStatements(int expected, java.util.function.Supplier<Response> endpoint) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        SqlStatementCounter.reset();
+        Response response = readOnly.execute(status -> endpoint.get());
+
+        assertThat(SqlStatementCounter.statements()).hasSize(expected);
+        return response;
+    }
+}
@@ -0,0 +1,178 @@
+package com.YourInventory.InventoryManagementSystem.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+import com.YourInventory.InventoryManagementSystem.dtos.Response;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionDTO;
+import com.YourInventory.InventoryManagementSystem.dtos.TransactionSearchRequest;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionStatus;
+import com.YourInventory.InventoryManagementSystem.enums.TransactionType;
+import com.YourInventory.InventoryManagementSystem.exceptions.NameValueRequiredException;
+import com.YourInventory.InventoryManagementSystem.mappers.ProductMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.SupplierMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.TransactionMapper;
+import com.YourInventory.InventoryManagementSystem.mappers.UserMapper;
+import com.YourInventory.InventoryManagementSystem.model.Product;
+import com.YourInventory.InventoryManagementSystem.model.Transaction;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionBatchRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.TransactionRepository;
+import com.YourInventory.InventoryManagementSystem.repositories.specifications.TransactionSpecifications;
+
+// Walks transaction search results page by page through the cursors TransactionService hands out
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({TransactionService.class, StockService.class, StockHistoryService.class, HotStockLedger.class,
+        TransactionBatchRepository.class, TransactionMapper.class, ProductMapper.class, UserMapper.class, SupplierMapper.class})
+class TransactionSearchTests {
+
+    private static final int PAGE_SIZE = 7;
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @BeforeEach
+    void seed() {
+        Product product = entityManager.persist(Product.builder()
+                .name("Green tea")
+                .sku("SKU-SEARCH-PAGES-1")
+                .price(BigDecimal.ONE)
+                .stockQuantity(100)
+                .build());
+
+        // Pairs of rows share a createdAt and only five prices occur, so both sorts break ties on id
+        TransactionType[] types = TransactionType.values();
+        for (int i = 0; i < 90; i++) {
+            Transaction transaction = entityManager.persist(Transaction.builder()
+                    .totalProduct(1 + i % 5)
+                    .totalPrice(BigDecimal.valueOf(1 + i % 5))
+                    .transactionType(types[i % types.length])
+                    .transactionStatus(TransactionStatus.COMPLETED)
+                    .product(product)
+                    .build());
+            entityManager.getEntityManager()
+                    .createNativeQuery("UPDATE transaction SET created_at = ?1 WHERE id = ?2")
+                    .setParameter(1, START.plusHours(i / 2))
+                    .setParameter(2, transaction.getId())
+                    .executeUpdate();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pagesFollowEverySortAndDirectionToTheEnd() {
+        for (String sortBy : List.of("createdAt", "totalPrice")) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                List<Long> expected = transactionRepository.findAll(
+                                TransactionSpecifications.hasType(TransactionType.SALE)
+                                        .and(TransactionSpecifications.pricedAtLeast(BigDecimal.valueOf(2)))
+                                        .and(TransactionSpecifications.createdBefore(START.plusHours(40))),
+                                Sort.by(direction, sortBy, "id"))
+                        .stream().map(Transaction::getId).toList();
+
+                List<Long> walked = new ArrayList<>();
+                String cursor = null;
+                do {
+                    String after = cursor;
+                    Response page = transactionService.searchTransactions(request(r -> {
+                        r.setType(TransactionType.SALE);
+                        r.setMinPrice(BigDecimal.valueOf(2));
+                        r.setTo(START.plusHours(40));
+                        r.setSortBy(sortBy);
+                        r.setDirection(direction.name());
+                        r.setCursor(after);
+                    }));
+                    walked.addAll(ids(page));
+                    cursor = page.getNextCursor();
+                    assertThat(cursor != null).isEqualTo(page.getHasNext());
+                } while (cursor != null);
+
+                assertThat(expected).hasSizeGreaterThan(PAGE_SIZE);
+                assertThat(walked).as(sortBy + " " + direction).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void aCursorIsRejectedUnderAnyOtherOrdering() {
+        String cursor = transactionService.searchTransactions(request(r -> r.setDirection("ASC"))).getNextCursor();
+
+        assertThatThrownBy(() -> transactionService.searchTransactions(request(r -> {
+            r.setDirection("DESC");
+            r.setCursor(cursor);
+        }))).isInstanceOf(NameValueRequiredException.class);
+        assertThatThrownBy(() -> transactionService.searchTransactions(request(r -> {
+            r.setSortBy("totalPrice");
+            r.setDirection("ASC");
+            r.setCursor(cursor);
+        }))).isInstanceOf(NameValueRequiredException.class);
+
+        // A listing cursor is (createdAt DESC), so it only fits a search in that order
+        String listingCursor = transactionService.getTransactionsAfter("", PAGE_SIZE).getNextCursor();
+        assertThatThrownBy(() -> transactionService.searchTransactions(request(r -> {
+            r.setDirection("ASC");
+            r.setCursor(listingCursor);
+        }))).isInstanceOf(NameValueRequiredException.class);
+        assertThat(transactionService.searchTransactions(request(r -> r.setCursor(listingCursor))).getTransactions())
+                .hasSize(PAGE_SIZE);
+    }
+
+    @Test
+    void invalidParametersAreRejected() {
+        List<Consumer<TransactionSearchRequest>> invalid = List.of(
+                r -> r.setSize(0),
+                r -> r.setSize(101),
+                r -> {
+                    r.setFrom(START.plusDays(2));
+                    r.setTo(START.plusDays(1));
+                },
+                r -> {
+                    r.setMinPrice(BigDecimal.TEN);
+                    r.setMaxPrice(BigDecimal.ONE);
+                },
+                r -> r.setSortBy("product"),
+                r -> r.setDirection("SIDEWAYS"),
+                r -> r.setCursor("not-a-cursor"));
+
+        for (Consumer<TransactionSearchRequest> change : invalid) {
+            assertThatThrownBy(() -> transactionService.searchTransactions(request(change)))
+                    .isInstanceOf(NameValueRequiredException.class);
+        }
+    }
+
+    private static TransactionSearchRequest request(Consumer<TransactionSearchRequest> change) {
+        TransactionSearchRequest request = new TransactionSearchRequest();
+        request.setSize(PAGE_SIZE);
+        change.accept(request);
+        return request;
+    }
+
+    private static List<Long> ids(Response page) {
+        return page.getTransactions().stream().map(TransactionDTO::getId).toList();
+    }
+}
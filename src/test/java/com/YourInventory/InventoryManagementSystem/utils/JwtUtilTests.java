@@ -0,0 +1,42 @@
+package com.YourInventory.InventoryManagementSystem.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+
+class JwtUtilTests {
+
+    private static final String SECRET = "aW52ZW50b3J5TWFuYWdlbWVudFN5c3RlbVNlY3JldEtleTIwMjRGb3JKV1RUb2tlbkdlbmVyYXRpb24=";
+
+    @Test
+    void cachedTokenIsRejectedOnceItExpires() throws InterruptedException {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 2000L, 100);
+        String token = jwtUtil.generateToken("manager@example.com", "MANAGER");
+
+        assertThat(jwtUtil.extractAllClaims(token).getSubject()).isEqualTo("manager@example.com");
+        assertThat(jwtUtil.validateToken(token)).isTrue();
+
+        // The token stores expiry in whole seconds, so it lapses between one and two seconds after issue
+        Thread.sleep(2100);
+
+        assertThat(jwtUtil.validateToken(token)).isFalse();
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void tamperedTokenIsNeverServedFromTheCache() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 600_000L, 100);
+        String token = jwtUtil.generateToken("manager@example.com", "MANAGER");
+        jwtUtil.extractAllClaims(token);
+
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + jwtUtil.generateToken("admin@example.com", "ADMIN").split("\\.")[1]
+                + "." + parts[2];
+
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(forged)).isInstanceOf(JwtException.class);
+    }
+}